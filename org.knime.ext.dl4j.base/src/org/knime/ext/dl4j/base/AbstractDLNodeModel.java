@@ -44,6 +44,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.knime.core.node.BufferedDataTable;
@@ -53,6 +54,7 @@
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModel;
@@ -68,6 +70,10 @@
  * @author David Kolb, KNIME.com GmbH
  */
 public abstract class AbstractDLNodeModel extends NodeModel {
+
+    // the logger instance
+    private static final NodeLogger logger = NodeLogger.getLogger(AbstractDLNodeModel.class);
+
     /**
      * Instantiates a new abstract node model for nodes of KNIME Deeplearning4J integration.
      *
@@ -83,6 +89,12 @@ protected AbstractDLNodeModel(final PortType[] inPortTypes, final PortType[] out
     /** The list of Settings Models. */
     private List<SettingsModel> m_settingsModels;
 
+    /**
+     * The list of Settings Models which were added in later versions of a node and therefore may be missing in
+     * settings of existing workflows.
+     */
+    private final List<SettingsModel> m_optionalSettingsModels = new ArrayList<>();
+
     /**
      * Initialises member settings models of the current node. Will be called when the NodeModel is created.
      *
@@ -187,7 +199,9 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
     @Override
     protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
         for (final SettingsModel model : m_settingsModels) {
-            model.validateSettings(settings);
+            if (!m_optionalSettingsModels.contains(model) || isContainedIn(model, settings)) {
+                model.validateSettings(settings);
+            }
         }
     }
 
@@ -197,10 +211,33 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
     @Override
     protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
         for (final SettingsModel model : m_settingsModels) {
-            model.loadSettingsFrom(settings);
+            if (!m_optionalSettingsModels.contains(model) || isContainedIn(model, settings)) {
+                model.loadSettingsFrom(settings);
+            } else {
+                // settings were saved with an older version of the node, keep the default
+                logger.debug("Optional setting not available, using default: " + model);
+            }
         }
     }
 
+    /**
+     * Checks whether all keys written by the specified {@link SettingsModel} are contained in the specified settings.
+     *
+     * @param model the settings model to check
+     * @param settings the settings to check
+     * @return true if the settings contain all keys of the settings model
+     */
+    private static boolean isContainedIn(final SettingsModel model, final NodeSettingsRO settings) {
+        final NodeSettings keys = new NodeSettings("keys");
+        model.saveSettingsTo(keys);
+        for (final String key : keys.keySet()) {
+            if (!settings.containsKey(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * No-op version of {@link NodeModel#loadInternals}.
      *
@@ -249,6 +286,19 @@ protected void addToSettingsModels(final SettingsModel setting) {
         m_settingsModels.add(setting);
     }
 
+    /**
+     * Marks the specified {@link SettingsModel} as optional. If optional settings are not contained in the settings to
+     * load, they are not validated and their default value is kept. Otherwise they are validated and loaded like any
+     * other setting. Use this for settings which were added to an
+     * existing node in order to stay compatible with saved workflows. May be called from
+     * {@link #initSettingsModels()}.
+     *
+     * @param setting the settings model which may be missing in saved settings
+     */
+    protected void markAsOptional(final SettingsModel setting) {
+        m_optionalSettingsModels.add(setting);
+    }
+
     static BufferedDataTable[] toBDTArray(final PortObject[] inObjects) throws IOException {
         BufferedDataTable[] inTables = new BufferedDataTable[inObjects.length];
         for (int i = 0; i < inObjects.length; i++) {
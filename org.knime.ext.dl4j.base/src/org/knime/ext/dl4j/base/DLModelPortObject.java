@@ -42,8 +42,19 @@
  *******************************************************************************/
 package org.knime.ext.dl4j.base;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import javax.swing.JComponent;
 
@@ -59,11 +70,16 @@
 import org.knime.core.node.port.PortObjectZipOutputStream;
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.port.PortTypeRegistry;
+import org.knime.core.util.FileUtil;
+import org.knime.ext.dl4j.base.cache.MemoryAlertAwareGuavaCache;
 import org.knime.ext.dl4j.base.exception.DL4JOutOfMemoryException;
 import org.knime.ext.dl4j.base.util.DLModelPortObjectUtils;
 
 /**
- * PortObject for Deep Learning Models.
+ * PortObject for Deep Learning Models. Models which are loaded from a saved workflow are not deserialized
+ * immediately. Instead, the serialized model is copied to a temporary file and deserialized into a
+ * {@link MemoryAlertAwareGuavaCache} when the model is requested for the first time. Hence, the model may be evicted
+ * if memory gets low and will be deserialized again if needed.
  *
  * @author David Kolb, KNIME.com GmbH
  */
@@ -82,6 +98,17 @@ public static final class Serializer extends AbstractPortObjectSerializer<DLMode
      */
     public static final PortType TYPE = PortTypeRegistry.getInstance().getPortType(DLModelPortObject.class);
 
+    /**
+     * Cache to store models which were loaded lazily.
+     */
+    private final static MemoryAlertAwareGuavaCache CACHE = MemoryAlertAwareGuavaCache.getInstance();
+
+    /**
+     * Cleaner removing the cache entry and the serialized model of lazily loaded port objects once they become
+     * unreachable.
+     */
+    private static final Cleaner CLEANER = Cleaner.create();
+
     private static final String SUMMARY = "Deep Learning Model";
 
     private List<Layer> m_layers;
@@ -90,6 +117,12 @@ public static final class Serializer extends AbstractPortObjectSerializer<DLMode
 
     private DLModelPortObjectSpec m_spec;
 
+    /** The cache key of the lazily loaded model, null if the model is held directly. */
+    private UUID m_modelKey;
+
+    /** The file containing the serialized model, null if the model is held directly. */
+    private File m_modelFile;
+
     /** Framework constructor. */
     public DLModelPortObject() {
     }
@@ -111,24 +144,76 @@ public DLModelPortObject(final List<Layer> layers, final Model model, final DLMo
     protected void save(final PortObjectZipOutputStream out, final ExecutionMonitor exec)
         throws IOException, CanceledExecutionException {
 
-        DLModelPortObjectUtils.saveModelToZip(this, true, false, out);
+        if (m_modelFile != null) {
+            //the model is unchanged since it was loaded, hence we can write the serialized model directly
+            try (ZipInputStream zIn = new ZipInputStream(new FileInputStream(m_modelFile))) {
+                copyEntries(zIn, out);
+            }
+        } else {
+            DLModelPortObjectUtils.saveModelToZip(this, true, false, out);
+        }
     }
 
     @Override
     protected void load(final PortObjectZipInputStream in, final PortObjectSpec spec, final ExecutionMonitor exec)
         throws IOException, CanceledExecutionException {
 
-        DLModelPortObject port = null;
+        this.m_spec = (DLModelPortObjectSpec)spec;
+        this.m_modelKey = UUID.randomUUID();
+        this.m_modelFile = FileUtil.createTempFile("dl4j-model-" + m_modelKey.toString(), ".zip");
+        try (ZipOutputStream zOut = new ZipOutputStream(new FileOutputStream(m_modelFile))) {
+            copyEntries(in, zOut);
+        }
+        CLEANER.register(this, new ModelFileCleanup(m_modelKey, m_modelFile));
+    }
+
+    /**
+     * Copies all remaining entries of the specified input stream to the specified output stream.
+     *
+     * @param in the stream to read entries from
+     * @param out the stream to write entries to
+     * @throws IOException
+     */
+    private static void copyEntries(final ZipInputStream in, final ZipOutputStream out) throws IOException {
+        final byte[] buffer = new byte[8192];
+        ZipEntry entry;
+        while ((entry = in.getNextEntry()) != null) {
+            out.putNextEntry(new ZipEntry(entry.getName()));
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            out.closeEntry();
+        }
+    }
+
+    /**
+     * Get the deserialized port object of a lazily loaded model. This may trigger deserialization.
+     *
+     * @return the port object containing the deserialized layers and model
+     */
+    private synchronized DLModelPortObject getLoadedPortObject() {
         try {
-            port = DLModelPortObjectUtils.loadPortFromZip(in);
+            return CACHE.get(m_modelKey, new Callable<DLModelPortObject>() {
+                @Override
+                public DLModelPortObject call() {
+                    return deserialize();
+                }
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error retrieving deep learning model from cache!", e);
+        }
+    }
+
+    private DLModelPortObject deserialize() {
+        try (ZipInputStream zIn = new ZipInputStream(new FileInputStream(m_modelFile))) {
+            return DLModelPortObjectUtils.loadPortFromZip(zIn);
+        } catch (IOException e) {
+            throw new IllegalStateException("Error loading deep learning model!", e);
         } catch (Error e) {
             DL4JOutOfMemoryException dl4jOoM = DL4JOutOfMemoryException.fromDL4JError(e);
-            throw new IOException(dl4jOoM == null ? e : dl4jOoM);
+            throw new IllegalStateException("Error loading deep learning model!", dl4jOoM == null ? e : dl4jOoM);
         }
-
-        this.m_spec = (DLModelPortObjectSpec)spec;
-        this.m_layers = port.getLayers();
-        this.m_model = port.getModel();
     }
 
     @Override
@@ -142,12 +227,16 @@ public DLModelPortObjectSpec getSpec() {
     }
 
     /**
-     * List of layers this model is composed of.
+     * List of layers this model is composed of. The returned list is unmodifiable, callers that want to change the
+     * layers need to create their own copy.
      *
-     * @return list of layers
+     * @return unmodifiable list of layers
      */
     public List<Layer> getLayers() {
-        return m_layers;
+        if (m_modelFile != null) {
+            return getLoadedPortObject().getLayers();
+        }
+        return m_layers == null ? null : Collections.unmodifiableList(m_layers);
     }
 
     /**
@@ -156,6 +245,9 @@ public List<Layer> getLayers() {
      * @return the dl4j model
      */
     public Model getModel() {
+        if (m_modelFile != null) {
+            return getLoadedPortObject().getModel();
+        }
         return m_model;
     }
 
@@ -165,8 +257,9 @@ public Model getModel() {
      * @return the {@link MultiLayerNetwork} or null
      */
     public MultiLayerNetwork getMultilayerLayerNetwork() {
-        if (m_model instanceof MultiLayerNetwork) {
-            return (MultiLayerNetwork)m_model;
+        final Model model = getModel();
+        if (model instanceof MultiLayerNetwork) {
+            return (MultiLayerNetwork)model;
         }
         return null;
     }
@@ -177,8 +270,9 @@ public MultiLayerNetwork getMultilayerLayerNetwork() {
      * @return the {@link ComputationGraph} or null
      */
     public ComputationGraph getComputationGraph() {
-        if (m_model instanceof ComputationGraph) {
-            return (ComputationGraph)m_model;
+        final Model model = getModel();
+        if (model instanceof ComputationGraph) {
+            return (ComputationGraph)model;
         }
         return null;
     }
@@ -197,12 +291,38 @@ public boolean equals(final Object obj) {
             return false;
         }
         final DLModelPortObject oPortObject = (DLModelPortObject)obj;
+        final List<Layer> layers = getLayers();
+        final List<Layer> oLayers = oPortObject.getLayers();
+        final Model model = getModel();
+        final Model oModel = oPortObject.getModel();
 
-        return (m_layers == null ? oPortObject.m_layers == null : m_layers.equals(oPortObject.m_layers))//
-            && (m_model == null ? oPortObject.m_model == null : m_model.equals(oPortObject.m_model)) //
+        return (layers == null ? oLayers == null : layers.equals(oLayers))//
+            && (model == null ? oModel == null : model.equals(oModel)) //
             && (m_spec == null ? oPortObject.m_spec == null : m_spec.equals(oPortObject.m_spec));
     }
 
+    /**
+     * Cleanup action of a lazily loaded port object. Must not reference the port object itself, otherwise it would
+     * never become unreachable.
+     */
+    private static final class ModelFileCleanup implements Runnable {
+
+        private final UUID m_key;
+
+        private final File m_file;
+
+        ModelFileCleanup(final UUID key, final File file) {
+            m_key = key;
+            m_file = file;
+        }
+
+        @Override
+        public void run() {
+            CACHE.remove(m_key);
+            m_file.delete();
+        }
+    }
+
     /**
      * Currently supported implementations of {@link Model} by this port object.
      *
@@ -0,0 +1,206 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.dl4j.base.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Second tier of {@link MemoryAlertAwareGuavaCache} keeping evicted objects as files in the temp directory. Objects
+ * are written using a registered {@link SpillCodec}. The spill file of an object is kept after it was restored, as
+ * cached objects are not modified, hence a second eviction does not need to write it again.
+ *
+ * Objects are written asynchronously by a dedicated thread, hence evicting threads like the removal listener of the
+ * cache or the memory alert listener are not blocked by disk I/O. Until an object is written it is kept as pending
+ * and returned directly on restore.
+ *
+ * @author agent
+ */
+final class DiskSpillTier {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DiskSpillTier.class);
+
+    private final CopyOnWriteArrayList<SpillCodec> m_codecs = new CopyOnWriteArrayList<>();
+
+    private final Map<UUID, SpilledEntry> m_spilled = new ConcurrentHashMap<>();
+
+    /** Objects which are about to be written, guarded by this. */
+    private final Map<UUID, Object> m_pending = new ConcurrentHashMap<>();
+
+    private final ExecutorService m_executor = Executors.newSingleThreadExecutor(r -> {
+        final Thread thread = new Thread(r, "KNIME-DL4J-Cache-Spill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Registers the specified codec. Registering the same codec twice has no effect.
+     *
+     * @param codec the codec to register
+     */
+    void registerCodec(final SpillCodec codec) {
+        m_codecs.addIfAbsent(codec);
+    }
+
+    /**
+     * Schedules writing the specified object to disk if there is a codec for it and if it is not already spilled.
+     *
+     * @param key the cache key of the object
+     * @param value the object to spill
+     */
+    void spill(final UUID key, final Object value) {
+        if (value == null) {
+            return;
+        }
+        for (final SpillCodec codec : m_codecs) {
+            if (codec.canSpill(value)) {
+                synchronized (this) {
+                    if (m_spilled.containsKey(key) || m_pending.containsKey(key)) {
+                        return;
+                    }
+                    m_pending.put(key, value);
+                }
+                m_executor.execute(() -> write(key, value, codec));
+                return;
+            }
+        }
+    }
+
+    private void write(final UUID key, final Object value, final SpillCodec codec) {
+        File file = null;
+        try {
+            file = FileUtil.createTempFile("dl4j-spill-" + key.toString(), ".bin", true);
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+                codec.write(value, channel);
+            }
+            synchronized (this) {
+                //the entry may have been discarded in the meantime
+                if (m_pending.remove(key) != null) {
+                    m_spilled.put(key, new SpilledEntry(file, codec));
+                    return;
+                }
+            }
+            file.delete();
+        } catch (IOException e) {
+            LOGGER.debug("Could not spill cache entry to disk: " + e.getMessage(), e);
+            m_pending.remove(key);
+            if (file != null) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Restores the object with the specified key from disk, or returns it directly if it is not yet written.
+     *
+     * @param key the cache key of the object
+     * @return the restored object or <code>Optional.empty</code> if it was not spilled or could not be restored
+     */
+    Optional<Object> restore(final UUID key) {
+        final SpilledEntry entry;
+        synchronized (this) {
+            final Object pending = m_pending.get(key);
+            if (pending != null) {
+                return Optional.of(pending);
+            }
+            entry = m_spilled.get(key);
+        }
+        if (entry == null) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(entry.m_file.toPath(), StandardOpenOption.READ)) {
+            return Optional.of(entry.m_codec.read(channel));
+        } catch (IOException e) {
+            LOGGER.debug("Could not restore cache entry from disk: " + e.getMessage(), e);
+            discard(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Deletes the spill file of the object with the specified key, if any.
+     *
+     * @param key the cache key of the object
+     */
+    void discard(final UUID key) {
+        final SpilledEntry entry;
+        synchronized (this) {
+            m_pending.remove(key);
+            entry = m_spilled.remove(key);
+        }
+        if (entry != null && !entry.m_file.delete()) {
+            LOGGER.debug("Could not delete spill file: " + entry.m_file);
+        }
+    }
+
+    private static final class SpilledEntry {
+
+        private final File m_file;
+
+        private final SpillCodec m_codec;
+
+        private SpilledEntry(final File file, final SpillCodec codec) {
+            m_file = file;
+            m_codec = codec;
+        }
+    }
+}
@@ -48,11 +48,16 @@
  */
 package org.knime.ext.dl4j.base.cache;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.knime.core.data.util.memory.MemoryAlert;
 import org.knime.core.data.util.memory.MemoryAlertListener;
@@ -63,10 +68,18 @@
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.cache.Weigher;
 
 /**
  * Wrapper for a Guava Cache that listens to memory alerts from {@link MemoryAlertSystem} and cleans the cache if memory
- * gets low.
+ * gets low. Entries are weighted by their estimated heap and off-heap footprint (see {@link ModelFootprintWeigher}),
+ * the total weight is limited to a fraction of the available heap and off-heap memory. On a memory alert the least
+ * recently used entries are evicted until the total weight drops below a target, instead of flushing the whole cache.
+ * Evicted entries for which a {@link SpillCodec} is registered are written to disk and restored from there when they
+ * are requested again, which is much faster than loading them from their original source.
  *
  * @author David Kolb, KNIME.com GmbH
  */
@@ -80,35 +93,141 @@ public class MemoryAlertAwareGuavaCache {
     private boolean m_enableVerbose =
         DL4JPluginActivator.getDefault().getPreferenceStore().getBoolean(DL4JPreferencePage.P_ENABLE_VERBOSE_LOGGING);
 
+    /** The fraction of the available heap and off-heap memory which may be used by cached models. */
+    private static final double MAX_MEMORY_FRACTION = 0.5;
+
+    /** The fraction of the current total weight which is kept on a memory alert. */
+    private static final double ALERT_TARGET_FRACTION = 0.5;
+
     private Cache<UUID, Object> m_cache;
 
     private Semaphore m_gate = new Semaphore(1);
 
-    private final int m_cacheSize = 20;
+    /** The weight in kilobytes of each cache entry, maintained by the weigher and removal listener. */
+    private final Map<UUID, Integer> m_weights = new ConcurrentHashMap<>();
+
+    /** The logical time of the last access of each cache entry, used for LRU eviction on memory alerts. */
+    private final Map<UUID, Long> m_lastAccess = new ConcurrentHashMap<>();
+
+    private final AtomicLong m_clock = new AtomicLong();
+
+    private final DiskSpillTier m_spillTier = new DiskSpillTier();
 
     private MemoryAlertAwareGuavaCache() {
+        final ModelFootprintWeigher footprintWeigher = new ModelFootprintWeigher();
+        //use a single segment, otherwise the maximum weight is split between the segments and models larger than the
+        //share of one segment would be evicted immediately after insertion
+        final CacheBuilder<UUID, Object> builder = CacheBuilder.newBuilder().concurrencyLevel(1)
+            .maximumWeight(getMaximumWeight()).weigher(new Weigher<UUID, Object>() {
+                @Override
+                public int weigh(final UUID key, final Object value) {
+                    final int weight = footprintWeigher.weigh(key, value);
+                    m_weights.put(key, weight);
+                    return weight;
+                }
+            }).removalListener(new RemovalListener<UUID, Object>() {
+                @Override
+                public void onRemoval(final RemovalNotification<UUID, Object> notification) {
+                    if (notification.getCause() == RemovalCause.SIZE) {
+                        m_spillTier.spill(notification.getKey(), notification.getValue());
+                    }
+                    //a replaced value was already re-weighed with the same key
+                    if (notification.getCause() != RemovalCause.REPLACED) {
+                        m_weights.remove(notification.getKey());
+                        m_lastAccess.remove(notification.getKey());
+                    }
+                }
+            }).softValues();
         if (m_enableVerbose) {
-            m_cache = CacheBuilder.newBuilder().maximumSize(m_cacheSize).softValues().recordStats().build();
+            m_cache = builder.recordStats().build();
         } else {
-            m_cache = CacheBuilder.newBuilder().maximumSize(m_cacheSize).softValues().build();
+            m_cache = builder.build();
         }
 
         MemoryAlertSystem.getInstance().addListener(new MemoryAlertListener() {
             @Override
             protected boolean memoryAlert(final MemoryAlert alert) {
-                if (m_enableVerbose) {
-                    LOGGER.debug(getClass().getName() + " released memory for " + m_cache.size() + " models");
-                }
                 if (m_gate.tryAcquire()) {
-                    m_cache.invalidateAll();
-                    m_cache.cleanUp();
-                    m_gate.release();
+                    try {
+                        evictToTarget((long)(getTotalWeight() * ALERT_TARGET_FRACTION));
+                        m_cache.cleanUp();
+                    } finally {
+                        m_gate.release();
+                    }
                 }
                 return false;
             }
         });
     }
 
+    /**
+     * Determines the maximum total weight of the cache in kilobytes from the maximum heap size and the off-heap limit
+     * configured in the preferences.
+     *
+     * @return the maximum weight in kilobytes
+     */
+    private static long getMaximumWeight() {
+        final long offHeapBytes = DL4JPluginActivator.getDefault().getPreferenceStore()
+            .getInt(DL4JPreferencePage.P_OFF_HEAP_MEMORY_LIMIT) * 1024L * 1024L;
+        final long availableBytes = Runtime.getRuntime().maxMemory() + Math.max(0, offHeapBytes);
+        return Math.max(1, (long)(availableBytes * MAX_MEMORY_FRACTION) / 1024);
+    }
+
+    /**
+     * @return the sum of the weights of all entries in kilobytes
+     */
+    private long getTotalWeight() {
+        long total = 0;
+        for (final Integer weight : m_weights.values()) {
+            total += weight;
+        }
+        return total;
+    }
+
+    /**
+     * Evicts the least recently used entries until the total weight of the cache is below the specified target.
+     *
+     * @param targetWeight the target weight in kilobytes
+     */
+    private void evictToTarget(final long targetWeight) {
+        final List<Map.Entry<UUID, Long>> byAccess = new ArrayList<>(m_lastAccess.entrySet());
+        byAccess.sort(Map.Entry.comparingByValue());
+
+        long total = getTotalWeight();
+        int evicted = 0;
+        for (final Map.Entry<UUID, Long> entry : byAccess) {
+            if (total <= targetWeight) {
+                break;
+            }
+            final Integer weight = m_weights.get(entry.getKey());
+            m_spillTier.spill(entry.getKey(), m_cache.asMap().get(entry.getKey()));
+            m_cache.invalidate(entry.getKey());
+            m_lastAccess.remove(entry.getKey());
+            if (weight != null) {
+                total -= weight;
+            }
+            evicted++;
+        }
+        if (m_enableVerbose) {
+            LOGGER.debug(getClass().getName() + " released memory for " + evicted + " models, remaining weight: "
+                + total + " KB");
+        }
+    }
+
+    private void touch(final UUID key) {
+        m_lastAccess.put(key, m_clock.incrementAndGet());
+    }
+
+    /**
+     * Registers a codec which is used to write evicted entries to disk. Entries without a matching codec are simply
+     * dropped on eviction.
+     *
+     * @param codec the codec to register
+     */
+    public void registerSpillCodec(final SpillCodec codec) {
+        m_spillTier.registerCodec(codec);
+    }
+
     /**
      * Associates value with key in this cache. If the cache previously contained a value associated with key, the old
      * value is replaced by value.
@@ -118,6 +237,7 @@ protected boolean memoryAlert(final MemoryAlert alert) {
      */
     public void put(final UUID key, final Object value) {
         m_cache.put(key, value);
+        touch(key);
         if (m_enableVerbose) {
             LOGGER.debug("Put: " + m_cache.stats());
             LOGGER.debug("Cache size: " + m_cache.size());
@@ -126,13 +246,22 @@ public void put(final UUID key, final Object value) {
 
     /**
      * Returns the value associated with key in this cache, or <code>Optional.empty</code> if there is no cached value
-     * for key.
+     * for key. If the value was spilled to disk, it is restored.
      *
      * @param key
      * @return the value associated with key
      */
     public Optional<Object> get(final UUID key) {
         Object o = m_cache.getIfPresent(key);
+        if (o == null) {
+            o = m_spillTier.restore(key).orElse(null);
+            if (o != null) {
+                m_cache.put(key, o);
+            }
+        }
+        if (o != null) {
+            touch(key);
+        }
         if (m_enableVerbose) {
             LOGGER.debug("Get: " + m_cache.stats());
             LOGGER.debug("Cache size: " + m_cache.size());
@@ -141,7 +270,8 @@ public Optional<Object> get(final UUID key) {
     }
 
     /**
-     * Returns the value associated with key in this cache, obtaining that value from valueLoader if necessary.
+     * Returns the value associated with key in this cache, obtaining that value from valueLoader if necessary. If the
+     * value was spilled to disk, it is restored from there instead of using the valueLoader.
      *
      * @param key
      * @param valueLoader
@@ -152,7 +282,14 @@ public Optional<Object> get(final UUID key) {
     public <V> V get(final UUID key, final Callable<V> valueLoader) throws ExecutionException {
         // NB: guava takes care about synchronization.
         // see: https://google.github.io/guava/releases/21.0/api/docs/com/google/common/cache/Cache.html
-        V o = (V)m_cache.get(key, valueLoader);
+        V o = (V)m_cache.get(key, new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                final Optional<Object> spilled = m_spillTier.restore(key);
+                return spilled.isPresent() ? spilled.get() : valueLoader.call();
+            }
+        });
+        touch(key);
         if (m_enableVerbose) {
             LOGGER.debug("GetOrLoad: " + m_cache.stats());
             LOGGER.debug("Cache size: " + m_cache.size());
@@ -161,12 +298,13 @@ public <V> V get(final UUID key, final Callable<V> valueLoader) throws Execution
     }
 
     /**
-     * Removes the cache entry associated with the specified key.
+     * Removes the cache entry associated with the specified key, including its copy on disk.
      *
      * @param key
      */
     public void remove(final UUID key) {
         m_cache.invalidate(key);
+        m_spillTier.discard(key);
         if (m_enableVerbose) {
             LOGGER.debug("Remove: " + m_cache.stats());
             LOGGER.debug("Cache size: " + m_cache.size());
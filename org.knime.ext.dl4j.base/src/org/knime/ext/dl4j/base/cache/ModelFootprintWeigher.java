@@ -0,0 +1,123 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.dl4j.base.cache;
+
+import java.util.UUID;
+
+import org.deeplearning4j.models.embeddings.WeightLookupTable;
+import org.deeplearning4j.models.embeddings.inmemory.InMemoryLookupTable;
+import org.deeplearning4j.models.embeddings.wordvectors.WordVectors;
+import org.deeplearning4j.nn.api.Model;
+import org.knime.ext.dl4j.base.DLModelPortObject;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+
+import com.google.common.cache.Weigher;
+
+/**
+ * {@link Weigher} estimating the memory footprint of cached models in kilobytes. The footprint of a model is
+ * dominated by its parameter arrays which are stored off-heap by ND4J, the vocabulary of {@link WordVectors} is stored
+ * on the heap. Objects of unknown type get the minimal weight.
+ *
+ * @author agent
+ */
+final class ModelFootprintWeigher implements Weigher<UUID, Object> {
+
+    /** Rough estimate of the heap bytes needed for one vocabulary entry (word, counts, indices). */
+    private static final long BYTES_PER_VOCAB_WORD = 128;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int weigh(final UUID key, final Object value) {
+        final long kiloBytes = estimateFootprint(value) / 1024;
+        return (int)Math.max(1, Math.min(Integer.MAX_VALUE, kiloBytes));
+    }
+
+    /**
+     * Estimates the heap and off-heap footprint of the specified object in bytes.
+     *
+     * @param value the object to estimate
+     * @return estimated number of bytes, 0 if unknown
+     */
+    static long estimateFootprint(final Object value) {
+        if (value instanceof DLModelPortObject) {
+            return estimateFootprint(((DLModelPortObject)value).getModel());
+        } else if (value instanceof Model) {
+            return ((Model)value).numParams() * (long)Nd4j.sizeOfDataType();
+        } else if (value instanceof WordVectors) {
+            return estimateWordVectorsFootprint((WordVectors)value);
+        }
+        return 0;
+    }
+
+    private static long estimateWordVectorsFootprint(final WordVectors wordVectors) {
+        long bytes = 0;
+        final WeightLookupTable<?> lookupTable = wordVectors.lookupTable();
+        if (lookupTable instanceof InMemoryLookupTable) {
+            final InMemoryLookupTable<?> inMemoryTable = (InMemoryLookupTable<?>)lookupTable;
+            bytes += arrayBytes(inMemoryTable.getSyn0());
+            bytes += arrayBytes(inMemoryTable.getSyn1());
+            bytes += arrayBytes(inMemoryTable.getSyn1Neg());
+        }
+        if (wordVectors.vocab() != null) {
+            final long numWords = wordVectors.vocab().numWords();
+            if (bytes == 0 && lookupTable != null) {
+                bytes += numWords * lookupTable.layerSize() * Nd4j.sizeOfDataType();
+            }
+            bytes += numWords * BYTES_PER_VOCAB_WORD;
+        }
+        return bytes;
+    }
+
+    private static long arrayBytes(final INDArray array) {
+        return array == null ? 0 : array.length() * (long)array.data().getElementSize();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.dl4j.base.cache;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * Codec used by the disk tier of {@link MemoryAlertAwareGuavaCache} to write evicted objects to a file and to restore
+ * them. Implementations should use a binary layout which can be read through memory mapping, i.e. without parsing,
+ * hence restoring an object is much cheaper than deserializing it from its original format.
+ *
+ * @author agent
+ */
+public interface SpillCodec {
+
+    /**
+     * Checks if the specified object can be written by this codec.
+     *
+     * @param value the object to check
+     * @return true if the object can be spilled by this codec
+     */
+    boolean canSpill(Object value);
+
+    /**
+     * Writes the specified object to the specified channel. The channel is positioned at the start of an empty file.
+     *
+     * @param value the object to write, {@link #canSpill(Object)} returned true for it
+     * @param channel the channel to write to
+     * @throws IOException if the object could not be written
+     */
+    void write(Object value, FileChannel channel) throws IOException;
+
+    /**
+     * Restores an object from the specified channel which contains the data written by
+     * {@link #write(Object, FileChannel)}.
+     *
+     * @param channel the read-only channel to read from
+     * @return the restored object
+     * @throws IOException if the object could not be restored
+     */
+    Object read(FileChannel channel) throws IOException;
+}
@@ -49,18 +49,15 @@
 package org.knime.ext.dl4j.base.data.convert.extension;
 
 import java.util.Optional;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 
 import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
 import org.knime.core.data.DataValue;
 import org.knime.ext.dl4j.base.exception.DataCellConversionException;
 import org.knime.ext.dl4j.base.exception.UnsupportedDataTypeException;
 import org.knime.ext.dl4j.base.util.ConverterUtils;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-
 /**
  * Class to convert {@link DataCell}s to Java using converter framework. Converter factories are cached and reused to
  * create converters if possible.
@@ -68,51 +65,54 @@
  * @author David Kolb, KNIME.com GmbH
  */
 public class CachedConverter {
+
+    /* the type of the last converted cell, usually all cells of a column have the same type */
+    private DataType m_lastType;
+
+    private Class<?> m_lastResultType;
+
     @SuppressWarnings("rawtypes")
-    private final Cache<String, DL4JConverter> m_converterCache;
+    private DL4JConverter m_lastConverter;
 
     /**
-     * Constructor for class {@link CachedConverter}. Creates a new cache to save {@link DL4JConverter}s.
+     * Constructor for class {@link CachedConverter}.
      */
     public CachedConverter() {
-        m_converterCache = CacheBuilder.newBuilder().maximumSize(10).build();
+        // nothing to initialise, converters are looked up lazily
     }
 
     /**
      * Converts the specified {@link DataCell} to an object of the specified class using the DL4JConverter extension
-     * point. For every unseen combination of cell type and class a new converter is created and added to the cache. If
-     * the converter already exists in cache it is just retrieved and used to perform the conversion.
+     * point. The converter is retrieved from the {@link DL4JConverterRegistry}, which caches the result of lookups. The
+     * converter used for the last conversion is remembered and reused if the next cell has the same type.
      *
      * @param cellToConvert the cell which should be converted
      * @param classOfResultType the class to convert to
      * @return the converted cell
-     * @throws ExecutionException if an exception is thrown while loading the converter from cache
+     * @throws ExecutionException if no converter is available for the specified cell and class
      * @throws DataCellConversionException if an exception is thrown during cell conversion
      */
-    @SuppressWarnings({"rawtypes", "unchecked"})
+    @SuppressWarnings({"unchecked"})
     public <T> T convertDataCellToJava(final DataCell cellToConvert, final Class<T> classOfResultType)
         throws ExecutionException, DataCellConversionException {
         ConverterUtils.checkMissing(cellToConvert);
 
-        String factoryIdent = cellToConvert.getClass().toString() + "," + classOfResultType.toString();
-
-        DL4JConverter<DataValue, T> converter = m_converterCache.get(factoryIdent, new Callable<DL4JConverter>() {
-            /**
-             * If the converter to retrieve was not yet accessed from the converter registry we try to access it.
-             */
-            @Override
-            public DL4JConverter<DataValue, T> call() throws UnsupportedDataTypeException {
-                Optional<DL4JConverter<DataValue, T>> c =
-                    DL4JConverterRegistry.getInstance().getConverter(cellToConvert.getType(), classOfResultType);
-                return c.orElseThrow(() -> new UnsupportedDataTypeException(
-                    "No converter for DataCell of type " + cellToConvert.getType().getName() + " to class "
-                        + classOfResultType.getSimpleName() + " available."));
+        final DataType type = cellToConvert.getType();
+        if (m_lastConverter == null || !type.equals(m_lastType) || !classOfResultType.equals(m_lastResultType)) {
+            final Optional<DL4JConverter<DataValue, T>> c =
+                DL4JConverterRegistry.getInstance().getConverter(type, classOfResultType);
+            if (!c.isPresent()) {
+                throw new ExecutionException(new UnsupportedDataTypeException("No converter for DataCell of type "
+                    + type.getName() + " to class " + classOfResultType.getSimpleName() + " available."));
             }
-        });
+            m_lastConverter = c.get();
+            m_lastType = type;
+            m_lastResultType = classOfResultType;
+        }
         try {
-            return converter.convert(cellToConvert);
+            return (T)m_lastConverter.convert(cellToConvert);
         } catch (final Exception e) {
-            throw new DataCellConversionException("Conversion of DataCell of type " + cellToConvert.getType().getName()
+            throw new DataCellConversionException("Conversion of DataCell of type " + type.getName()
                 + " failed: " + e.getMessage(), e);
         }
     }
@@ -54,8 +54,10 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -83,6 +85,9 @@ public class DL4JConverterRegistry {
     /* DL4JConverters stored by source type they convert from */
     private final Map<Class<?>, Set<DL4JConverter<?, ?>>> m_destinationToConverters = new HashMap<>();
 
+    /* Result of converter lookups stored by source and destination type, cleared if a converter is registered */
+    private final Map<ConverterKey, Optional<DL4JConverter<?, ?>>> m_converterCache = new ConcurrentHashMap<>();
+
     private DL4JConverterRegistry() {
         for (final IConfigurationElement ce : Platform.getExtensionRegistry()
             .getConfigurationElementsFor(EXTENSION_POINT_ID)) {
@@ -117,9 +122,25 @@ private DL4JConverterRegistry() {
      * @param to the destination type
      * @return the converter that converts from source to destination
      */
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public <D> Optional<DL4JConverter<DataValue, D>> getConverter(final DataType from, final Class<D> to) {
-        List<DL4JConverter<DataValue, D>> sourceCompatibleConverters = new ArrayList<>();
+        // the lookup result only depends on the types, hence it is cached until a new converter is registered
+        final Optional cached =
+            m_converterCache.computeIfAbsent(new ConverterKey(from, to), k -> findConverter(from, to));
+        return cached;
+    }
+
+    /**
+     * Searches all registered converters for the converter with the highest priority that converts from the specified
+     * {@link DataType} to the specified type.
+     *
+     * @param from the source type
+     * @param to the destination type
+     * @return the converter that converts from source to destination
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized Optional<DL4JConverter<?, ?>> findConverter(final DataType from, final Class<?> to) {
+        List<DL4JConverter<DataValue, ?>> sourceCompatibleConverters = new ArrayList<>();
 
         for (Entry<String, DL4JConverter<?, ?>> e : m_identifierToConverter.entrySet()) {
             DL4JConverter<DataValue, ?> converter = (DL4JConverter<DataValue, ?>)e.getValue();
@@ -127,7 +148,7 @@ public <D> Optional<DL4JConverter<DataValue, D>> getConverter(final DataType fro
             Class<?> destination = converter.getDestination();
 
             if (from.isCompatible(source) && to.equals(destination)) {
-                sourceCompatibleConverters.add((DL4JConverter<DataValue, D>)converter);
+                sourceCompatibleConverters.add(converter);
             }
         }
         if (sourceCompatibleConverters.isEmpty()) {
@@ -148,12 +169,12 @@ public <D> Optional<DL4JConverter<DataValue, D>> getConverter(final DataType fro
      * @param source the source type to use for compatibility check
      * @return the converter with the highest priority
      */
-    private <D> DL4JConverter<DataValue, D>
-        getConverterWithHighestPriority(final List<DL4JConverter<DataValue, D>> converters, final DataType source) {
+    private DL4JConverter<DataValue, ?>
+        getConverterWithHighestPriority(final List<DL4JConverter<DataValue, ?>> converters, final DataType source) {
 
-        DL4JConverter<DataValue, D> highestPriorityConverter = null;
+        DL4JConverter<DataValue, ?> highestPriorityConverter = null;
 
-        for (DL4JConverter<DataValue, D> converter : converters) {
+        for (DL4JConverter<DataValue, ?> converter : converters) {
             // all converters in the specified list need to be compatible with the source type
             if (!source.isCompatible(converter.getSource())) {
                 LOGGER.coding(new IllegalArgumentException(
@@ -196,18 +217,24 @@ public void register(final DL4JConverter<?, ?> converter) {
             throw new IllegalArgumentException("Converter must not be null");
         }
 
-        final Class<?> destination = converter.getDestination();
-        Set<DL4JConverter<?, ?>> byDestination = m_destinationToConverters.get(destination);
-        if (byDestination == null) {
-            byDestination = new HashSet<DL4JConverter<?, ?>>();
-            m_destinationToConverters.put(destination, byDestination);
-        }
-        byDestination.add(converter);
+        synchronized (this) {
+            final Class<?> destination = converter.getDestination();
+            Set<DL4JConverter<?, ?>> byDestination = m_destinationToConverters.get(destination);
+            if (byDestination == null) {
+                byDestination = new HashSet<DL4JConverter<?, ?>>();
+                m_destinationToConverters.put(destination, byDestination);
+            }
+            byDestination.add(converter);
 
-        DL4JConverter<?, ?> previous = m_identifierToConverter.put(converter.getIdentifier(), converter);
-        if (previous != null) {
-            LOGGER.coding("DL4JConverter identifier is not unique (" + converter.getIdentifier() + ")");
+            DL4JConverter<?, ?> previous = m_identifierToConverter.put(converter.getIdentifier(), converter);
+            if (previous != null) {
+                LOGGER.coding("DL4JConverter identifier is not unique (" + converter.getIdentifier() + ")");
+            }
         }
+
+        // a new converter may change the result of previous lookups, must not be called while holding the lock as
+        // lookups acquire the lock while computing a cache entry
+        m_converterCache.clear();
     }
 
     /**
@@ -218,4 +245,36 @@ public void register(final DL4JConverter<?, ?> converter) {
     public static DL4JConverterRegistry getInstance() {
         return INSTANCE;
     }
+
+    /**
+     * Key for the converter cache consisting of source and destination type.
+     */
+    private static final class ConverterKey {
+
+        private final DataType m_from;
+
+        private final Class<?> m_to;
+
+        ConverterKey(final DataType from, final Class<?> to) {
+            m_from = from;
+            m_to = to;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(m_from, m_to);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ConverterKey)) {
+                return false;
+            }
+            final ConverterKey other = (ConverterKey)obj;
+            return m_from.equals(other.m_from) && m_to.equals(other.m_to);
+        }
+    }
 }
@@ -49,7 +49,12 @@
 package org.knime.ext.dl4j.base.data.convert.row;
 
 import org.knime.core.data.DataCell;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.collection.CollectionDataValue;
 import org.knime.ext.dl4j.base.data.convert.extension.CachedConverter;
+import org.knime.ext.dl4j.base.util.ConverterUtils;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.indexing.INDArrayIndex;
@@ -99,6 +104,14 @@ public int targetLength() {
         return m_targetLength;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isReconstruction() {
+        return false;
+    }
+
     /**
      * Set the feature vector length.
      *
@@ -165,6 +178,11 @@ protected int putCellToVector(final INDArray array, final DataCell cell, final i
         if (!array.isRowVector()) {
             throw new IllegalArgumentException("Expected specified array to be a row vector.");
         }
+        //try to write numeric cells directly without conversion first
+        final int fastPathEnd = putNumericCellToVector(array, cell, putIndex);
+        if (fastPathEnd >= 0) {
+            return fastPathEnd;
+        }
         final double[] convertedCell = m_cachedConverter.convertDataCellToJava(cell, double[].class);
         //if we have a scalar we do not need to convert to primitive and can put directly
         if (isScalar(convertedCell)) {
@@ -187,6 +205,58 @@ protected int putCellToVector(final INDArray array, final DataCell cell, final i
         }
     }
 
+    /**
+     * Writes the values of the specified cell directly to the specified vector if the cell is numeric, i.e. a
+     * {@link DoubleValue}, {@link IntValue}, {@link LongValue} or a collection of {@link DoubleValue}s. This avoids the
+     * creation of intermediate arrays done by the converter framework.
+     *
+     * @param array the row vector to write to
+     * @param cell the cell to write
+     * @param putIndex the start index to put the cell
+     * @return the next free position or -1 if the cell is not numeric and needs to be converted
+     * @throws Exception if the cell or an element of a collection is missing, if the values do not fit into the array
+     */
+    private int putNumericCellToVector(final INDArray array, final DataCell cell, final int putIndex)
+        throws Exception {
+        ConverterUtils.checkMissing(cell);
+        if (cell instanceof DoubleValue) {
+            array.putScalar(putIndex, ((DoubleValue)cell).getDoubleValue());
+            return putIndex + 1;
+        } else if (cell instanceof IntValue) {
+            array.putScalar(putIndex, ((IntValue)cell).getIntValue());
+            return putIndex + 1;
+        } else if (cell instanceof LongValue) {
+            array.putScalar(putIndex, ((LongValue)cell).getLongValue());
+            return putIndex + 1;
+        } else if (cell instanceof CollectionDataValue
+            && ((CollectionDataValue)cell).getElementType().isCompatible(DoubleValue.class)) {
+            final CollectionDataValue collection = (CollectionDataValue)cell;
+            checkInterval(array, putIndex + collection.size());
+            int i = putIndex;
+            for (final DataCell element : collection) {
+                ConverterUtils.checkMissing(element);
+                array.putScalar(i++, ((DoubleValue)element).getDoubleValue());
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if an interval ending at the specified index (exclusive) fits into the specified array.
+     *
+     * @param array the array to write to
+     * @param intervalEnd the end of the interval exclusive
+     * @throws IllegalArgumentException if the interval does not fit
+     */
+    private void checkInterval(final INDArray array, final int intervalEnd) {
+        if (intervalEnd > array.length()) {
+            throw new IllegalArgumentException(
+                "Length of current input does not match expected length. Possible images or collections "
+                    + "may not be of same size.");
+        }
+    }
+
     /**
      * Checks if the specified array is an scalar, meaning that its length is equal to one.
      *
@@ -49,6 +49,7 @@
 package org.knime.ext.dl4j.base.data.convert.row;
 
 import org.knime.core.data.DataRow;
+import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.dataset.DataSet;
 
 /**
@@ -67,6 +68,21 @@ public interface IDataRowToDataSetConverter {
      */
     public abstract DataSet convert(DataRow row) throws Exception;
 
+    /**
+     * Converts a {@link DataRow} and writes the resulting feature and target vectors directly into the specified row
+     * of the specified matrices. This allows to assemble a whole batch without creating a {@link DataSet} per row. The
+     * feature matrix is expected to have {@link #featureLength()} columns and the target matrix
+     * {@link #targetLength()} columns. Both matrices are expected to be initialised with zeros. In test mode, the
+     * target matrix is left untouched.
+     *
+     * @param row the row to convert
+     * @param features the matrix to write the feature vector to
+     * @param targets the matrix to write the target vector to
+     * @param rowIdx the index of the matrix row to write to
+     * @throws Exception if there are problems during conversion
+     */
+    public abstract void convertInto(DataRow row, INDArray features, INDArray targets, int rowIdx) throws Exception;
+
     /**
      * Returns the length of the feature vector stored in the {@link DataSet} which is returned by the
      * {@link IDataRowToDataSetConverter#convert(DataRow)} method.
@@ -82,4 +98,13 @@ public interface IDataRowToDataSetConverter {
      * @return the length of the target vector
      */
     int targetLength();
+
+    /**
+     * Returns whether the target vector is the same as the feature vector, i.e. the network is trained to reconstruct
+     * its input. If so, {@link #convertInto(DataRow, INDArray, INDArray, int)} may be called with the same matrix for
+     * features and targets.
+     *
+     * @return true if the target vector is the same as the feature vector
+     */
+    boolean isReconstruction();
 }
@@ -49,7 +49,9 @@
 package org.knime.ext.dl4j.base.data.convert.row;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
@@ -58,7 +60,6 @@
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.dataset.DataSet;
 import org.nd4j.linalg.factory.Nd4j;
-import org.nd4j.linalg.util.FeatureUtil;
 
 /**
  * Implementation of {@link AbstractDataRowToDataSetConverter} for rows containing features and one nominal label
@@ -68,7 +69,8 @@
  */
 public class LabelTargetDataRowToDataSetConverter extends AbstractDataRowToDataSetConverter {
 
-    private final List<String> m_distinctLabels;
+    /* index of each label in the list of distinct labels, used for one-hot conversion */
+    private final Map<String, Integer> m_labelIndices;
 
     private final int m_labelColumnIndex;
 
@@ -89,12 +91,16 @@ public LabelTargetDataRowToDataSetConverter(final DataRow referenceRow, final Li
         super(isTrain);
 
         if (!isTrain) {
-            m_distinctLabels = null;
+            m_labelIndices = null;
             setTargetLength(-1);
         } else if (distinctLabels == null || distinctLabels.isEmpty()) {
             throw new IllegalArgumentException("List of distinct labels must not be null or empty.");
         } else {
-            m_distinctLabels = distinctLabels;
+            m_labelIndices = new HashMap<>(distinctLabels.size() * 2);
+            for (int i = 0; i < distinctLabels.size(); i++) {
+                //keep the first index of a label to be consistent with List.indexOf()
+                m_labelIndices.putIfAbsent(distinctLabels.get(i), i);
+            }
             setTargetLength(distinctLabels.size());
         }
         m_labelColumnIndex = labelColumnIndex;
@@ -120,7 +126,21 @@ public LabelTargetDataRowToDataSetConverter(final DataRow referenceRow) throws E
      */
     @Override
     public DataSet convert(final DataRow row) throws Exception {
-        INDArray featureVector = Nd4j.create(featureLength());
+        final INDArray featureVector = Nd4j.create(1, featureLength());
+        final INDArray labelVector = Nd4j.create(1, isTrain() ? targetLength() : 1);
+        convertInto(row, featureVector, labelVector, 0);
+        return new DataSet(featureVector, labelVector);
+    }
+
+    /**
+     * {@inheritDoc} Features are converted to a flat vector and label to a one-hot vector. The one-hot vector is
+     * written by setting the corresponding entry of the target row, hence the target matrix is expected to be
+     * initialised with zeros.
+     */
+    @Override
+    public void convertInto(final DataRow row, final INDArray features, final INDArray targets, final int rowIdx)
+        throws Exception {
+        final INDArray featureVector = features.getRow(rowIdx);
         int featureVectorCursor = 0;
 
         INDArray labelVector = null;
@@ -131,7 +151,13 @@ public DataSet convert(final DataRow row) throws Exception {
             if ((i == m_labelColumnIndex) && isTrain()) {
                 //first convert nominal value to string
                 final String label = ConverterUtils.convertDataCellToJava(cell, String.class);
-                labelVector = FeatureUtil.toOutcomeVector(m_distinctLabels.indexOf(label), m_distinctLabels.size());
+                final Integer labelIndex = m_labelIndices.get(label);
+                if (labelIndex == null) {
+                    throw new IllegalArgumentException(
+                        "Label '" + label + "' is not contained in the domain of the label column.");
+                }
+                labelVector = targets.getRow(rowIdx);
+                labelVector.putScalar(labelIndex, 1.0);
                 //if collection convert every entry using existing converters
             } else {
                 int newCursorPos = putCellToVector(featureVector, cell, featureVectorCursor);
@@ -145,12 +171,7 @@ public DataSet convert(final DataRow row) throws Exception {
                 "Length of current input does not match expected length. Possible images or collections "
                     + "may not be of same size.");
         }
-        if (!isTrain()) {
-            //if in test mode create empty array
-            labelVector = Nd4j.create(1);
-        }
 
         validateDataSet(featureVector, labelVector);
-        return new DataSet(featureVector, labelVector);
     }
 }
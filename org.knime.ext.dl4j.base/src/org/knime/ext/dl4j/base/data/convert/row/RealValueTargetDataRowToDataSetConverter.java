@@ -110,12 +110,25 @@ public RealValueTargetDataRowToDataSetConverter(final DataRow referenceRow) thro
      */
     @Override
     public DataSet convert(final DataRow row) throws Exception {
-        INDArray featureVector = Nd4j.create(featureLength());
+        final INDArray featureVector = Nd4j.create(1, featureLength());
+        //target length may be < 1 in test mode
+        final INDArray targetVector = Nd4j.create(1, isTrain() ? targetLength() : 1);
+        convertInto(row, featureVector, targetVector, 0);
+        return new DataSet(featureVector, targetVector);
+    }
+
+    /**
+     * {@inheritDoc} Features are converted to a flat vector and label to a flat vector containing target.
+     */
+    @Override
+    public void convertInto(final DataRow row, final INDArray features, final INDArray targets, final int rowIdx)
+        throws Exception {
+        final INDArray featureVector = features.getRow(rowIdx);
         int featureVectorCursor = 0;
         INDArray targetVector = null;
-        //do not create array in test mode, target length may be < 1
+        //do not touch target in test mode, target length may be < 1
         if (isTrain()) {
-            targetVector = Nd4j.create(targetLength());
+            targetVector = targets.getRow(rowIdx);
         }
         int targetVectorCursor = 0;
 
@@ -136,12 +149,7 @@ public DataSet convert(final DataRow row) throws Exception {
                 "Length of current input does not match expected length. Possible images or collections "
                     + "may not be of same size.");
         }
-        if (!isTrain()) {
-            //if in test mode create empty array
-            targetVector = Nd4j.create(1);
-        }
 
         validateDataSet(featureVector, targetVector);
-        return new DataSet(featureVector, targetVector);
     }
 }
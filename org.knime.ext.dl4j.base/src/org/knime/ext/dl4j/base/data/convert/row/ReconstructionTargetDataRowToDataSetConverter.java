@@ -87,15 +87,40 @@ public ReconstructionTargetDataRowToDataSetConverter(final DataRow referenceRow,
         }
     }
 
+    /**
+     * {@inheritDoc} In train mode the target is the feature vector.
+     */
+    @Override
+    public boolean isReconstruction() {
+        return isTrain();
+    }
+
     /**
      * {@inheritDoc} Features and label are converted to a flat vector. In test mode label will be empty.
      */
     @Override
     public DataSet convert(final DataRow row) throws Exception {
-        INDArray featureVector = Nd4j.create(featureLength());
-        int featureVectorCursor = 0;
+        final INDArray featureVector = Nd4j.create(1, featureLength());
+        if (isTrain()) {
+            //target contains the same values as feature, hence no need to copy
+            convertInto(row, featureVector, null, 0);
+            return new DataSet(featureVector, featureVector);
+        } else {
+            final INDArray targetVector = Nd4j.create(1, 1);
+            convertInto(row, featureVector, targetVector, 0);
+            return new DataSet(featureVector, targetVector);
+        }
+    }
 
-        INDArray targetVector = null;
+    /**
+     * {@inheritDoc} Features and label are converted to a flat vector. If the specified target matrix is the same
+     * instance as the feature matrix or null, the target is not written separately.
+     */
+    @Override
+    public void convertInto(final DataRow row, final INDArray features, final INDArray targets, final int rowIdx)
+        throws Exception {
+        final INDArray featureVector = features.getRow(rowIdx);
+        int featureVectorCursor = 0;
 
         for (DataCell cell : row) {
             int newCursorPos = putCellToVector(featureVector, cell, featureVectorCursor);
@@ -108,15 +133,14 @@ public DataSet convert(final DataRow row) throws Exception {
                 "Length of current input does not match expected length. Possible images or collections "
                     + "may not be of same size.");
         }
-        if (isTrain()) {
-            targetVector = featureVector;
-        } else {
-            //if in test mode create empty array
-            targetVector = Nd4j.create(1);
+
+        INDArray targetVector = featureVector;
+        if (isTrain() && targets != null && targets != features) {
+            targetVector = targets.getRow(rowIdx);
+            targetVector.assign(featureVector);
         }
 
         validateDataSet(featureVector, targetVector);
-        return new DataSet(featureVector, targetVector);
     }
 
 }
@@ -48,16 +48,15 @@
  */
 package org.knime.ext.dl4j.base.data.iter;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.knime.core.data.DataRow;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.ext.dl4j.base.data.convert.row.IDataRowToDataSetConverter;
+import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.dataset.DataSet;
 import org.nd4j.linalg.dataset.api.DataSetPreProcessor;
 import org.nd4j.linalg.dataset.api.iterator.DataSetIterator;
+import org.nd4j.linalg.factory.Nd4j;
 
 /**
  * Abstract superclass for {@link DataSetIterator}s iterating a {@link BufferedDataTable}.
@@ -112,23 +111,34 @@ public boolean hasNext() {
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} The rows of the batch are converted directly into one feature and one target matrix, hence no
+     * intermediate {@link DataSet} per row is created. A new pair of matrices is allocated for each batch as the
+     * returned {@link DataSet} may still be referenced while the next batch is assembled. If the network is trained
+     * to reconstruct its input, the feature matrix is used as target matrix as well.
      */
     @Override
     public DataSet next() {
         final int numberOfRows = (int)Math.min(m_batchSize, m_table.size() - m_cursor);
-        final List<DataSet> rows = new ArrayList<DataSet>();
+        final INDArray features = Nd4j.create(numberOfRows, m_featureLength);
+        final INDArray targets;
+        if (m_rowConverter.isReconstruction()) {
+            //the target contains the same values as the feature, hence no need to allocate and copy
+            targets = features;
+        } else {
+            //target length is < 1 in test mode, use one column like the single row conversion
+            targets = Nd4j.create(numberOfRows, Math.max(m_targetLength, 1));
+        }
         //iterate and convert rows
         for (int r = 0; r < numberOfRows; r++) {
             final DataRow row = m_tableIterator.next();
             try {
-                rows.add(m_rowConverter.convert(row));
+                m_rowConverter.convertInto(row, features, targets, r);
             } catch (Exception e) {
                 throw new RuntimeException("Error in row " + row.getKey() + " : " + e.getMessage(), e);
             }
             m_cursor++;
         }
-        return DataSet.merge(rows);
+        return new DataSet(features, targets);
     }
 
     /**
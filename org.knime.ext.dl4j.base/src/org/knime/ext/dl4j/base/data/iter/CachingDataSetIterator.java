@@ -0,0 +1,325 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.dl4j.base.data.iter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.ext.dl4j.base.util.TemporaryArrayFile;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.dataset.DataSet;
+import org.nd4j.linalg.dataset.api.DataSetPreProcessor;
+import org.nd4j.linalg.dataset.api.iterator.DataSetIterator;
+
+/**
+ * {@link DataSetIterator} which wraps another {@link DataSetIterator} and writes all batches returned during the first
+ * complete pass over the wrapped iterator to a temporary file. All following passes, i.e. after {@link #reset()} was
+ * called, read the already converted batches from that file instead of converting the data again. The feature and
+ * label matrices are stored in a {@link TemporaryArrayFile}. <br>
+ * <br>
+ * If the iterator is reset before the first pass was completed, the partially written data is discarded and the next
+ * pass is recorded again. {@link #close()} must be called if the iterator is not used anymore in order to delete the
+ * temporary file.
+ *
+ * @author agent
+ */
+public class CachingDataSetIterator implements DataSetIterator, AutoCloseable {
+
+    private static final long serialVersionUID = 6358716620815542938L;
+
+    // the logger instance
+    private static final NodeLogger logger = NodeLogger.getLogger(CachingDataSetIterator.class);
+
+    private final DataSetIterator m_source;
+
+    private transient TemporaryArrayFile m_cacheFile;
+
+    /** Positions and sizes of all batches contained in the cache file. */
+    private transient List<CachedBatch> m_batches;
+
+    private transient boolean m_cacheComplete;
+
+    private transient int m_readIndex;
+
+    private transient int m_cursor;
+
+    /**
+     * Constructor for class CachingDataSetIterator specifying the iterator to wrap.
+     *
+     * @param source the iterator to wrap
+     */
+    public CachingDataSetIterator(final DataSetIterator source) {
+        m_source = source;
+        m_cacheFile = new TemporaryArrayFile("dl4j-cache-", "converted data cache");
+        m_batches = new ArrayList<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if (m_cacheComplete) {
+            return m_readIndex < m_batches.size();
+        }
+        if (m_source.hasNext()) {
+            return true;
+        }
+        m_cacheComplete = true;
+        logger.debug("Converted data cached in " + m_batches.size() + " batches (" + m_cacheFile.size() + " bytes).");
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataSet next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more batches available in the current epoch.");
+        }
+        try {
+            final DataSet next =
+                m_cacheComplete ? readBatch(m_batches.get(m_readIndex++)) : writeBatch(m_source.next());
+            m_cursor += next.numExamples();
+            return next;
+        } catch (IOException e) {
+            throw new RuntimeException("Error while accessing converted data cache: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataSet next(final int num) {
+        throw new UnsupportedOperationException("next(num) not supported");
+    }
+
+    /**
+     * Appends the features and labels of the specified batch to the cache file.
+     *
+     * @param batch the batch to write
+     * @return the specified batch
+     * @throws IOException if the cache file can't be written
+     */
+    private DataSet writeBatch(final DataSet batch) throws IOException {
+        final INDArray features = batch.getFeatureMatrix();
+        final INDArray labels = batch.getLabels();
+        if (labels == null) {
+            throw new IllegalStateException("Caching of batches without labels is not supported.");
+        }
+        final long featuresPosition = m_cacheFile.append(features);
+        final long labelsPosition = m_cacheFile.append(labels);
+        m_batches.add(new CachedBatch(featuresPosition, labelsPosition, features.rows(), features.columns(),
+            labels.columns()));
+        return batch;
+    }
+
+    /**
+     * Reads the features and labels of the specified batch from the cache file.
+     *
+     * @param batch the batch to read
+     * @return the batch read from file
+     * @throws IOException if the cache file can't be read
+     */
+    private DataSet readBatch(final CachedBatch batch) throws IOException {
+        final INDArray features =
+            m_cacheFile.read(batch.m_featuresPosition, new int[]{batch.m_rows, batch.m_featureColumns});
+        final INDArray labels =
+            m_cacheFile.read(batch.m_labelsPosition, new int[]{batch.m_rows, batch.m_labelColumns});
+        return new DataSet(features, labels);
+    }
+
+    /**
+     * {@inheritDoc} If the first pass over the wrapped iterator was completed, the following pass will read from the
+     * cache. Else the data cached so far is discarded and the wrapped iterator is reset.
+     */
+    @Override
+    public void reset() {
+        m_cursor = 0;
+        m_readIndex = 0;
+        if (!m_cacheComplete) {
+            m_batches.clear();
+            m_cacheFile.clear();
+            m_source.reset();
+        }
+    }
+
+    /**
+     * Deletes the cache file. After this method was called, the cache will be recorded again on the next pass.
+     */
+    @Override
+    public void close() {
+        m_batches.clear();
+        m_readIndex = 0;
+        m_cursor = 0;
+        if (m_cacheComplete) {
+            m_cacheComplete = false;
+            m_source.reset();
+        }
+        m_cacheFile.close();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int totalExamples() {
+        return m_source.totalExamples();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inputColumns() {
+        return m_source.inputColumns();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int totalOutcomes() {
+        return m_source.totalOutcomes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean resetSupported() {
+        return m_source.resetSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean asyncSupported() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int batch() {
+        return m_source.batch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int cursor() {
+        return m_cursor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int numExamples() {
+        return m_source.numExamples();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPreProcessor(final DataSetPreProcessor preProcessor) {
+        throw new UnsupportedOperationException("setPreProcessor is not supported");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataSetPreProcessor getPreProcessor() {
+        throw new UnsupportedOperationException("getPreProcessor is not supported");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> getLabels() {
+        return m_source.getLabels();
+    }
+
+    /**
+     * Location and dimensions of a batch in the cache file.
+     */
+    private static final class CachedBatch {
+
+        private final long m_featuresPosition;
+
+        private final long m_labelsPosition;
+
+        private final int m_rows;
+
+        private final int m_featureColumns;
+
+        private final int m_labelColumns;
+
+        CachedBatch(final long featuresPosition, final long labelsPosition, final int rows, final int featureColumns,
+            final int labelColumns) {
+            m_featuresPosition = featuresPosition;
+            m_labelsPosition = labelsPosition;
+            m_rows = rows;
+            m_featureColumns = featureColumns;
+            m_labelColumns = labelColumns;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.dl4j.base.data.iter;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadUtils;
+import org.nd4j.linalg.dataset.DataSet;
+import org.nd4j.linalg.dataset.api.DataSetPreProcessor;
+import org.nd4j.linalg.dataset.api.iterator.DataSetIterator;
+
+/**
+ * {@link DataSetIterator} which wraps another {@link DataSetIterator} and assembles the next batches of the wrapped
+ * iterator on a background thread. This allows to convert rows while the network is trained on the current batch. The
+ * number of batches which are assembled ahead is limited by the queue size. <br>
+ * <br>
+ * The wrapped iterator is only accessed by the background thread while an epoch is running. Calling {@link #reset()}
+ * stops the background thread before the wrapped iterator is reset. {@link #close()} or {@link #shutdown()} must be
+ * called if the iterator is not used anymore, e.g. if training was cancelled in the middle of an epoch.
+ *
+ * @author agent
+ */
+public class PrefetchingDataSetIterator implements DataSetIterator, AutoCloseable {
+
+    private static final long serialVersionUID = -2281367915467430870L;
+
+    // the logger instance
+    private static final NodeLogger logger = NodeLogger.getLogger(PrefetchingDataSetIterator.class);
+
+    /** Timeout used by the producer to check if it should stop while waiting for free space in the queue. */
+    private static final long OFFER_TIMEOUT_MS = 100;
+
+    private final DataSetIterator m_source;
+
+    private final int m_queueSize;
+
+    private transient Producer m_producer;
+
+    private transient DataSet m_next;
+
+    private transient boolean m_exhausted;
+
+    /**
+     * Constructor for class PrefetchingDataSetIterator specifying the iterator to wrap and the maximum number of
+     * batches to assemble ahead.
+     *
+     * @param source the iterator to wrap
+     * @param queueSize the maximum number of batches which will be assembled ahead, must be at least one
+     */
+    public PrefetchingDataSetIterator(final DataSetIterator source, final int queueSize) {
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("Queue size must be at least one but was: " + queueSize);
+        }
+        m_source = source;
+        m_queueSize = queueSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if (m_next != null) {
+            return true;
+        }
+        if (m_exhausted) {
+            return false;
+        }
+        if (m_producer == null) {
+            m_producer = new Producer(m_source, m_queueSize);
+            ThreadUtils.threadWithContext(m_producer, "KNIME-DL4J-Prefetch").start();
+        }
+        final DataSet next = m_producer.take();
+        if (next == null) {
+            m_exhausted = true;
+            return false;
+        }
+        m_next = next;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataSet next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more batches available in the current epoch.");
+        }
+        final DataSet next = m_next;
+        m_next = null;
+        return next;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataSet next(final int num) {
+        throw new UnsupportedOperationException("next(num) not supported");
+    }
+
+    /**
+     * {@inheritDoc} Stops the background thread before the wrapped iterator is reset.
+     */
+    @Override
+    public void reset() {
+        shutdown();
+        m_source.reset();
+    }
+
+    /**
+     * Stops the background thread and discards all batches which were already assembled. Blocks until the background
+     * thread finished the batch it is currently working on. The next call of {@link #hasNext()} will start a new
+     * background thread continuing at the current position of the wrapped iterator.
+     */
+    public void shutdown() {
+        if (m_producer != null) {
+            m_producer.stop();
+            m_producer = null;
+        }
+        m_next = null;
+        m_exhausted = false;
+    }
+
+    /**
+     * Stops the background thread and closes the wrapped iterator if it is {@link AutoCloseable}.
+     *
+     * @throws Exception if the wrapped iterator can't be closed
+     */
+    @Override
+    public void close() throws Exception {
+        shutdown();
+        if (m_source instanceof AutoCloseable) {
+            ((AutoCloseable)m_source).close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int totalExamples() {
+        return m_source.totalExamples();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inputColumns() {
+        return m_source.inputColumns();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int totalOutcomes() {
+        return m_source.totalOutcomes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean resetSupported() {
+        return m_source.resetSupported();
+    }
+
+    /**
+     * Returns false as this iterator already assembles batches asynchronously.
+     */
+    @Override
+    public boolean asyncSupported() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int batch() {
+        return m_source.batch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int cursor() {
+        return m_source.cursor();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int numExamples() {
+        return m_source.numExamples();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPreProcessor(final DataSetPreProcessor preProcessor) {
+        m_source.setPreProcessor(preProcessor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataSetPreProcessor getPreProcessor() {
+        return m_source.getPreProcessor();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> getLabels() {
+        return m_source.getLabels();
+    }
+
+    /**
+     * Runnable assembling the batches of one epoch of the wrapped iterator and putting them into a bounded queue.
+     * Each epoch uses its own producer so batches of a stopped producer can't leak into the next epoch.
+     */
+    private static final class Producer implements Runnable {
+
+        /** Marker signalling that the producer is finished. */
+        private static final DataSet END_OF_EPOCH = new DataSet();
+
+        private final DataSetIterator m_iterator;
+
+        private final BlockingQueue<DataSet> m_queue;
+
+        private final Object m_finishedLock = new Object();
+
+        private volatile boolean m_stopped = false;
+
+        private boolean m_finished = false;
+
+        private volatile Throwable m_error;
+
+        Producer(final DataSetIterator iterator, final int queueSize) {
+            m_iterator = iterator;
+            m_queue = new ArrayBlockingQueue<>(queueSize + 1);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!m_stopped && m_iterator.hasNext()) {
+                    if (!offer(m_iterator.next())) {
+                        return;
+                    }
+                }
+            } catch (Throwable t) {
+                // rethrown in the training thread by take()
+                m_error = t;
+            } finally {
+                // there is always space for the marker as the queue is one element larger than the queue size
+                m_queue.offer(END_OF_EPOCH);
+                synchronized (m_finishedLock) {
+                    m_finished = true;
+                    m_finishedLock.notifyAll();
+                }
+            }
+        }
+
+        /**
+         * Puts the specified batch into the queue. Waits for free space but periodically checks if the producer was
+         * stopped. Leaves one space free for the end marker.
+         *
+         * @return false if the producer was stopped before the batch could be put into the queue
+         */
+        private boolean offer(final DataSet batch) throws InterruptedException {
+            while (!m_stopped) {
+                if (m_queue.remainingCapacity() > 1 && m_queue.offer(batch)) {
+                    return true;
+                }
+                synchronized (m_queue) {
+                    m_queue.wait(OFFER_TIMEOUT_MS);
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Retrieves the next batch, waiting if necessary until it was assembled.
+         *
+         * @return the next batch or null if the epoch is finished
+         * @throws RuntimeException if there was an error while assembling the batch
+         */
+        DataSet take() {
+            final DataSet next;
+            try {
+                next = m_queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for the next batch.", e);
+            }
+            synchronized (m_queue) {
+                m_queue.notifyAll();
+            }
+            if (next == END_OF_EPOCH) {
+                if (m_error != null) {
+                    if (m_error instanceof RuntimeException) {
+                        throw (RuntimeException)m_error;
+                    }
+                    throw new RuntimeException(m_error.getMessage(), m_error);
+                }
+                return null;
+            }
+            return next;
+        }
+
+        /**
+         * Stops this producer and waits until it is finished. The wrapped iterator is not accessed anymore after this
+         * method returned. If the calling thread is interrupted while waiting, it still waits until the producer is
+         * finished and restores the interrupt status afterwards.
+         */
+        void stop() {
+            m_stopped = true;
+            synchronized (m_queue) {
+                m_queue.notifyAll();
+            }
+            boolean interrupted = false;
+            synchronized (m_finishedLock) {
+                while (!m_finished) {
+                    try {
+                        m_finishedLock.wait(OFFER_TIMEOUT_MS);
+                    } catch (InterruptedException e) {
+                        // keep waiting, callers like reset() rely on the wrapped iterator not being accessed anymore
+                        interrupted = true;
+                        logger.debug("Interrupted while waiting for prefetching thread to finish.", e);
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            m_queue.clear();
+        }
+    }
+}
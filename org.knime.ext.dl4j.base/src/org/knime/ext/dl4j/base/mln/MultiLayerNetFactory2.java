@@ -240,15 +240,19 @@ protected NeuralNetConfiguration.ListBuilder createListBuilderWithLearnerParamet
         OptimizationAlgorithm m_optimization = DL4JOptimizationAlgorithm
             .fromToString(lp.getString(LearnerParameter.OPTIMIZATION_ALGORITHM, LearnerParameter.DEFAULT_OPTIMIZATION))
             .getDL4JValue();
+        WorkspaceMode m_trainingWorkspaceMode = WorkspaceMode.valueOf(
+            lp.getString(LearnerParameter.TRAINING_WORKSPACE_MODE, LearnerParameter.DEFAULT_WORKSPACE_MODE));
+        WorkspaceMode m_inferenceWorkspaceMode = WorkspaceMode.valueOf(
+            lp.getString(LearnerParameter.INFERENCE_WORKSPACE_MODE, LearnerParameter.DEFAULT_WORKSPACE_MODE));
 
         final NeuralNetConfiguration.Builder nnConfigBuilder = new NeuralNetConfiguration.Builder();
 
         /*
          * Since 0.9.1: Use DL4J workspaces which makes training faster and we can reduce the number of GC calls of DL4J.
-         * For now use WorkspaceMode.SEPARATE for both training and inference.
+         * Defaults to WorkspaceMode.SEPARATE for both training and inference if not configured.
          */
-        nnConfigBuilder.inferenceWorkspaceMode(WorkspaceMode.SEPARATE);
-        nnConfigBuilder.trainingWorkspaceMode(WorkspaceMode.SEPARATE);
+        nnConfigBuilder.inferenceWorkspaceMode(m_inferenceWorkspaceMode);
+        nnConfigBuilder.trainingWorkspaceMode(m_trainingWorkspaceMode);
 
         /*
          * Need to overwrite global parameters for each layer separately as setting the parameter
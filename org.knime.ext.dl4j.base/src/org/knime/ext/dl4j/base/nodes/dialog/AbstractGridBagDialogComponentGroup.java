@@ -58,6 +58,7 @@
 import java.util.List;
 
 import javax.swing.JComboBox;
+import javax.swing.JFileChooser;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JSeparator;
@@ -76,6 +77,7 @@
 import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnFilter2;
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnNameSelection;
+import org.knime.core.node.defaultnodesettings.DialogComponentFileChooser;
 import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.core.node.defaultnodesettings.DialogComponentNumberEdit;
 import org.knime.core.node.defaultnodesettings.DialogComponentString;
@@ -612,6 +614,24 @@ protected void addComboBoxRow(final SettingsModelString settings, final String l
         addDoubleColumnRow(labelComp, comboBoxComp);
     }
 
+    /**
+     * Adds a row containing a file chooser. The label is displayed as the border title of the file chooser.
+     *
+     * @param settings the settings of the file chooser
+     * @param label the label of the file chooser
+     * @param historyID the id of the history of recently selected files
+     * @param directoryOnly whether only directories can be selected
+     */
+    protected void addFileChooserRowComponent(final SettingsModelString settings, final String label,
+        final String historyID, final boolean directoryOnly) {
+        DialogComponentFileChooser fileChooserComponent =
+            new DialogComponentFileChooser(settings, historyID, JFileChooser.SAVE_DIALOG, directoryOnly);
+        fileChooserComponent.setBorderTitle(label);
+        m_components.add(fileChooserComponent);
+
+        addComponent(fileChooserComponent.getComponentPanel());
+    }
+
     /**
      * Adds a row containing a column name selection combobox.
      *
@@ -96,7 +96,7 @@ protected AutoEncoderLayerNodeModel() {
     @Override
     protected DLModelPortObject[] execute(final PortObject[] inData, final ExecutionContext exec) throws Exception {
         final DLModelPortObject portObject = (DLModelPortObject)inData[0];
-        final List<Layer> newLayers = portObject.getLayers();
+        final List<Layer> newLayers = new ArrayList<>(portObject.getLayers());
 
         //parameters
         final int nOut = m_dnnParameterSettings.getInteger(LayerParameter.NUMBER_OF_OUTPUTS);
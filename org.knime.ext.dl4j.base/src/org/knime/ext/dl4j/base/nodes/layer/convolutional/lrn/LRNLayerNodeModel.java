@@ -89,7 +89,7 @@ protected LRNLayerNodeModel() {
     @Override
     protected DLModelPortObject[] execute(final PortObject[] inData, final ExecutionContext exec) throws Exception {
         final DLModelPortObject portObject = (DLModelPortObject)inData[0];
-        final List<Layer> newLayers = portObject.getLayers();
+        final List<Layer> newLayers = new ArrayList<>(portObject.getLayers());
 
         //parameters
         final int k = m_dnnParameterSettings.getInteger(LayerParameter.LRN_K);
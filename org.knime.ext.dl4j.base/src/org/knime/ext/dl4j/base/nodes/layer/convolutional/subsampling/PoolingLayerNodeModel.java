@@ -94,7 +94,7 @@ protected PoolingLayerNodeModel() {
     protected DLModelPortObject[] execute(final PortObject[] inData, final ExecutionContext exec) throws Exception {
 
         final DLModelPortObject portObject = (DLModelPortObject)inData[0];
-        final List<Layer> newLayers = portObject.getLayers();
+        final List<Layer> newLayers = new ArrayList<>(portObject.getLayers());
 
         //parameters
         final SubsamplingLayer.PoolingType poolingType =
@@ -42,14 +42,25 @@
  *******************************************************************************/
 package org.knime.ext.dl4j.base.nodes.learn;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.nio.file.InvalidPathException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.deeplearning4j.nn.api.Updater;
+import org.deeplearning4j.nn.api.layers.IOutputLayer;
+import org.deeplearning4j.nn.conf.MultiLayerConfiguration;
 import org.deeplearning4j.nn.conf.layers.Layer;
 import org.deeplearning4j.nn.conf.layers.OutputLayer;
 import org.deeplearning4j.nn.multilayer.MultiLayerNetwork;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
@@ -57,13 +68,22 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.util.FileUtil;
 import org.knime.core.util.Pair;
 import org.knime.ext.dl4j.base.AbstractDLNodeModel;
 import org.knime.ext.dl4j.base.DLModelPortObjectSpec;
+import org.knime.ext.dl4j.base.data.iter.CachingDataSetIterator;
+import org.knime.ext.dl4j.base.data.iter.PrefetchingDataSetIterator;
 import org.knime.ext.dl4j.base.nodes.layer.DNNLayerType;
 import org.knime.ext.dl4j.base.nodes.learn.view.HistoryEntry;
 import org.knime.ext.dl4j.base.nodes.learn.view.LearningMonitor;
 import org.knime.ext.dl4j.base.nodes.learn.view.LearningStatus;
+import org.knime.ext.dl4j.base.nodes.learn.view.ScoreBuffer;
+import org.knime.ext.dl4j.base.settings.enumerate.DataParameter;
+import org.knime.ext.dl4j.base.settings.enumerate.LearnerParameter;
+import org.knime.ext.dl4j.base.settings.impl.AbstractMapSetParameterSettingsModels;
+import org.knime.ext.dl4j.base.settings.impl.DataParameterSettingsModels2;
+import org.knime.ext.dl4j.base.settings.impl.LearnerParameterSettingsModels2;
 import org.knime.ext.dl4j.base.util.ConfigurationUtils;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.dataset.DataSet;
@@ -90,6 +110,12 @@ public abstract class AbstractDLLearnerNodeModel extends AbstractDLNodeModel {
     /** The current score of this learner. */
     private Double m_score = null;
 
+    /** Number of recent scores kept for the view. */
+    private static final int SCORE_BUFFER_CAPACITY = 1024;
+
+    /** The recently sampled scores, polled by the view. */
+    private final ScoreBuffer m_scoreBuffer = new ScoreBuffer(SCORE_BUFFER_CAPACITY);
+
     /** The current learning status. */
     private LearningStatus m_learningStatus = null;
 
@@ -99,6 +125,65 @@ public abstract class AbstractDLLearnerNodeModel extends AbstractDLNodeModel {
     /** List to store the learning history. */
     private final List<HistoryEntry> m_history = new ArrayList<HistoryEntry>();
 
+    /** Trainer used for data parallel training, null if training is not done in parallel. */
+    private ParameterAveragingTrainer m_parallelTrainer = null;
+
+    /** The mean score of the workers in the last parallel training round, null if not trained in parallel yet. */
+    private Double m_parallelScore = null;
+
+    /** Monitor deciding when to stop training, null if early stopping is not enabled. */
+    private EarlyStoppingMonitor m_earlyStopping = null;
+
+    /** The data used to compute the validation score for early stopping, null if early stopping is not enabled. */
+    private DataSetIterator m_validationData = null;
+
+    /** Whether to train layers on cached activations of the layers below. */
+    private boolean m_cacheActivations = false;
+
+    /** The cached input of the output layer used for finetuning, null if not computed yet. */
+    private ActivationCache m_frozenActivations = null;
+
+    /** The optional data parameters for prefetching, caching, data parallel training and score sampling. */
+    protected static final Set<DataParameter> TRAINING_PARAMETERS = Collections.unmodifiableSet(
+        EnumSet.of(DataParameter.USE_PREFETCHING, DataParameter.PREFETCH_QUEUE_SIZE, DataParameter.USE_DATA_CACHE,
+            DataParameter.USE_DATA_PARALLEL, DataParameter.NUMBER_OF_WORKERS, DataParameter.AVERAGING_FREQUENCY,
+            DataParameter.SCORE_SAMPLING_FREQUENCY, DataParameter.SCORE_SAMPLING_INTERVAL));
+
+    /** The optional data parameters for early stopping. */
+    protected static final Set<DataParameter> EARLY_STOPPING_PARAMETERS = Collections
+        .unmodifiableSet(EnumSet.of(DataParameter.USE_EARLY_STOPPING, DataParameter.EARLY_STOPPING_PATIENCE));
+
+    /** The optional data parameters for training checkpoints. */
+    protected static final Set<DataParameter> CHECKPOINT_PARAMETERS =
+        Collections.unmodifiableSet(EnumSet.of(DataParameter.USE_CHECKPOINTS, DataParameter.CHECKPOINT_FREQUENCY,
+            DataParameter.RESUME_FROM_CHECKPOINT, DataParameter.CHECKPOINT_DIRECTORY));
+
+    /** The optional data parameters for caching layer activations. */
+    protected static final Set<DataParameter> ACTIVATION_CACHE_PARAMETERS =
+        Collections.unmodifiableSet(EnumSet.of(DataParameter.USE_ACTIVATION_CACHE));
+
+    /** The optional learner parameters for DL4J workspace modes. */
+    protected static final Set<LearnerParameter> WORKSPACE_MODE_PARAMETERS = Collections.unmodifiableSet(
+        EnumSet.of(LearnerParameter.TRAINING_WORKSPACE_MODE, LearnerParameter.INFERENCE_WORKSPACE_MODE));
+
+    /**
+     * Training loop of a learner, trains a network for the configured number of epochs.
+     */
+    @FunctionalInterface
+    protected interface TrainingLoop {
+
+        /**
+         * Trains the specified network on the specified data.
+         *
+         * @param mln the network to train
+         * @param trainedEpochs the number of epochs restored from a checkpoint, 0 if training starts from the
+         *            beginning
+         * @param data the training data
+         * @throws Exception
+         */
+        void train(MultiLayerNetwork mln, int trainedEpochs, DataSetIterator data) throws Exception;
+    }
+
     /**
      * Super constructor for class AbstractDLLearnerNodeModel passing through parameters to node model class.
      *
@@ -229,17 +314,42 @@ protected void transferFullInitialization(final MultiLayerNetwork from, final Mu
 
     /**
      * Performs one epoch of pretraining of the specified {@link MultiLayerNetwork}. Checks {@link LearningMonitor} of
-     * this learner if learning should be prematurely stopped.
+     * this learner if learning should be prematurely stopped. If activation caching is enabled and training is not
+     * done in parallel, the activations of each pretrained layer are computed once and the following layer is trained
+     * on them, instead of computing the forward pass through all lower layers for every batch.
      *
      * @param mln the network to train
      * @param data the data to train on
      * @param exec used to check for cancelled execution and stop learning
      * @throws CanceledExecutionException
+     * @throws IOException if the activation cache can't be accessed
      */
     protected void pretrainOneEpoch(final MultiLayerNetwork mln, final DataSetIterator data,
-        final ExecutionContext exec) throws CanceledExecutionException {
+        final ExecutionContext exec) throws CanceledExecutionException, IOException {
+        if (m_cacheActivations && (m_parallelTrainer == null)) {
+            pretrainOneEpochCached(mln, data, exec);
+            return;
+        }
         for (int i = 0; i < mln.getnLayers(); i++){
             exec.setMessage("Performing Pretraining on Layer: " + (i+1));
+            if (m_parallelTrainer != null) {
+                final int layer = i;
+                final boolean isPretrain = mln.getLayerWiseConfigurations().isPretrain();
+                fitParallel(data, exec, (worker, batch) -> {
+                    //the workers have their own configuration, hence use the pretrain flag of the trained network
+                    final MultiLayerConfiguration conf = worker.getLayerWiseConfigurations();
+                    final boolean workerPretrain = conf.isPretrain();
+                    conf.setPretrain(isPretrain);
+                    try {
+                        worker.pretrainLayer(layer, batch.getFeatureMatrix());
+                    } finally {
+                        conf.setPretrain(workerPretrain);
+                    }
+                    return worker.getLayer(layer).score();
+                });
+                data.reset();
+                continue;
+            }
             while (data.hasNext()) {
                 exec.checkCanceled();
                 if (m_learningMonitor.checkStopLearning()) {
@@ -251,17 +361,135 @@ protected void pretrainOneEpoch(final MultiLayerNetwork mln, final DataSetIterat
         }
     }
 
+    /**
+     * Performs one epoch of layer-wise pretraining where each layer is trained on the cached activations of the
+     * previous layer. As a layer is not changed anymore once it was pretrained in the current epoch, its activations
+     * only need to be computed once. Mirrors {@link MultiLayerNetwork#pretrainLayer(int, INDArray)}.
+     *
+     * @param mln the network to train
+     * @param data the data to train on
+     * @param exec used to check for cancelled execution and stop learning
+     * @throws CanceledExecutionException
+     * @throws IOException if the activation cache can't be accessed
+     */
+    private void pretrainOneEpochCached(final MultiLayerNetwork mln, final DataSetIterator data,
+        final ExecutionContext exec) throws CanceledExecutionException, IOException {
+        if (!mln.getLayerWiseConfigurations().isPretrain()) {
+            return;
+        }
+        int lastPretrainLayer = -1;
+        for (int i = 0; i < mln.getnLayers(); i++) {
+            if (mln.getLayer(i).isPretrainLayer()) {
+                lastPretrainLayer = i;
+            }
+        }
+
+        //the activations of the previous layer, null for the first layer which is trained on the data directly
+        ActivationCache input = null;
+        try {
+            for (int i = 0; i <= lastPretrainLayer; i++) {
+                final org.deeplearning4j.nn.api.Layer layer = mln.getLayer(i);
+                if (layer.isPretrainLayer()) {
+                    exec.setMessage("Performing Pretraining on Layer: " + (i + 1));
+                    if (input == null) {
+                        while (data.hasNext()) {
+                            exec.checkCanceled();
+                            if (m_learningMonitor.checkStopLearning()) {
+                                return;
+                            }
+                            mln.pretrainLayer(i, data.next().getFeatureMatrix());
+                        }
+                        data.reset();
+                    } else {
+                        for (int b = 0; b < input.size(); b++) {
+                            exec.checkCanceled();
+                            if (m_learningMonitor.checkStopLearning()) {
+                                return;
+                            }
+                            layer.conf().setPretrain(true);
+                            layer.fit(input.get(b)[0]);
+                            layer.conf().setPretrain(false);
+                        }
+                    }
+                }
+                if (i < lastPretrainLayer) {
+                    exec.setMessage("Caching Activations of Layer: " + (i + 1));
+                    final ActivationCache output = cacheActivations(mln, i, input, data, exec);
+                    if (input != null) {
+                        input.close();
+                    }
+                    input = output;
+                }
+            }
+        } finally {
+            if (input != null) {
+                input.close();
+            }
+        }
+    }
+
+    /**
+     * Computes the activations of the specified layer for all batches of the specified input and caches them. The
+     * input is either the cached activations of the previous layer or, for the first layer, the specified data.
+     *
+     * @param mln the network to compute the activations with
+     * @param layer the index of the layer
+     * @param input the activations of the previous layer, null if the data should be used
+     * @param data the data to train on, only used if input is null
+     * @param exec used to check for cancelled execution
+     * @return the cache containing the activations of the layer, must be closed after use
+     * @throws CanceledExecutionException
+     * @throws IOException if the activation cache can't be accessed
+     */
+    private ActivationCache cacheActivations(final MultiLayerNetwork mln, final int layer,
+        final ActivationCache input, final DataSetIterator data, final ExecutionContext exec)
+        throws CanceledExecutionException, IOException {
+        final ActivationCache output = new ActivationCache();
+        try {
+            if (input == null) {
+                while (data.hasNext()) {
+                    exec.checkCanceled();
+                    output.add(activateLayer(mln, layer, data.next().getFeatureMatrix()));
+                }
+                data.reset();
+            } else {
+                for (int b = 0; b < input.size(); b++) {
+                    exec.checkCanceled();
+                    output.add(activateLayer(mln, layer, input.get(b)[0]));
+                }
+            }
+            return output;
+        } catch (CanceledExecutionException | IOException | RuntimeException e) {
+            output.close();
+            throw e;
+        }
+    }
+
+    private static INDArray activateLayer(final MultiLayerNetwork mln, final int layer, final INDArray input) {
+        //input pre processors use the mini batch size of the network input
+        mln.setInput(input);
+        return mln.activationFromPrevLayer(layer, input, true);
+    }
+
     /**
      * Performs one epoch of finetuning of the specified {@link MultiLayerNetwork}. Checks {@link LearningMonitor} of
-     * this learner if learning should be prematurely stopped.
+     * this learner if learning should be prematurely stopped. If activation caching is enabled, the input of the
+     * output layer is computed once in the first epoch and reused in the following epochs, as finetuning only changes
+     * the output layer and all other layers are frozen.
      *
      * @param mln the network to train
      * @param data the data to train on
      * @param exec used to check for cancelled execution and stop learning
      * @throws CanceledExecutionException
+     * @throws IOException if the activation cache can't be accessed
      */
     protected void finetuneOneEpoch(final MultiLayerNetwork mln, final DataSetIterator data,
-        final ExecutionContext exec) throws CanceledExecutionException {
+        final ExecutionContext exec) throws CanceledExecutionException, IOException {
+        if (m_cacheActivations && mln.getLayerWiseConfigurations().isBackprop()
+            && (mln.getOutputLayer() instanceof IOutputLayer)) {
+            finetuneOneEpochCached(mln, data, exec);
+            return;
+        }
         exec.setMessage("Performing Finetuning");
         while (data.hasNext()) {
             exec.checkCanceled();
@@ -279,6 +507,44 @@ protected void finetuneOneEpoch(final MultiLayerNetwork mln, final DataSetIterat
         }
     }
 
+    /**
+     * Performs one epoch of finetuning on the cached input of the output layer. The cache is created on the first call
+     * and released by {@link #finishActivationCache()}. Mirrors {@link MultiLayerNetwork#finetune()}.
+     *
+     * @param mln the network to train
+     * @param data the data to train on, only used if the cache was not created yet
+     * @param exec used to check for cancelled execution and stop learning
+     * @throws CanceledExecutionException
+     * @throws IOException if the activation cache can't be accessed
+     */
+    private void finetuneOneEpochCached(final MultiLayerNetwork mln, final DataSetIterator data,
+        final ExecutionContext exec) throws CanceledExecutionException, IOException {
+        final IOutputLayer outputLayer = (IOutputLayer)mln.getOutputLayer();
+        if (m_frozenActivations == null) {
+            exec.setMessage("Caching Activations of Frozen Layers");
+            m_frozenActivations = new ActivationCache();
+            while (data.hasNext()) {
+                exec.checkCanceled();
+                final DataSet next = data.next();
+                if ((next.getFeatureMatrix() == null) || (next.getLabels() == null)) {
+                    break;
+                }
+                mln.setInput(next.getFeatureMatrix());
+                mln.feedForward();
+                m_frozenActivations.add(outputLayer.input(), next.getLabels());
+            }
+        }
+        exec.setMessage("Performing Finetuning");
+        for (int b = 0; b < m_frozenActivations.size(); b++) {
+            exec.checkCanceled();
+            if (m_learningMonitor.checkStopLearning()) {
+                break;
+            }
+            final INDArray[] batch = m_frozenActivations.get(b);
+            outputLayer.fit(batch[0], batch[1]);
+        }
+    }
+
     /**
      * Performs one epoch of backpropagation with gradient descent of the specified {@link MultiLayerNetwork}. Checks
      * {@link LearningMonitor} of this learner if learning should be prematurely stopped.
@@ -300,6 +566,21 @@ protected void backpropOneEpoch(final MultiLayerNetwork mln, final DataSetIterat
         if (isPretrain) {
             mln.getLayerWiseConfigurations().setPretrain(false);
         }
+        if (m_parallelTrainer != null) {
+            fitParallel(data, exec, (worker, batch) -> {
+                final MultiLayerConfiguration conf = worker.getLayerWiseConfigurations();
+                final boolean workerPretrain = conf.isPretrain();
+                conf.setPretrain(false);
+                try {
+                    worker.fit(batch);
+                } finally {
+                    conf.setPretrain(workerPretrain);
+                }
+                return worker.score();
+            });
+            mln.getLayerWiseConfigurations().setPretrain(isPretrain);
+            return;
+        }
         while (data.hasNext()) {
             exec.checkCanceled();
             if (m_learningMonitor.checkStopLearning()) {
@@ -311,6 +592,451 @@ protected void backpropOneEpoch(final MultiLayerNetwork mln, final DataSetIterat
         mln.getLayerWiseConfigurations().setPretrain(isPretrain);
     }
 
+    /**
+     * Sets the specified parameters in the specified settings and marks them as optional, see
+     * {@link #markAsOptional(org.knime.core.node.defaultnodesettings.SettingsModel)}. May be called from
+     * {@link #initSettingsModels()}.
+     *
+     * @param settings the settings to set the parameters in
+     * @param parameters the parameters to set
+     */
+    protected <E extends Enum<E>> void setOptionalParameters(final AbstractMapSetParameterSettingsModels<E> settings,
+        final Set<E> parameters) {
+        for (final E parameter : parameters) {
+            settings.setParameter(parameter);
+            markAsOptional(settings.getParameter(parameter));
+        }
+    }
+
+    /**
+     * Trains the specified network using the specified training loop. Prefetching, data caching, early stopping,
+     * checkpoints, data parallel training and the activation cache are set up according to the specified data
+     * parameters before the loop is started and released afterwards, even if training fails. Must be called after the
+     * network is fully initialised.
+     *
+     * @param mln the network to train
+     * @param input the training data
+     * @param validationData the validation data for early stopping, may be null if not available
+     * @param dataSettings the data parameters, may not contain the optional training parameters
+     * @param loop the training loop
+     * @throws Exception
+     */
+    protected void runTraining(final MultiLayerNetwork mln, final DataSetIterator input,
+        final DataSetIterator validationData, final DataParameterSettingsModels2 dataSettings,
+        final TrainingLoop loop) throws Exception {
+        final DataSetIterator data = wrapTrainingIterator(input, dataSettings);
+        try {
+            initEarlyStopping(validationData, dataSettings);
+            final int trainedEpochs = resumeFromCheckpoint(mln, dataSettings);
+            initParallelTraining(mln, dataSettings);
+            initActivationCache(dataSettings);
+            loop.train(mln, trainedEpochs, data);
+        } finally {
+            finishParallelTraining();
+            finishActivationCache();
+            finishEarlyStopping(mln);
+            closeTrainingIterator(data);
+        }
+    }
+
+    /**
+     * Wraps the specified training data iterator according to the specified data parameters. If enabled, the
+     * converted data of the first epoch is cached for the following epochs and batches are prefetched on a background
+     * thread. The returned iterator must be closed using {@link #closeTrainingIterator(DataSetIterator)} after
+     * training.
+     *
+     * @param input the iterator to wrap
+     * @param dataSettings the data parameters, may not contain the caching and prefetching parameters
+     * @return the wrapped iterator or the specified iterator if nothing is enabled
+     */
+    protected DataSetIterator wrapTrainingIterator(final DataSetIterator input,
+        final DataParameterSettingsModels2 dataSettings) {
+        DataSetIterator wrapped = input;
+        if (dataSettings.getBoolean(DataParameter.USE_DATA_CACHE, DataParameter.DEFAULT_USE_DATA_CACHE)) {
+            wrapped = new CachingDataSetIterator(wrapped);
+        }
+        if (dataSettings.getBoolean(DataParameter.USE_PREFETCHING, DataParameter.DEFAULT_USE_PREFETCHING)) {
+            wrapped =
+                new PrefetchingDataSetIterator(wrapped, dataSettings.getInteger(DataParameter.PREFETCH_QUEUE_SIZE));
+        }
+        return wrapped;
+    }
+
+    /**
+     * Releases resources of a iterator created by {@link #wrapTrainingIterator(DataSetIterator,
+     * DataParameterSettingsModels2)}, i.e. stops background threads and deletes cache files.
+     *
+     * @param input the iterator to close
+     */
+    protected void closeTrainingIterator(final DataSetIterator input) {
+        if (input instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable)input).close();
+            } catch (Exception e) {
+                logger.warn("Could not release resources of training data: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Trains the workers of the parallel trainer on the batches of the specified iterator. In each round, every worker
+     * receives one batch. Checks {@link LearningMonitor} of this learner if learning should be prematurely stopped.
+     * Afterwards the parameters of all workers are averaged into the trained network.
+     *
+     * @param data the data to train on
+     * @param exec used to check for cancelled execution and stop learning
+     * @param step the training operation to perform on each batch
+     * @throws CanceledExecutionException
+     */
+    private void fitParallel(final DataSetIterator data, final ExecutionContext exec,
+        final ParameterAveragingTrainer.TrainingStep step) throws CanceledExecutionException {
+        final List<DataSet> round = new ArrayList<>(m_parallelTrainer.getNumberOfWorkers());
+        try {
+            while (data.hasNext()) {
+                exec.checkCanceled();
+                if (m_learningMonitor.checkStopLearning()) {
+                    round.clear();
+                    break;
+                }
+                round.add(data.next());
+                if (round.size() == m_parallelTrainer.getNumberOfWorkers()) {
+                    //report the mean score of the workers, as the listener does for single threaded training
+                    m_parallelScore = m_parallelTrainer.fit(round, step);
+                    reportScore(m_parallelScore);
+                    round.clear();
+                }
+            }
+            if (!round.isEmpty()) {
+                m_parallelScore = m_parallelTrainer.fit(round, step);
+                reportScore(m_parallelScore);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while waiting for training workers.");
+        }
+        m_parallelTrainer.average();
+    }
+
+    /**
+     * Enables data parallel training for the specified network if configured in the specified data parameters. If
+     * enabled, {@link #backpropOneEpoch(MultiLayerNetwork, DataSetIterator, ExecutionContext)} and
+     * {@link #pretrainOneEpoch(MultiLayerNetwork, DataSetIterator, ExecutionContext)} will train replicas of the
+     * network in parallel. Must be called after the network is fully initialised and before training. After training
+     * {@link #finishParallelTraining()} must be called.
+     *
+     * @param mln the network to train
+     * @param dataSettings the data parameters, may not contain the data parallel parameters
+     */
+    protected void initParallelTraining(final MultiLayerNetwork mln,
+        final DataParameterSettingsModels2 dataSettings) {
+        if (dataSettings.getBoolean(DataParameter.USE_DATA_PARALLEL, DataParameter.DEFAULT_USE_DATA_PARALLEL)) {
+            m_parallelTrainer = new ParameterAveragingTrainer(mln,
+                dataSettings.getInteger(DataParameter.NUMBER_OF_WORKERS),
+                dataSettings.getInteger(DataParameter.AVERAGING_FREQUENCY));
+        }
+    }
+
+    /**
+     * Averages the parameters of the workers into the trained network and stops the worker threads if data parallel
+     * training was enabled using {@link #initParallelTraining(MultiLayerNetwork, DataParameterSettingsModels2)}.
+     */
+    protected void finishParallelTraining() {
+        if (m_parallelTrainer != null) {
+            try {
+                m_parallelTrainer.close();
+            } finally {
+                m_parallelTrainer = null;
+                m_parallelScore = null;
+            }
+        }
+    }
+
+    /**
+     * Enables caching of layer activations if configured in the specified data parameters. If enabled,
+     * {@link #pretrainOneEpoch(MultiLayerNetwork, DataSetIterator, ExecutionContext)} trains each layer on the cached
+     * activations of the previous layer and
+     * {@link #finetuneOneEpoch(MultiLayerNetwork, DataSetIterator, ExecutionContext)} trains the output layer on the
+     * cached activations of the frozen layers. The activations are stored in temporary files. After training
+     * {@link #finishActivationCache()} must be called.
+     *
+     * @param dataSettings the data parameters, may not contain the activation cache parameter
+     */
+    protected void initActivationCache(final DataParameterSettingsModels2 dataSettings) {
+        m_cacheActivations = dataSettings.getBoolean(DataParameter.USE_ACTIVATION_CACHE,
+            DataParameter.DEFAULT_USE_ACTIVATION_CACHE);
+    }
+
+    /**
+     * Deletes the cached activations if caching was enabled using
+     * {@link #initActivationCache(DataParameterSettingsModels2)}.
+     */
+    protected void finishActivationCache() {
+        m_cacheActivations = false;
+        if (m_frozenActivations != null) {
+            m_frozenActivations.close();
+            m_frozenActivations = null;
+        }
+    }
+
+    /**
+     * Checks the DL4J workspace modes configured in the specified learner parameters against the specified layer
+     * types. Warnings are logged and shown at the node.
+     *
+     * @param layerTypes the types of the layers of the network to train
+     * @param learnerSettings the learner parameters, may not contain the workspace mode parameters
+     * @throws InvalidSettingsException if a configured workspace mode is invalid
+     */
+    protected void configureWorkspaceModes(final List<DNNLayerType> layerTypes,
+        final LearnerParameterSettingsModels2 learnerSettings) throws InvalidSettingsException {
+        final List<String> warnings = new ArrayList<>();
+        final String defaultMode = LearnerParameter.DEFAULT_WORKSPACE_MODE;
+        final String trainingMode = learnerSettings.getString(LearnerParameter.TRAINING_WORKSPACE_MODE, defaultMode);
+        final String inferenceMode = learnerSettings.getString(LearnerParameter.INFERENCE_WORKSPACE_MODE, defaultMode);
+        warnings.addAll(ConfigurationUtils.validateWorkspaceMode(layerTypes, trainingMode, true));
+        warnings.addAll(ConfigurationUtils.validateWorkspaceMode(layerTypes, inferenceMode, false));
+        if (!warnings.isEmpty()) {
+            logWarnings(logger, warnings);
+            setWarningMessage(String.join("\n", warnings));
+        }
+    }
+
+    /**
+     * Checks the spec of the validation table if early stopping is enabled in the specified data parameters. The
+     * validation table must contain all columns used for training.
+     *
+     * @param validationSpec the spec of the validation table, null if the validation table is not connected
+     * @param selectedColumns the columns used for training
+     * @param dataSettings the data parameters, may not contain the early stopping parameters
+     * @throws InvalidSettingsException if early stopping is enabled but the validation table is missing or does not
+     *             contain the training columns
+     */
+    protected void configureEarlyStopping(final DataTableSpec validationSpec, final List<String> selectedColumns,
+        final DataParameterSettingsModels2 dataSettings) throws InvalidSettingsException {
+        if (!dataSettings.getBoolean(DataParameter.USE_EARLY_STOPPING, DataParameter.DEFAULT_USE_EARLY_STOPPING)) {
+            if (validationSpec != null) {
+                setWarningMessage("Early stopping is not enabled, the validation table will be ignored.");
+            }
+            return;
+        }
+        if (validationSpec == null) {
+            throw new InvalidSettingsException(
+                "Early stopping requires validation data. Please connect a validation table.");
+        }
+        ConfigurationUtils.validateColumnSelection(validationSpec, selectedColumns);
+    }
+
+    /**
+     * Selects the specified columns of the specified validation table in the specified order, hence the validation
+     * data is converted the same way as the training data.
+     *
+     * @param validationTable the table to select the columns from
+     * @param columns the columns to select in the order of the training table
+     * @param exec used to create the new table
+     * @return table containing only the specified columns
+     * @throws CanceledExecutionException
+     */
+    protected BufferedDataTable selectValidationColumns(final BufferedDataTable validationTable,
+        final String[] columns, final ExecutionContext exec) throws CanceledExecutionException {
+        final ColumnRearranger crr = new ColumnRearranger(validationTable.getSpec());
+        crr.keepOnly(columns);
+        crr.permute(columns);
+        return exec.createColumnRearrangeTable(validationTable, crr, exec);
+    }
+
+    /**
+     * Enables early stopping if validation data is available and early stopping is configured in the specified data
+     * parameters. If enabled, {@link #checkEarlyStopping(MultiLayerNetwork, int, ExecutionContext)} will compute the
+     * validation score after each epoch. After training {@link #finishEarlyStopping(MultiLayerNetwork)} must be
+     * called.
+     *
+     * @param validationData the validation data, may be null if not available
+     * @param dataSettings the data parameters, may not contain the early stopping parameters
+     */
+    protected void initEarlyStopping(final DataSetIterator validationData,
+        final DataParameterSettingsModels2 dataSettings) {
+        if (validationData != null
+            && dataSettings.getBoolean(DataParameter.USE_EARLY_STOPPING, DataParameter.DEFAULT_USE_EARLY_STOPPING)) {
+            m_earlyStopping =
+                new EarlyStoppingMonitor(dataSettings.getInteger(DataParameter.EARLY_STOPPING_PATIENCE));
+            //the validation data is read once per epoch, hence it benefits from caching as much as the training data
+            m_validationData = wrapTrainingIterator(validationData, dataSettings);
+        }
+    }
+
+    /**
+     * Computes the score of the specified network on the validation data and records it, if early stopping is enabled
+     * using {@link #initEarlyStopping(DataSetIterator, DataParameterSettingsModels2)}. Should be called after each
+     * epoch.
+     *
+     * @param mln the trained network
+     * @param epoch the number of the finished epoch
+     * @param exec used to check for cancelled execution
+     * @return true if training should be stopped because the validation score did not improve anymore
+     * @throws CanceledExecutionException
+     */
+    protected boolean checkEarlyStopping(final MultiLayerNetwork mln, final int epoch, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        if (m_earlyStopping == null) {
+            return false;
+        }
+        exec.setMessage("Computing Validation Score");
+        double scoreSum = 0;
+        long numExamples = 0;
+        m_validationData.reset();
+        while (m_validationData.hasNext()) {
+            exec.checkCanceled();
+            final DataSet batch = m_validationData.next();
+            scoreSum += mln.score(batch) * batch.numExamples();
+            numExamples += batch.numExamples();
+        }
+        m_validationData.reset();
+        final double score = numExamples > 0 ? scoreSum / numExamples : Double.NaN;
+        logger.info("Validation score after epoch " + epoch + ": " + score);
+
+        if (m_earlyStopping.update(mln, score, epoch)) {
+            logger.info("Stopping training because the validation score did not improve since epoch "
+                + m_earlyStopping.getBestEpoch() + ".");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Restores the parameters of the epoch with the best validation score to the specified network and releases the
+     * validation data if early stopping was enabled using
+     * {@link #initEarlyStopping(DataSetIterator, DataParameterSettingsModels2)}. Must be called after
+     * {@link #finishParallelTraining()} as the parameters of the workers would overwrite the restored parameters.
+     *
+     * @param mln the trained network
+     */
+    protected void finishEarlyStopping(final MultiLayerNetwork mln) {
+        if (m_earlyStopping != null) {
+            try {
+                if (m_earlyStopping.restoreBest(mln)) {
+                    logger.info("Restored parameters of epoch " + m_earlyStopping.getBestEpoch()
+                        + " with validation score " + m_earlyStopping.getBestScore() + ".");
+                }
+            } finally {
+                closeTrainingIterator(m_validationData);
+                m_earlyStopping = null;
+                m_validationData = null;
+            }
+        }
+    }
+
+    /**
+     * Checks the checkpoint parameters in the specified data parameters. If checkpoints are written or resumed, the
+     * checkpoint directory must be specified.
+     *
+     * @param dataSettings the data parameters, may not contain the checkpoint parameters
+     * @throws InvalidSettingsException if the checkpoint directory is missing or invalid
+     */
+    protected void configureCheckpoints(final DataParameterSettingsModels2 dataSettings)
+        throws InvalidSettingsException {
+        if (dataSettings.getBoolean(DataParameter.USE_CHECKPOINTS, DataParameter.DEFAULT_USE_CHECKPOINTS)
+            || dataSettings.getBoolean(DataParameter.RESUME_FROM_CHECKPOINT,
+                DataParameter.DEFAULT_RESUME_FROM_CHECKPOINT)) {
+            getCheckpoint(dataSettings);
+        }
+    }
+
+    /**
+     * Creates the checkpoint located in the checkpoint directory specified in the specified data parameters. The
+     * directory may be specified as path or as URL, however it must be located in the local file system.
+     *
+     * @param dataSettings the data parameters containing the checkpoint directory
+     * @return the checkpoint in the specified directory
+     * @throws InvalidSettingsException if the checkpoint directory is missing or invalid
+     */
+    private static TrainingCheckpoint getCheckpoint(final DataParameterSettingsModels2 dataSettings)
+        throws InvalidSettingsException {
+        final String location =
+            dataSettings.getString(DataParameter.CHECKPOINT_DIRECTORY, DataParameter.DEFAULT_CHECKPOINT_DIRECTORY);
+        if ((location == null) || location.trim().isEmpty()) {
+            throw new InvalidSettingsException("Please specify a checkpoint directory.");
+        }
+        final File directory;
+        try {
+            directory = FileUtil.getFileFromURL(FileUtil.toURL(location));
+        } catch (MalformedURLException | InvalidPathException e) {
+            throw new InvalidSettingsException("Invalid checkpoint directory: " + location, e);
+        }
+        if (directory == null) {
+            throw new InvalidSettingsException("The checkpoint directory must be a local directory: " + location);
+        }
+        return new TrainingCheckpoint(directory);
+    }
+
+    /**
+     * Restores the state of the last training checkpoint to the specified network if resuming is enabled in the
+     * specified data parameters. Restores the learning history and the state of early stopping as well, hence the
+     * view shows the epochs trained before and the best epoch is not lost. Must be called after the network is fully
+     * initialised, after {@link #initEarlyStopping(DataSetIterator, DataParameterSettingsModels2)} and before
+     * {@link #initParallelTraining(MultiLayerNetwork, DataParameterSettingsModels2)}. If the checkpoint can't be
+     * restored, a warning is set and training starts from the beginning.
+     *
+     * @param mln the network to restore the checkpoint to
+     * @param dataSettings the data parameters, may not contain the checkpoint parameters
+     * @return the number of epochs already trained in the restored checkpoint, 0 if nothing was restored
+     * @throws InvalidSettingsException if the checkpoint directory is missing or invalid
+     */
+    protected int resumeFromCheckpoint(final MultiLayerNetwork mln, final DataParameterSettingsModels2 dataSettings)
+        throws InvalidSettingsException {
+        if (!dataSettings.getBoolean(DataParameter.RESUME_FROM_CHECKPOINT,
+            DataParameter.DEFAULT_RESUME_FROM_CHECKPOINT)) {
+            return 0;
+        }
+        final TrainingCheckpoint checkpoint = getCheckpoint(dataSettings);
+        if (!checkpoint.exists()) {
+            setWarningMessage("No checkpoint available to resume from, training from the beginning.");
+            return 0;
+        }
+        try {
+            final int epoch = checkpoint.restore(mln, m_history, m_earlyStopping);
+            for (final HistoryEntry entry : m_history) {
+                notifyViews(entry);
+            }
+            logger.info("Resuming training from checkpoint after epoch " + epoch + ".");
+            return epoch;
+        } catch (IOException e) {
+            logger.warn("Could not restore training checkpoint: " + e.getMessage(), e);
+            m_history.clear();
+            setWarningMessage("Could not resume from the last checkpoint, training from the beginning. Reason: "
+                + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Writes a checkpoint of the specified network and the learning history to the checkpoint directory if
+     * checkpoints are enabled in the specified data parameters and the specified epoch is due according to the
+     * checkpoint frequency. The last epoch is always written. Should be called after each epoch, after
+     * {@link #logEpochScore(MultiLayerNetwork, int)} and {@link #checkEarlyStopping(MultiLayerNetwork, int,
+     * ExecutionContext)}. Failures are logged but do not stop training.
+     *
+     * @param mln the trained network
+     * @param epoch the number of finished epochs
+     * @param maxEpochs the maximum number of epochs
+     * @param dataSettings the data parameters, may not contain the checkpoint parameters
+     * @param exec used to report the current step
+     * @throws InvalidSettingsException if the checkpoint directory is missing or invalid
+     */
+    protected void saveCheckpoint(final MultiLayerNetwork mln, final int epoch, final int maxEpochs,
+        final DataParameterSettingsModels2 dataSettings, final ExecutionContext exec) throws InvalidSettingsException {
+        if (!dataSettings.getBoolean(DataParameter.USE_CHECKPOINTS, DataParameter.DEFAULT_USE_CHECKPOINTS)) {
+            return;
+        }
+        if (((epoch % dataSettings.getInteger(DataParameter.CHECKPOINT_FREQUENCY)) != 0) && (epoch < maxEpochs)) {
+            return;
+        }
+        exec.setMessage("Saving Checkpoint");
+        try {
+            getCheckpoint(dataSettings).write(mln, epoch, m_history, m_earlyStopping);
+        } catch (IOException e) {
+            logger.warn("Could not write training checkpoint after epoch " + epoch + ": " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Checks if the last layer in the specified list of layers is a {@link OutputLayer}.
      *
@@ -349,17 +1075,39 @@ protected void updateView(final int currentEpoch, final int maxEpochs, final Str
     }
 
     /**
-     * Logs score of specified model at specified epoch in the view and adds the information to the history.
+     * Logs score of specified model at specified epoch in the view and adds the information to the history. If the
+     * model is trained in parallel, the mean score of the workers in the last round is logged instead, as the score of
+     * the model itself is not updated by averaging.
      *
      * @param m the model to get score from
      * @param epoch the epoch number to print into log message
      */
     protected void logEpochScore(final MultiLayerNetwork m, final int epoch) {
-        HistoryEntry entry = new HistoryEntry(m.score(), epoch);
+        final double score = (m_parallelTrainer != null && m_parallelScore != null) ? m_parallelScore : m.score();
+        HistoryEntry entry = new HistoryEntry(score, epoch);
         m_history.add(entry);
+        reportScore(entry.getLoss());
         notifyViews(entry);
     }
 
+    /**
+     * Reports the specified current score of the network. The score is added to the {@link ScoreBuffer} polled by the
+     * view, hence this method never blocks on the view.
+     *
+     * @param score the current score
+     */
+    public void reportScore(final double score) {
+        m_scoreBuffer.add(score);
+        setScore(score);
+    }
+
+    /**
+     * @return the buffer containing the recently reported scores
+     */
+    public ScoreBuffer getScoreBuffer() {
+        return m_scoreBuffer;
+    }
+
     /**
      * Call notifyViews on this {@link NodeModel} with the specified Object.
      *
@@ -0,0 +1,144 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.dl4j.base.nodes.learn;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.knime.ext.dl4j.base.util.TemporaryArrayFile;
+import org.nd4j.linalg.api.ndarray.INDArray;
+
+/**
+ * Temporary file based store for the activations of network layers. Used to compute the activations of layers which
+ * are not changed during training (already pretrained or frozen layers) only once instead of for every batch the
+ * following layers are trained on. Each entry consists of one or several arrays of arbitrary shape, e.g. the
+ * activations of a batch and the corresponding labels. The arrays are stored in a {@link TemporaryArrayFile}.
+ * {@link #close()} must be called if the cache is not used anymore in order to delete the temporary file.
+ *
+ * @author agent
+ */
+public class ActivationCache implements AutoCloseable {
+
+    private final TemporaryArrayFile m_file = new TemporaryArrayFile("dl4j-activations-", "activation cache");
+
+    /** Positions and shapes of all entries contained in the cache file. */
+    private final List<CachedEntry> m_entries = new ArrayList<>();
+
+    /**
+     * Constructor for class ActivationCache. The cache file is created when the first entry is added.
+     */
+    public ActivationCache() {
+    }
+
+    /**
+     * Appends an entry consisting of the specified arrays to the cache file.
+     *
+     * @param arrays the arrays to store
+     * @throws IOException if the cache file can't be written
+     */
+    public void add(final INDArray... arrays) throws IOException {
+        final long[] positions = new long[arrays.length];
+        final int[][] shapes = new int[arrays.length][];
+        for (int i = 0; i < arrays.length; i++) {
+            shapes[i] = arrays[i].shape().clone();
+            positions[i] = m_file.append(arrays[i]);
+        }
+        m_entries.add(new CachedEntry(positions, shapes));
+    }
+
+    /**
+     * Reads the entry at the specified index from the cache file.
+     *
+     * @param index the index of the entry in the order the entries were added
+     * @return the arrays of the entry in the order they were added
+     * @throws IOException if the cache file can't be read
+     */
+    public INDArray[] get(final int index) throws IOException {
+        final CachedEntry entry = m_entries.get(index);
+        final INDArray[] arrays = new INDArray[entry.m_shapes.length];
+        for (int i = 0; i < arrays.length; i++) {
+            arrays[i] = m_file.read(entry.m_positions[i], entry.m_shapes[i]);
+        }
+        return arrays;
+    }
+
+    /**
+     * Get the number of entries contained in this cache.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return m_entries.size();
+    }
+
+    /**
+     * Deletes the cache file and removes all entries.
+     */
+    @Override
+    public void close() {
+        m_entries.clear();
+        m_file.close();
+    }
+
+    /**
+     * Location and shapes of the arrays of an entry in the cache file.
+     */
+    private static final class CachedEntry {
+
+        private final long[] m_positions;
+
+        private final int[][] m_shapes;
+
+        CachedEntry(final long[] positions, final int[][] shapes) {
+            m_positions = positions;
+            m_shapes = shapes;
+        }
+    }
+}
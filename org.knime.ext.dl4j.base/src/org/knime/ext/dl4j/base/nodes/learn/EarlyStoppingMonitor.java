@@ -0,0 +1,171 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.dl4j.base.nodes.learn;
+
+import org.deeplearning4j.nn.multilayer.MultiLayerNetwork;
+import org.nd4j.linalg.api.ndarray.INDArray;
+
+/**
+ * Class to decide when to stop training based on the score of a network on validation data. Training should be stopped
+ * if the score did not improve for a configurable number of epochs (the patience). A copy of the parameters of the
+ * epoch with the best score is kept off-heap, hence the best network can be restored after training.
+ *
+ * @author agent
+ */
+public class EarlyStoppingMonitor {
+
+    private final int m_patience;
+
+    private double m_bestScore = Double.POSITIVE_INFINITY;
+
+    private int m_bestEpoch = 0;
+
+    private INDArray m_bestParams = null;
+
+    private int m_epochsWithoutImprovement = 0;
+
+    /**
+     * Constructor for class EarlyStoppingMonitor specifying the patience.
+     *
+     * @param patience the number of epochs without improvement after which training should be stopped, must be at
+     *            least one
+     */
+    public EarlyStoppingMonitor(final int patience) {
+        if (patience < 1) {
+            throw new IllegalArgumentException("The patience must be at least one but was: " + patience);
+        }
+        m_patience = patience;
+    }
+
+    /**
+     * Records the validation score of the specified network after the specified epoch. If the score is better (lower)
+     * than all previous scores, the parameters of the network are copied.
+     *
+     * @param mln the trained network
+     * @param score the score of the network on the validation data
+     * @param epoch the number of the epoch
+     * @return true if training should be stopped because the score did not improve for the number of epochs specified
+     *         by the patience
+     */
+    public boolean update(final MultiLayerNetwork mln, final double score, final int epoch) {
+        //NaN scores never count as improvement
+        if (score < m_bestScore) {
+            m_bestScore = score;
+            m_bestEpoch = epoch;
+            m_epochsWithoutImprovement = 0;
+            if (m_bestParams == null) {
+                m_bestParams = mln.params().dup();
+            } else {
+                //reuse the buffer of the previous snapshot
+                m_bestParams.assign(mln.params());
+            }
+            return false;
+        }
+        m_epochsWithoutImprovement++;
+        return m_epochsWithoutImprovement >= m_patience;
+    }
+
+    /**
+     * Sets the parameters of the best epoch to the specified network.
+     *
+     * @param mln the network to restore the parameters to
+     * @return true if the parameters were restored, false if no epoch was recorded yet
+     */
+    public boolean restoreBest(final MultiLayerNetwork mln) {
+        if (m_bestParams == null) {
+            return false;
+        }
+        mln.setParams(m_bestParams);
+        return true;
+    }
+
+    /**
+     * @return the best validation score recorded so far, positive infinity if no epoch was recorded yet
+     */
+    public double getBestScore() {
+        return m_bestScore;
+    }
+
+    /**
+     * @return the number of the epoch with the best validation score, zero if no epoch was recorded yet
+     */
+    public int getBestEpoch() {
+        return m_bestEpoch;
+    }
+
+    /**
+     * @return the number of epochs recorded since the last improvement of the validation score
+     */
+    public int getEpochsWithoutImprovement() {
+        return m_epochsWithoutImprovement;
+    }
+
+    /**
+     * @return the parameters of the epoch with the best validation score, null if no epoch was recorded yet
+     */
+    public INDArray getBestParams() {
+        return m_bestParams;
+    }
+
+    /**
+     * Restores the state of a previous training, e.g. when training is resumed from a checkpoint.
+     *
+     * @param bestScore the best validation score recorded
+     * @param bestEpoch the number of the epoch with the best validation score
+     * @param epochsWithoutImprovement the number of epochs recorded since the last improvement
+     * @param bestParams the parameters of the epoch with the best validation score, null if no epoch was recorded
+     */
+    public void restore(final double bestScore, final int bestEpoch, final int epochsWithoutImprovement,
+        final INDArray bestParams) {
+        m_bestScore = bestScore;
+        m_bestEpoch = bestEpoch;
+        m_epochsWithoutImprovement = epochsWithoutImprovement;
+        m_bestParams = bestParams;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.dl4j.base.nodes.learn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.deeplearning4j.nn.api.Updater;
+import org.deeplearning4j.nn.multilayer.MultiLayerNetwork;
+import org.deeplearning4j.optimize.api.IterationListener;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadUtils;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.dataset.DataSet;
+import org.nd4j.linalg.factory.Nd4j;
+
+/**
+ * Class for data parallel training of a {@link MultiLayerNetwork}. The network is replicated to a number of workers.
+ * Each worker trains its replica on different batches in its own thread. After a configurable number of rounds, the
+ * parameters (and the updater states) of all workers are averaged and the result is propagated to all workers and the
+ * original network. This is similar to the parameter averaging done by DL4Js ParallelWrapper.
+ *
+ * @author agent
+ */
+public class ParameterAveragingTrainer implements AutoCloseable {
+
+    // the logger instance
+    private static final NodeLogger logger = NodeLogger.getLogger(ParameterAveragingTrainer.class);
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final MultiLayerNetwork m_model;
+
+    private final List<MultiLayerNetwork> m_workers;
+
+    private final int m_averagingFrequency;
+
+    private final ExecutorService m_executor;
+
+    private int m_rounds = 0;
+
+    private boolean m_synchronized = true;
+
+    /**
+     * Training operation performed by a worker on one batch. The workers are cloned from the network when the trainer
+     * is created and have their own copy of the configuration, hence flags which may change afterwards (e.g.
+     * pretrain) need to be set by the training step.
+     */
+    @FunctionalInterface
+    public interface TrainingStep {
+
+        /**
+         * Trains the specified worker network on the specified batch.
+         *
+         * @param worker the worker network to train
+         * @param batch the batch to train on
+         * @return the score of the worker after training on the batch
+         */
+        double fit(MultiLayerNetwork worker, DataSet batch);
+    }
+
+    /**
+     * Constructor for class ParameterAveragingTrainer specifying the network to train, the number of workers, and how
+     * often parameters should be averaged.
+     *
+     * @param model the network to train, will contain the averaged parameters after each averaging
+     * @param numberOfWorkers the number of worker replicas, must be at least one
+     * @param averagingFrequency the number of training rounds after which parameters are averaged, must be at least one
+     */
+    public ParameterAveragingTrainer(final MultiLayerNetwork model, final int numberOfWorkers,
+        final int averagingFrequency) {
+        if (numberOfWorkers < 1) {
+            throw new IllegalArgumentException("Number of workers must be at least one but was: " + numberOfWorkers);
+        }
+        if (averagingFrequency < 1) {
+            throw new IllegalArgumentException(
+                "Averaging frequency must be at least one but was: " + averagingFrequency);
+        }
+        m_model = model;
+        m_averagingFrequency = averagingFrequency;
+        m_workers = new ArrayList<>(numberOfWorkers);
+        for (int i = 0; i < numberOfWorkers; i++) {
+            final MultiLayerNetwork worker = model.clone();
+            //score reporting is done for the averaged model
+            worker.setListeners(Collections.<IterationListener> emptyList());
+            m_workers.add(worker);
+        }
+        m_executor = Executors.newFixedThreadPool(numberOfWorkers,
+            r -> ThreadUtils.threadWithContext(r, "KNIME-DL4J-Worker-" + THREAD_COUNTER.incrementAndGet()));
+        logger.info("Using " + numberOfWorkers + " workers for data parallel training, averaging parameters every "
+            + averagingFrequency + " rounds.");
+    }
+
+    /**
+     * Returns the number of workers, hence the number of batches which can be trained in one round.
+     *
+     * @return the number of workers
+     */
+    public int getNumberOfWorkers() {
+        return m_workers.size();
+    }
+
+    /**
+     * Performs one training round. Each of the specified batches is passed to a different worker and all workers are
+     * trained in parallel. Blocks until all workers are finished. If the number of rounds since the last averaging
+     * reaches the averaging frequency, parameters are averaged.
+     *
+     * @param batches the batches to train on, at most one batch per worker
+     * @param step the training operation to perform
+     * @return the mean score of all workers trained in this round
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public double fit(final List<DataSet> batches, final TrainingStep step) throws InterruptedException {
+        if (batches.size() > m_workers.size()) {
+            throw new IllegalArgumentException("Expected at most " + m_workers.size() + " batches but got "
+                + batches.size() + ".");
+        }
+        final List<Future<Double>> futures = new ArrayList<>(batches.size());
+        for (int i = 0; i < batches.size(); i++) {
+            final MultiLayerNetwork worker = m_workers.get(i);
+            final DataSet batch = batches.get(i);
+            futures.add(m_executor.submit(() -> step.fit(worker, batch)));
+        }
+        double score = 0;
+        try {
+            for (final Future<Double> future : futures) {
+                score += future.get();
+            }
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new RuntimeException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw e;
+        }
+
+        score /= batches.size();
+
+        m_synchronized = false;
+        if (++m_rounds % m_averagingFrequency == 0) {
+            average();
+        }
+        return score;
+    }
+
+    /**
+     * Averages the parameters of all workers if they were trained since the last averaging. Afterwards the network
+     * passed to the constructor and all workers contain the same parameters.
+     */
+    public void average() {
+        if (m_synchronized) {
+            return;
+        }
+        final List<INDArray> params = new ArrayList<>(m_workers.size());
+        for (final MultiLayerNetwork worker : m_workers) {
+            params.add(worker.params());
+        }
+        Nd4j.averageAndPropagate(m_model.params(), params);
+
+        final Updater updater = m_model.getUpdater();
+        if (updater != null && updater.getStateViewArray() != null) {
+            final List<INDArray> states = new ArrayList<>(m_workers.size());
+            for (final MultiLayerNetwork worker : m_workers) {
+                final Updater workerUpdater = worker.getUpdater();
+                if (workerUpdater == null || workerUpdater.getStateViewArray() == null) {
+                    //can't average if not all updaters are initialised
+                    states.clear();
+                    break;
+                }
+                states.add(workerUpdater.getStateViewArray());
+            }
+            if (!states.isEmpty()) {
+                Nd4j.averageAndPropagate(updater.getStateViewArray(), states);
+            }
+        }
+        m_synchronized = true;
+    }
+
+    /**
+     * Averages the parameters of all workers and stops the worker threads.
+     */
+    @Override
+    public void close() {
+        try {
+            average();
+        } finally {
+            m_executor.shutdownNow();
+        }
+    }
+}
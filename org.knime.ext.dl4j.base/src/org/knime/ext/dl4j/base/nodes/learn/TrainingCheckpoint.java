@@ -0,0 +1,293 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.dl4j.base.nodes.learn;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.deeplearning4j.nn.api.Updater;
+import org.deeplearning4j.nn.multilayer.MultiLayerNetwork;
+import org.deeplearning4j.util.ModelSerializer;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.ModelContent;
+import org.knime.core.node.ModelContentRO;
+import org.knime.ext.dl4j.base.nodes.learn.view.HistoryEntry;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+
+/**
+ * Class representing the state of a training at the end of an epoch, stored in a single file in a directory. A
+ * checkpoint contains the parameters and the updater state of the trained network, the iteration counter, the number
+ * of finished epochs, the learning history and the state of early stopping if used. Hence, an interrupted training
+ * can be continued as if it was not interrupted.
+ *
+ * @author agent
+ */
+public class TrainingCheckpoint {
+
+    private static final String CHECKPOINT_FILE = "checkpoint.zip";
+
+    private static final String NETWORK_ENTRY = "network.zip";
+
+    private static final String STATE_ENTRY = "state.xml";
+
+    private static final String BEST_PARAMS_ENTRY = "best_params.bin";
+
+    private static final String CFG_EPOCH = "epoch";
+
+    private static final String CFG_HISTORY_EPOCHS = "history_epochs";
+
+    private static final String CFG_HISTORY_LOSSES = "history_losses";
+
+    private static final String CFG_EARLY_STOPPING = "early_stopping";
+
+    private static final String CFG_BEST_SCORE = "best_score";
+
+    private static final String CFG_BEST_EPOCH = "best_epoch";
+
+    private static final String CFG_EPOCHS_WITHOUT_IMPROVEMENT = "epochs_without_improvement";
+
+    private final File m_directory;
+
+    /**
+     * Constructor for class TrainingCheckpoint using the specified directory to store the checkpoint.
+     *
+     * @param directory the directory containing the checkpoint files, is created when the checkpoint is written
+     */
+    public TrainingCheckpoint(final File directory) {
+        m_directory = directory;
+    }
+
+    /**
+     * Checks whether a checkpoint was written to the directory of this checkpoint.
+     *
+     * @return true if the checkpoint can be restored
+     */
+    public boolean exists() {
+        return getFile().isFile();
+    }
+
+    /**
+     * Writes the specified state to this checkpoint overwriting the previous state. The network and the state are
+     * written to one temporary file which replaces the previous checkpoint with a single atomic move, hence an
+     * interrupted write does not destroy the previous checkpoint and never mixes the state of different epochs.
+     *
+     * @param mln the trained network
+     * @param epoch the number of finished epochs
+     * @param history the learning history up to the specified epoch
+     * @param earlyStopping the early stopping monitor updated with the specified epoch, null if early stopping is not
+     *            used
+     * @throws IOException
+     */
+    public void write(final MultiLayerNetwork mln, final int epoch, final List<HistoryEntry> history,
+        final EarlyStoppingMonitor earlyStopping) throws IOException {
+        final ModelContent state = new ModelContent("training_checkpoint");
+        state.addInt(CFG_EPOCH, epoch);
+        final int[] epochs = new int[history.size()];
+        final double[] losses = new double[history.size()];
+        for (int i = 0; i < history.size(); i++) {
+            epochs[i] = history.get(i).getEpoch();
+            losses[i] = history.get(i).getLoss();
+        }
+        state.addIntArray(CFG_HISTORY_EPOCHS, epochs);
+        state.addDoubleArray(CFG_HISTORY_LOSSES, losses);
+        final INDArray bestParams = (earlyStopping != null) ? earlyStopping.getBestParams() : null;
+        state.addBoolean(CFG_EARLY_STOPPING, earlyStopping != null);
+        if (earlyStopping != null) {
+            state.addDouble(CFG_BEST_SCORE, earlyStopping.getBestScore());
+            state.addInt(CFG_BEST_EPOCH, earlyStopping.getBestEpoch());
+            state.addInt(CFG_EPOCHS_WITHOUT_IMPROVEMENT, earlyStopping.getEpochsWithoutImprovement());
+        }
+        //saveToXML closes the stream, hence serialise to memory first
+        final ByteArrayOutputStream stateBytes = new ByteArrayOutputStream();
+        state.saveToXML(stateBytes);
+
+        Files.createDirectories(m_directory.toPath());
+        final File tmpFile = new File(m_directory, CHECKPOINT_FILE + ".tmp");
+        try (ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+            out.putNextEntry(new ZipEntry(NETWORK_ENTRY));
+            ModelSerializer.writeModel(mln, out, true);
+            out.closeEntry();
+            out.putNextEntry(new ZipEntry(STATE_ENTRY));
+            stateBytes.writeTo(out);
+            out.closeEntry();
+            if (bestParams != null) {
+                out.putNextEntry(new ZipEntry(BEST_PARAMS_ENTRY));
+                final DataOutputStream dataOut = new DataOutputStream(out);
+                Nd4j.write(bestParams, dataOut);
+                dataOut.flush();
+                out.closeEntry();
+            }
+        }
+        Files.move(tmpFile.toPath(), getFile().toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restores the state of this checkpoint to the specified network. The parameters, the updater state and the
+     * iteration counter of the network are overwritten and the specified history is replaced by the history of this
+     * checkpoint. If early stopping is used, the specified monitor is restored as well, hence the best epoch trained
+     * before the interruption is not lost. The network must have the same architecture as the network the checkpoint
+     * was written for.
+     *
+     * @param mln the initialised network to restore the state to
+     * @param history the history to restore
+     * @param earlyStopping the early stopping monitor to restore, null if early stopping is not used
+     * @return the number of epochs finished at the time the checkpoint was written
+     * @throws IOException if the checkpoint could not be read or does not fit to the specified network or does not
+     *             contain the state of early stopping although it is used
+     */
+    public int restore(final MultiLayerNetwork mln, final List<HistoryEntry> history,
+        final EarlyStoppingMonitor earlyStopping) throws IOException {
+        final ModelContentRO state;
+        final MultiLayerNetwork restored;
+        INDArray bestParams = null;
+        try (ZipFile zip = new ZipFile(getFile())) {
+            try (InputStream in = zip.getInputStream(getEntry(zip, STATE_ENTRY))) {
+                state = ModelContent.loadFromXML(in);
+            }
+            try (InputStream in = zip.getInputStream(getEntry(zip, NETWORK_ENTRY))) {
+                restored = ModelSerializer.restoreMultiLayerNetwork(in, true);
+            }
+            final ZipEntry bestParamsEntry = zip.getEntry(BEST_PARAMS_ENTRY);
+            if ((earlyStopping != null) && (bestParamsEntry != null)) {
+                try (DataInputStream in = new DataInputStream(zip.getInputStream(bestParamsEntry))) {
+                    bestParams = Nd4j.read(in);
+                }
+            }
+        }
+        final int epoch;
+        final int[] epochs;
+        final double[] losses;
+        double bestScore = Double.POSITIVE_INFINITY;
+        int bestEpoch = 0;
+        int epochsWithoutImprovement = 0;
+        try {
+            epoch = state.getInt(CFG_EPOCH);
+            epochs = state.getIntArray(CFG_HISTORY_EPOCHS);
+            losses = state.getDoubleArray(CFG_HISTORY_LOSSES);
+            if (earlyStopping != null) {
+                if (!state.getBoolean(CFG_EARLY_STOPPING, false)) {
+                    throw new IOException("The checkpoint was written without early stopping, hence the best epoch "
+                        + "trained before is unknown.");
+                }
+                if ((bestParams != null) && (bestParams.length() != mln.numParams())) {
+                    throw new IOException("The checkpoint was written for a network with a different architecture.");
+                }
+                bestScore = state.getDouble(CFG_BEST_SCORE);
+                bestEpoch = state.getInt(CFG_BEST_EPOCH);
+                epochsWithoutImprovement = state.getInt(CFG_EPOCHS_WITHOUT_IMPROVEMENT);
+            }
+        } catch (InvalidSettingsException e) {
+            throw new IOException("Invalid checkpoint state: " + e.getMessage(), e);
+        }
+
+        if ((restored.getnLayers() != mln.getnLayers()) || (restored.numParams() != mln.numParams())) {
+            throw new IOException("The checkpoint was written for a network with a different architecture.");
+        }
+        mln.setParams(restored.params());
+
+        //copy the state instead of the updater itself as the updater is bound to the network it was created for
+        final Updater from = restored.getUpdater();
+        final Updater to = mln.getUpdater();
+        if ((from != null) && (to != null)) {
+            final INDArray fromState = from.getStateViewArray();
+            final INDArray toState = to.getStateViewArray();
+            if ((fromState != null) && (toState != null) && (fromState.length() == toState.length())) {
+                toState.assign(fromState);
+            }
+        }
+        //learning rate schedules depend on the iteration count
+        mln.getLayerWiseConfigurations()
+            .setIterationCount(restored.getLayerWiseConfigurations().getIterationCount());
+
+        if (earlyStopping != null) {
+            earlyStopping.restore(bestScore, bestEpoch, epochsWithoutImprovement, bestParams);
+        }
+
+        history.clear();
+        for (int i = 0; i < Math.min(epochs.length, losses.length); i++) {
+            history.add(new HistoryEntry(losses[i], epochs[i]));
+        }
+        return epoch;
+    }
+
+    /**
+     * Get the directory containing the file of this checkpoint.
+     *
+     * @return the directory
+     */
+    public File getDirectory() {
+        return m_directory;
+    }
+
+    private File getFile() {
+        return new File(m_directory, CHECKPOINT_FILE);
+    }
+
+    private static ZipEntry getEntry(final ZipFile zip, final String name) throws IOException {
+        final ZipEntry entry = zip.getEntry(name);
+        if (entry == null) {
+            throw new IOException("Invalid checkpoint, missing entry: " + name);
+        }
+        return entry;
+    }
+}
@@ -48,8 +48,17 @@
  */
 package org.knime.ext.dl4j.base.nodes.learn.dialog;
 
+import java.util.EnumSet;
+
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NotConfigurableException;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelNumber;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortObjectSpec;
 import org.knime.ext.dl4j.base.nodes.dialog.AbstractGridBagDialogComponentGroup;
 import org.knime.ext.dl4j.base.settings.enumerate.DataParameter;
 import org.knime.ext.dl4j.base.settings.impl.DataParameterSettingsModels2;
@@ -67,6 +76,36 @@ public class DataParameterComponentGroup extends AbstractGridBagDialogComponentG
 
     SettingsModelString m_imageSizeSettings;
 
+    SettingsModelBoolean m_usePrefetchingSettings;
+
+    SettingsModelNumber m_prefetchQueueSizeSettings;
+
+    SettingsModelBoolean m_useDataCacheSettings;
+
+    SettingsModelBoolean m_useDataParallelSettings;
+
+    SettingsModelNumber m_numberOfWorkersSettings;
+
+    SettingsModelNumber m_averagingFrequencySettings;
+
+    SettingsModelBoolean m_useEarlyStoppingSettings;
+
+    SettingsModelNumber m_earlyStoppingPatienceSettings;
+
+    SettingsModelBoolean m_useActivationCacheSettings;
+
+    /**
+     * Optional parameter panels which may be added to a {@link DataParameterComponentGroup}.
+     */
+    public enum Option {
+            /** Adds a panel for the image size parameter. */
+            IMAGE_SIZE,
+            /** Adds a panel for the early stopping parameters. */
+            EARLY_STOPPING,
+            /** Adds a panel for the activation cache parameter. */
+            ACTIVATION_CACHE;
+    }
+
     /**
      * Constructor for class DataParameterComponentGroup using the specified {@link DataParameterSettingsModels2} to
      * create settings for contained components and specifying whether to add a panel for the image size parameter.
@@ -75,6 +114,18 @@ public class DataParameterComponentGroup extends AbstractGridBagDialogComponentG
      * @param addImageSize
      */
     public DataParameterComponentGroup(final DataParameterSettingsModels2 dataSettings, final boolean addImageSize) {
+        this(dataSettings, addImageSize ? EnumSet.of(Option.IMAGE_SIZE) : EnumSet.noneOf(Option.class));
+    }
+
+    /**
+     * Constructor for class DataParameterComponentGroup using the specified {@link DataParameterSettingsModels2} to
+     * create settings for contained components and specifying which optional panels to add.
+     *
+     * @param dataSettings
+     * @param options the optional panels to add
+     */
+    public DataParameterComponentGroup(final DataParameterSettingsModels2 dataSettings,
+        final EnumSet<Option> options) {
 
         m_batchSizeSettings = (SettingsModelNumber)dataSettings.createParameter(DataParameter.BATCH_SIZE);
         m_epochsSettings = (SettingsModelNumber)dataSettings.createParameter(DataParameter.EPOCHS);
@@ -82,10 +133,80 @@ public DataParameterComponentGroup(final DataParameterSettingsModels2 dataSettin
         addNumberSpinnerRowComponent(m_batchSizeSettings, "Batch Size", 1);
         addNumberSpinnerRowComponent(m_epochsSettings, "Epochs", 1);
 
-        if (addImageSize) {
+        m_usePrefetchingSettings = (SettingsModelBoolean)dataSettings.createParameter(DataParameter.USE_PREFETCHING);
+        m_prefetchQueueSizeSettings =
+            (SettingsModelNumber)dataSettings.createParameter(DataParameter.PREFETCH_QUEUE_SIZE);
+        addToggleNumberEditRowComponent(m_usePrefetchingSettings, "Prefetch Batches", m_prefetchQueueSizeSettings);
+
+        m_usePrefetchingSettings.addChangeListener(new ChangeListener() {
+            @Override
+            public void stateChanged(final ChangeEvent e) {
+                updateEnableStatus();
+            }
+        });
+
+        m_useDataCacheSettings = (SettingsModelBoolean)dataSettings.createParameter(DataParameter.USE_DATA_CACHE);
+        addCheckboxRow(m_useDataCacheSettings, "Cache converted data?", false);
+
+        m_useDataParallelSettings = (SettingsModelBoolean)dataSettings.createParameter(DataParameter.USE_DATA_PARALLEL);
+        m_numberOfWorkersSettings = (SettingsModelNumber)dataSettings.createParameter(DataParameter.NUMBER_OF_WORKERS);
+        m_averagingFrequencySettings =
+            (SettingsModelNumber)dataSettings.createParameter(DataParameter.AVERAGING_FREQUENCY);
+        addToggleNumberEditRowComponent(m_useDataParallelSettings, "Parallel Workers", m_numberOfWorkersSettings);
+        addNumberSpinnerRowComponent(m_averagingFrequencySettings, "Averaging Frequency", 1);
+
+        m_useDataParallelSettings.addChangeListener(new ChangeListener() {
+            @Override
+            public void stateChanged(final ChangeEvent e) {
+                updateEnableStatus();
+            }
+        });
+
+        if (options.contains(Option.EARLY_STOPPING)) {
+            m_useEarlyStoppingSettings =
+                (SettingsModelBoolean)dataSettings.createParameter(DataParameter.USE_EARLY_STOPPING);
+            m_earlyStoppingPatienceSettings =
+                (SettingsModelNumber)dataSettings.createParameter(DataParameter.EARLY_STOPPING_PATIENCE);
+            addToggleNumberEditRowComponent(m_useEarlyStoppingSettings, "Early Stopping Patience",
+                m_earlyStoppingPatienceSettings);
+
+            m_useEarlyStoppingSettings.addChangeListener(new ChangeListener() {
+                @Override
+                public void stateChanged(final ChangeEvent e) {
+                    updateEnableStatus();
+                }
+            });
+        }
+
+        if (options.contains(Option.ACTIVATION_CACHE)) {
+            m_useActivationCacheSettings =
+                (SettingsModelBoolean)dataSettings.createParameter(DataParameter.USE_ACTIVATION_CACHE);
+            addCheckboxRow(m_useActivationCacheSettings, "Cache layer activations?", false);
+        }
+
+        if (options.contains(Option.IMAGE_SIZE)) {
             m_imageSizeSettings = (SettingsModelString)dataSettings.createParameter(DataParameter.IMAGE_SIZE);
             addStringEditRowComponent(m_imageSizeSettings, "Image Size");
         }
 
     }
+
+    private void updateEnableStatus() {
+        m_prefetchQueueSizeSettings.setEnabled(m_usePrefetchingSettings.getBooleanValue());
+        m_numberOfWorkersSettings.setEnabled(m_useDataParallelSettings.getBooleanValue());
+        m_averagingFrequencySettings.setEnabled(m_useDataParallelSettings.getBooleanValue());
+        if (m_useEarlyStoppingSettings != null) {
+            m_earlyStoppingPatienceSettings.setEnabled(m_useEarlyStoppingSettings.getBooleanValue());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void loadSettingsFrom(final NodeSettingsRO settings, final PortObjectSpec[] specs)
+        throws NotConfigurableException {
+        super.loadSettingsFrom(settings, specs);
+        updateEnableStatus();
+    }
 }
@@ -265,6 +265,12 @@ public void stateChanged(final ChangeEvent arg0) {
         setHorizontalPlacement(false);
         addDialogComponent(new DialogComponentString(
             (SettingsModelString)dataSettingsModels.createParameter(DataParameter.IMAGE_SIZE), "Size of Input Image"));
+        addDialogComponent(new DialogComponentNumberEdit(
+            (SettingsModelIntegerBounded)dataSettingsModels.createParameter(DataParameter.SCORE_SAMPLING_FREQUENCY),
+            "Score Sampling Frequency (iterations)", DEFAULT_WIDTH));
+        addDialogComponent(new DialogComponentNumberEdit(
+            (SettingsModelIntegerBounded)dataSettingsModels.createParameter(DataParameter.SCORE_SAMPLING_INTERVAL),
+            "Score Sampling Interval (ms)", DEFAULT_WIDTH));
 
         createNewTab("Output Layer Parameters");
         addDialogComponent(new DialogComponentNumberEdit(numberOfOutputs, "Number of Output Units", DEFAULT_WIDTH));
@@ -151,7 +151,7 @@ protected DLModelPortObject[] execute(final PortObject[] inData, final Execution
         }
 
         //build multi layer net
-        final List<Layer> layers = portObject.getLayers();
+        final List<Layer> layers = new ArrayList<>(portObject.getLayers());
         final MultiLayerNetwork oldMln = portObject.getMultilayerLayerNetwork();
         MultiLayerNetFactory mlnFactory;
 
@@ -184,7 +184,9 @@ protected DLModelPortObject[] execute(final PortObject[] inData, final Execution
         transferFullInitialization(oldMln, newMln, usePretrainedUpdater);
 
         //set listener that updates the view and the score of this model
-        newMln.setListeners(new UpdateLearnerViewIterationListener(this));
+        newMln.setListeners(new UpdateLearnerViewIterationListener(this,
+            m_dataParameterSettings.getScoreSamplingFrequency().getIntValue(),
+            m_dataParameterSettings.getScoreSamplingInterval().getIntValue()));
 
         //train the network
         final int epochs = m_dataParameterSettings.getEpochs().getIntValue();
@@ -264,6 +266,10 @@ protected List<SettingsModel> initSettingsModels() {
         m_dataParameterSettings.setParameter(DataParameter.FEATURE_COLUMN_SELECTION);
         m_dataParameterSettings.setParameter(DataParameter.LABEL_COLUMN);
         m_dataParameterSettings.setParameter(DataParameter.IMAGE_SIZE);
+        m_dataParameterSettings.setParameter(DataParameter.SCORE_SAMPLING_FREQUENCY);
+        m_dataParameterSettings.setParameter(DataParameter.SCORE_SAMPLING_INTERVAL);
+        markAsOptional(m_dataParameterSettings.getScoreSamplingFrequency());
+        markAsOptional(m_dataParameterSettings.getScoreSamplingInterval());
 
         m_learnerParameterSettings = new LearnerParameterSettingsModels();
         m_learnerParameterSettings.setParameter(LearnerParameter.TRAINING_MODE);
@@ -42,20 +42,26 @@
  *******************************************************************************/
 package org.knime.ext.dl4j.base.nodes.learn.feedforward.classification;
 
+import java.util.EnumSet;
+
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
 import org.knime.ext.dl4j.base.nodes.dialog.DefaultDLNodeDialogPane;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.BiasParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.ClassificationColumnSelectionComponentGroup;
+import org.knime.ext.dl4j.base.nodes.learn.dialog.CheckpointParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.DataParameterComponentGroup;
+import org.knime.ext.dl4j.base.nodes.learn.dialog.DataParameterComponentGroup.Option;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.DropOutParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.GradientNormalizationParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.LearningRateParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.OutputLayerParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.RegularizationParameterComponentGroup;
+import org.knime.ext.dl4j.base.nodes.learn.dialog.ScoreSamplingParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.SeedParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.TrainingMethodParametersComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.UpdaterParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.WeightInitParameterComponentGroup;
+import org.knime.ext.dl4j.base.nodes.learn.dialog.WorkspaceModeParameterComponentGroup;
 import org.knime.ext.dl4j.base.settings.impl.DataParameterSettingsModels2;
 import org.knime.ext.dl4j.base.settings.impl.LayerParameterSettingsModels2;
 import org.knime.ext.dl4j.base.settings.impl.LearnerParameterSettingsModels2;
@@ -99,6 +105,9 @@ public FeedforwardClassificationLearnerNodeDialog() {
             new GradientNormalizationParameterComponentGroup(learnerSettings);
         addDialogComponentGroupWithBorder(gradientNorComp, "Gradient Normalization");
 
+        WorkspaceModeParameterComponentGroup workspaceComp = new WorkspaceModeParameterComponentGroup(learnerSettings);
+        addDialogComponentGroupWithBorder(workspaceComp, "Workspace Mode");
+
         createNewTab("Global Parameter");
 
         LearningRateParameterComponentGroup learningRateComp = new LearningRateParameterComponentGroup(learnerSettings);
@@ -115,9 +124,17 @@ public FeedforwardClassificationLearnerNodeDialog() {
 
         createNewTab("Data Parameter");
 
-        DataParameterComponentGroup dataComp = new DataParameterComponentGroup(dataSettings, true);
+        DataParameterComponentGroup dataComp = new DataParameterComponentGroup(dataSettings,
+            EnumSet.of(Option.IMAGE_SIZE, Option.EARLY_STOPPING, Option.ACTIVATION_CACHE));
         addDialogComponentGroup(dataComp);
 
+        CheckpointParameterComponentGroup checkpointComp = new CheckpointParameterComponentGroup(dataSettings);
+        addDialogComponentGroupWithBorder(checkpointComp, "Checkpoints");
+
+        ScoreSamplingParameterComponentGroup scoreSamplingComp =
+            new ScoreSamplingParameterComponentGroup(dataSettings);
+        addDialogComponentGroupWithBorder(scoreSamplingComp, "Score Sampling");
+
         createNewTab("Output Layer Parameter");
 
         OutputLayerParameterComponentGroup outputComp =
@@ -120,7 +120,8 @@ public class FeedforwardClassificationLearnerNodeModel extends AbstractDLLearner
      * Constructor for the node model.
      */
     protected FeedforwardClassificationLearnerNodeModel() {
-        super(new PortType[]{DLModelPortObject.TYPE, BufferedDataTable.TYPE}, new PortType[]{DLModelPortObject.TYPE});
+        super(new PortType[]{DLModelPortObject.TYPE, BufferedDataTable.TYPE, BufferedDataTable.TYPE_OPTIONAL},
+            new PortType[]{DLModelPortObject.TYPE});
     }
 
     @Override
@@ -149,8 +150,20 @@ protected DLModelPortObject[] executeDL4JMemorySafe(final PortObject[] inData, f
         DataSetIterator input = new ClassificationBufferedDataTableDataSetIterator(selectedTable,
             selectedTable.getSpec().findColumnIndex(labelColumnName), batchSize, m_labels, true);
 
+        //create validation iterator if early stopping is used
+        final BufferedDataTable validationTable = (BufferedDataTable)inData[2];
+        DataSetIterator validation = null;
+        if (validationTable != null && m_dataParameterSettings.getBoolean(DataParameter.USE_EARLY_STOPPING,
+            DataParameter.DEFAULT_USE_EARLY_STOPPING)) {
+            final BufferedDataTable selectedValidationTable =
+                selectValidationColumns(validationTable, selectedTable.getSpec().getColumnNames(), exec);
+            TableUtils.checkForEmptyTable(selectedValidationTable);
+            validation = new ClassificationBufferedDataTableDataSetIterator(selectedValidationTable,
+                selectedValidationTable.getSpec().findColumnIndex(labelColumnName), batchSize, m_labels, true);
+        }
+
         //build multi layer net
-        final List<Layer> layers = portObject.getLayers();
+        final List<Layer> layers = new ArrayList<>(portObject.getLayers());
         final MultiLayerNetwork oldMln = portObject.getMultilayerLayerNetwork();
         MultiLayerNetFactory2 mlnFactory;
 
@@ -183,11 +196,14 @@ protected DLModelPortObject[] executeDL4JMemorySafe(final PortObject[] inData, f
         transferFullInitialization(oldMln, newMln, !useUpdater);
 
         //set listener that updates the view and the score of this model
-        newMln.setListeners(new UpdateLearnerViewIterationListener(this));
+        newMln.setListeners(new UpdateLearnerViewIterationListener(this,
+            m_dataParameterSettings.getInteger(DataParameter.SCORE_SAMPLING_FREQUENCY),
+            m_dataParameterSettings.getInteger(DataParameter.SCORE_SAMPLING_INTERVAL)));
 
         //train the network
         final int epochs = m_dataParameterSettings.getInteger(DataParameter.EPOCHS);
-        trainNetwork(newMln, epochs, input, exec);
+        runTraining(newMln, input, validation, m_dataParameterSettings,
+            (mln, trainedEpochs, data) -> trainNetwork(mln, trainedEpochs, epochs, data, exec));
 
         final DLModelPortObject newPortObject = new DLModelPortObject(layers, newMln, m_outputSpec);
         return new DLModelPortObject[]{newPortObject};
@@ -203,10 +219,16 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
 
         final DLModelPortObjectSpec specWithoutLabels =
             (DLModelPortObjectSpec)configure(inSpecs, Lists.newArrayList(includes))[0];
+        configureWorkspaceModes(specWithoutLabels.getLayerTypes(), m_learnerParameterSettings);
 
         final String labelColumnName = m_dataParameterSettings.getString(DataParameter.LABEL_COLUMN);
         m_labels = new ArrayList<String>();
 
+        final List<String> selectedColumns = Lists.newArrayList(includes);
+        selectedColumns.add(labelColumnName);
+        configureEarlyStopping((DataTableSpec)inSpecs[2], selectedColumns, m_dataParameterSettings);
+        configureCheckpoints(m_dataParameterSettings);
+
         try {
             for (final DataCell cell : tableSpec.getColumnSpec(labelColumnName).getDomain().getValues()) {
                 m_labels.add(ConverterUtils.convertDataCellToJava(cell, String.class));
@@ -264,6 +286,10 @@ protected List<SettingsModel> initSettingsModels() {
         m_dataParameterSettings = new DataParameterSettingsModels2();
         m_dataParameterSettings.setParameter(DataParameter.BATCH_SIZE);
         m_dataParameterSettings.setParameter(DataParameter.EPOCHS);
+        setOptionalParameters(m_dataParameterSettings, TRAINING_PARAMETERS);
+        setOptionalParameters(m_dataParameterSettings, EARLY_STOPPING_PARAMETERS);
+        setOptionalParameters(m_dataParameterSettings, CHECKPOINT_PARAMETERS);
+        setOptionalParameters(m_dataParameterSettings, ACTIVATION_CACHE_PARAMETERS);
         m_dataParameterSettings.setParameter(DataParameter.FEATURE_COLUMN_SELECTION2);
         m_dataParameterSettings.setParameter(DataParameter.LABEL_COLUMN);
         m_dataParameterSettings.setParameter(DataParameter.IMAGE_SIZE);
@@ -307,6 +333,7 @@ protected List<SettingsModel> initSettingsModels() {
         m_learnerParameterSettings.setParameter(LearnerParameter.USE_REGULARIZATION);
         m_learnerParameterSettings.setParameter(LearnerParameter.USE_SEED);
         m_learnerParameterSettings.setParameter(LearnerParameter.USE_UPDATER);
+        setOptionalParameters(m_learnerParameterSettings, WORKSPACE_MODE_PARAMETERS);
 
         m_layerParameterSettings = new LayerParameterSettingsModels2();
         m_layerParameterSettings.setParameter(LayerParameter.LOSS_FUNCTION);
@@ -327,13 +354,14 @@ protected List<SettingsModel> initSettingsModels() {
      * specified {@link ExecutionContext} for progress reporting and execution cancelling.
      *
      * @param mln the network to train
+     * @param trainedEpochs the number of epochs already trained, training continues with the following epoch
      * @param epochs the number of epochs to train
      * @param data the data to train on
      * @param exec
      * @throws Exception
      */
-    private void trainNetwork(final MultiLayerNetwork mln, final int epochs, final DataSetIterator data,
-        final ExecutionContext exec) throws Exception {
+    private void trainNetwork(final MultiLayerNetwork mln, final int trainedEpochs, final int epochs,
+        final DataSetIterator data, final ExecutionContext exec) throws Exception {
 
         // do only backprop for classification
         mln.getLayerWiseConfigurations().setBackprop(true);
@@ -346,7 +374,7 @@ private void trainNetwork(final MultiLayerNetwork mln, final int epochs, final D
 
         if (isFinetune) {
             logger.info("Finetune Model for " + epochs + " epochs.");
-            for (int i = 0; i < epochs; i++) {
+            for (int i = trainedEpochs; i < epochs; i++) {
                 exec.checkCanceled();
                 if (getLearningMonitor().checkStopLearning()) {
                     break;
@@ -358,10 +386,15 @@ private void trainNetwork(final MultiLayerNetwork mln, final int epochs, final D
                 logEpochScore(mln, (i + 1));
                 data.reset();
                 exec.setProgress((i + 1) / maxProgress);
+                final boolean stop = checkEarlyStopping(mln, i + 1, exec);
+                saveCheckpoint(mln, i + 1, epochs, m_dataParameterSettings, exec);
+                if (stop) {
+                    break;
+                }
             }
         } else {
             logger.info("Do Backpropagation for " + epochs + " epochs.");
-            for (int i = 0; i < epochs; i++) {
+            for (int i = trainedEpochs; i < epochs; i++) {
                 exec.checkCanceled();
                 if (getLearningMonitor().checkStopLearning()) {
                     break;
@@ -373,6 +406,11 @@ private void trainNetwork(final MultiLayerNetwork mln, final int epochs, final D
                 logEpochScore(mln, (i + 1));
                 data.reset();
                 exec.setProgress((i + 1) / maxProgress);
+                final boolean stop = checkEarlyStopping(mln, i + 1, exec);
+                saveCheckpoint(mln, i + 1, epochs, m_dataParameterSettings, exec);
+                if (stop) {
+                    break;
+                }
             }
         }
     }
@@ -42,20 +42,25 @@
  *******************************************************************************/
 package org.knime.ext.dl4j.base.nodes.learn.feedforward.pretraining;
 
+import java.util.EnumSet;
+
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
 import org.knime.ext.dl4j.base.nodes.dialog.DefaultDLNodeDialogPane;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.BiasParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.DataParameterComponentGroup;
+import org.knime.ext.dl4j.base.nodes.learn.dialog.DataParameterComponentGroup.Option;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.DropOutParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.GradientNormalizationParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.LearningRateParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.OutputLayerParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.PretrainingColumnSelectionComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.RegularizationParameterComponentGroup;
+import org.knime.ext.dl4j.base.nodes.learn.dialog.ScoreSamplingParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.SeedParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.TrainingMethodParametersComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.UpdaterParameterComponentGroup;
 import org.knime.ext.dl4j.base.nodes.learn.dialog.WeightInitParameterComponentGroup;
+import org.knime.ext.dl4j.base.nodes.learn.dialog.WorkspaceModeParameterComponentGroup;
 import org.knime.ext.dl4j.base.settings.impl.DataParameterSettingsModels2;
 import org.knime.ext.dl4j.base.settings.impl.LayerParameterSettingsModels2;
 import org.knime.ext.dl4j.base.settings.impl.LearnerParameterSettingsModels2;
@@ -101,6 +106,9 @@ protected FeedforwardPretrainingLearnerNodeDialog() {
             new GradientNormalizationParameterComponentGroup(learnerSettings);
         addDialogComponentGroupWithBorder(gradientNorComp, "Gradient Normalization");
 
+        WorkspaceModeParameterComponentGroup workspaceComp = new WorkspaceModeParameterComponentGroup(learnerSettings);
+        addDialogComponentGroupWithBorder(workspaceComp, "Workspace Mode");
+
         createNewTab("Global Parameter");
 
         LearningRateParameterComponentGroup learningRateComp = new LearningRateParameterComponentGroup(learnerSettings);
@@ -117,9 +125,14 @@ protected FeedforwardPretrainingLearnerNodeDialog() {
 
         createNewTab("Data Parameter");
 
-        DataParameterComponentGroup dataComp = new DataParameterComponentGroup(dataSettings, false);
+        DataParameterComponentGroup dataComp =
+            new DataParameterComponentGroup(dataSettings, EnumSet.of(Option.ACTIVATION_CACHE));
         addDialogComponentGroup(dataComp);
 
+        ScoreSamplingParameterComponentGroup scoreSamplingComp =
+            new ScoreSamplingParameterComponentGroup(dataSettings);
+        addDialogComponentGroupWithBorder(scoreSamplingComp, "Score Sampling");
+
         createNewTab("Output Layer Parameter");
 
         OutputLayerParameterComponentGroup outputComp =
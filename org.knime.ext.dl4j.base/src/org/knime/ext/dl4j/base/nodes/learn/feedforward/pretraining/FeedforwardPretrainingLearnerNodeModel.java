@@ -141,7 +141,7 @@ protected DLModelPortObject[] executeDL4JMemorySafe(final PortObject[] inData, f
         DataSetIterator input = new PretrainingBufferedDataTableDataSetIterator(selectedTable, batchSize, true);
 
         //build multi layer net
-        final List<Layer> layers = portObject.getLayers();
+        final List<Layer> layers = new ArrayList<>(portObject.getLayers());
         final MultiLayerNetwork oldMln = portObject.getMultilayerLayerNetwork();
 
         //check if list of layers already contains output layer, happens if
@@ -167,11 +167,14 @@ protected DLModelPortObject[] executeDL4JMemorySafe(final PortObject[] inData, f
         transferFullInitialization(oldMln, newMln, !useUpdater);
 
         //set listener that updates the view and the score of this model
-        newMln.setListeners(new UpdateLearnerViewIterationListener(this));
+        newMln.setListeners(new UpdateLearnerViewIterationListener(this,
+            m_dataParameterSettings.getInteger(DataParameter.SCORE_SAMPLING_FREQUENCY),
+            m_dataParameterSettings.getInteger(DataParameter.SCORE_SAMPLING_INTERVAL)));
 
         //train the network
         final int epochs = m_dataParameterSettings.getInteger(DataParameter.EPOCHS);
-        trainNetwork(newMln, epochs, input, exec);
+        runTraining(newMln, input, null, m_dataParameterSettings,
+            (mln, trainedEpochs, data) -> trainNetwork(mln, epochs, data, exec));
 
         final DLModelPortObject newPortObject = new DLModelPortObject(layers, newMln, m_outputSpec);
         return new DLModelPortObject[]{newPortObject};
@@ -187,6 +190,7 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
 
         final DLModelPortObjectSpec specWithoutLabels =
             (DLModelPortObjectSpec)configure(inSpecs, Lists.newArrayList(includes))[0];
+        configureWorkspaceModes(specWithoutLabels.getLayerTypes(), m_learnerParameterSettings);
 
         logger.info("Constructed network recognized as: "
             + ConfigurationUtils.typesToString(specWithoutLabels.getNeuralNetworkTypes()));
@@ -225,6 +229,8 @@ protected List<SettingsModel> initSettingsModels() {
         m_dataParameterSettings = new DataParameterSettingsModels2();
         m_dataParameterSettings.setParameter(DataParameter.BATCH_SIZE);
         m_dataParameterSettings.setParameter(DataParameter.EPOCHS);
+        setOptionalParameters(m_dataParameterSettings, TRAINING_PARAMETERS);
+        setOptionalParameters(m_dataParameterSettings, ACTIVATION_CACHE_PARAMETERS);
         m_dataParameterSettings.setParameter(DataParameter.FEATURE_COLUMN_SELECTION2);
 
         m_learnerParameterSettings = new LearnerParameterSettingsModels2();
@@ -265,6 +271,7 @@ protected List<SettingsModel> initSettingsModels() {
         m_learnerParameterSettings.setParameter(LearnerParameter.USE_REGULARIZATION);
         m_learnerParameterSettings.setParameter(LearnerParameter.USE_SEED);
         m_learnerParameterSettings.setParameter(LearnerParameter.USE_UPDATER);
+        setOptionalParameters(m_learnerParameterSettings, WORKSPACE_MODE_PARAMETERS);
 
         m_layerParameterSettings = new LayerParameterSettingsModels2();
         m_layerParameterSettings.setParameter(LayerParameter.LOSS_FUNCTION);
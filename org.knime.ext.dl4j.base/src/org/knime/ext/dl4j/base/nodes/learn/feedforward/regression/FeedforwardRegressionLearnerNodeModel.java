@@ -121,7 +121,8 @@ public class FeedforwardRegressionLearnerNodeModel extends AbstractDLLearnerNode
      * Constructor for the node model.
      */
     protected FeedforwardRegressionLearnerNodeModel() {
-        super(new PortType[]{DLModelPortObject.TYPE, BufferedDataTable.TYPE}, new PortType[]{DLModelPortObject.TYPE});
+        super(new PortType[]{DLModelPortObject.TYPE, BufferedDataTable.TYPE, BufferedDataTable.TYPE_OPTIONAL},
+            new PortType[]{DLModelPortObject.TYPE});
     }
 
     @Override
@@ -158,8 +159,20 @@ protected DLModelPortObject[] executeDL4JMemorySafe(final PortObject[] inData, f
         DataSetIterator input = new RegressionBufferedDataTableDataSetIterator(selectedTable, batchSize,
             TableUtils.indicesFromColumnNames(targetColumns, selectedTable.getSpec()), true);
 
+        //create validation iterator if early stopping is used
+        final BufferedDataTable validationTable = (BufferedDataTable)inData[2];
+        DataSetIterator validation = null;
+        if (validationTable != null && m_dataParameterSettings.getBoolean(DataParameter.USE_EARLY_STOPPING,
+            DataParameter.DEFAULT_USE_EARLY_STOPPING)) {
+            final BufferedDataTable selectedValidationTable =
+                selectValidationColumns(validationTable, selectedTable.getSpec().getColumnNames(), exec);
+            TableUtils.checkForEmptyTable(selectedValidationTable);
+            validation = new RegressionBufferedDataTableDataSetIterator(selectedValidationTable, batchSize,
+                TableUtils.indicesFromColumnNames(targetColumns, selectedValidationTable.getSpec()), true);
+        }
+
         //build multi layer net
-        final List<Layer> layers = portObject.getLayers();
+        final List<Layer> layers = new ArrayList<>(portObject.getLayers());
         final MultiLayerNetwork oldMln = portObject.getMultilayerLayerNetwork();
         MultiLayerNetFactory2 mlnFactory;
 
@@ -192,11 +205,14 @@ protected DLModelPortObject[] executeDL4JMemorySafe(final PortObject[] inData, f
         transferFullInitialization(oldMln, newMln, !useUpdater);
 
         //set listener that updates the view and the score of this model
-        newMln.setListeners(new UpdateLearnerViewIterationListener(this));
+        newMln.setListeners(new UpdateLearnerViewIterationListener(this,
+            m_dataParameterSettings.getInteger(DataParameter.SCORE_SAMPLING_FREQUENCY),
+            m_dataParameterSettings.getInteger(DataParameter.SCORE_SAMPLING_INTERVAL)));
 
         //train the network
         final int epochs = m_dataParameterSettings.getInteger(DataParameter.EPOCHS);
-        trainNetwork(newMln, epochs, input, exec);
+        runTraining(newMln, input, validation, m_dataParameterSettings,
+            (mln, trainedEpochs, data) -> trainNetwork(mln, trainedEpochs, epochs, data, exec));
 
         final DLModelPortObject newPortObject = new DLModelPortObject(layers, newMln, m_outputSpec);
         return new DLModelPortObject[]{newPortObject};
@@ -219,6 +235,7 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
 
         final DLModelPortObjectSpec specWithoutLabels =
             (DLModelPortObjectSpec)configure(inSpecs, Lists.newArrayList(featureColumns))[0];
+        configureWorkspaceModes(specWithoutLabels.getLayerTypes(), m_learnerParameterSettings);
 
         //validate target column selection
         ConfigurationUtils.validateColumnSelection(tableSpec, targetColumns);
@@ -226,6 +243,11 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
         //check if column selections contain intersecting columns
         ConfigurationUtils.validateMutuallyExclusive(featureColumns, targetColumns);
 
+        final List<String> selectedColumns = Lists.newArrayList(featureColumns);
+        selectedColumns.addAll(Arrays.asList(targetColumns));
+        configureEarlyStopping((DataTableSpec)inSpecs[2], selectedColumns, m_dataParameterSettings);
+        configureCheckpoints(m_dataParameterSettings);
+
         logger.info("Constructed network recognized as: "
             + ConfigurationUtils.typesToString(specWithoutLabels.getNeuralNetworkTypes()));
 
@@ -291,6 +313,9 @@ protected List<SettingsModel> initSettingsModels() {
         m_dataParameterSettings = new DataParameterSettingsModels2();
         m_dataParameterSettings.setParameter(DataParameter.BATCH_SIZE);
         m_dataParameterSettings.setParameter(DataParameter.EPOCHS);
+        setOptionalParameters(m_dataParameterSettings, TRAINING_PARAMETERS);
+        setOptionalParameters(m_dataParameterSettings, EARLY_STOPPING_PARAMETERS);
+        setOptionalParameters(m_dataParameterSettings, CHECKPOINT_PARAMETERS);
         m_dataParameterSettings.setParameter(DataParameter.FEATURE_COLUMN_SELECTION2);
         m_dataParameterSettings.setParameter(DataParameter.TARGET_COLUMN_SELECTION2);
         m_dataParameterSettings.setParameter(DataParameter.IMAGE_SIZE);
@@ -333,6 +358,7 @@ protected List<SettingsModel> initSettingsModels() {
         m_learnerParameterSettings.setParameter(LearnerParameter.USE_REGULARIZATION);
         m_learnerParameterSettings.setParameter(LearnerParameter.USE_SEED);
         m_learnerParameterSettings.setParameter(LearnerParameter.USE_UPDATER);
+        setOptionalParameters(m_learnerParameterSettings, WORKSPACE_MODE_PARAMETERS);
 
         m_layerParameterSettings = new LayerParameterSettingsModels2();
         m_layerParameterSettings.setParameter(LayerParameter.LOSS_FUNCTION);
@@ -363,13 +389,14 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
      * cancelling.
      *
      * @param mln the network to train
+     * @param trainedEpochs the number of epochs already trained, training continues with the following epoch
      * @param epochs the number of epochs to train
      * @param data the data to train on
      * @param exec
      * @throws Exception
      */
-    private void trainNetwork(final MultiLayerNetwork mln, final int epochs, final DataSetIterator data,
-        final ExecutionContext exec) throws Exception {
+    private void trainNetwork(final MultiLayerNetwork mln, final int trainedEpochs, final int epochs,
+        final DataSetIterator data, final ExecutionContext exec) throws Exception {
 
         // do only backprop for regression
         mln.getLayerWiseConfigurations().setBackprop(true);
@@ -380,7 +407,7 @@ private void trainNetwork(final MultiLayerNetwork mln, final int epochs, final D
         double maxProgress = epochs;
 
         logger.info("Do Backpropagation for " + epochs + " epochs.");
-        for (int i = 0; i < epochs; i++) {
+        for (int i = trainedEpochs; i < epochs; i++) {
             exec.checkCanceled();
             if (getLearningMonitor().checkStopLearning()) {
                 break;
@@ -392,7 +419,11 @@ private void trainNetwork(final MultiLayerNetwork mln, final int epochs, final D
             logEpochScore(mln, (i + 1));
             data.reset();
             exec.setProgress((i + 1) / maxProgress);
-
+            final boolean stop = checkEarlyStopping(mln, i + 1, exec);
+            saveCheckpoint(mln, i + 1, epochs, m_dataParameterSettings, exec);
+            if (stop) {
+                break;
+            }
         }
     }
 
@@ -64,6 +64,7 @@
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
+import javax.swing.Timer;
 import javax.swing.text.DefaultCaret;
 
 import org.knime.core.node.NodeLogger;
@@ -75,8 +76,9 @@
  * information about the current learning status, meaning the used training method and epoch. Additionally, the error of
  * the network is displayed. The view also contains a button for early stopping of the learning process. <br>
  * <br>
- * The learning will be updated calling updateView() in the learner node model. The error is updated using a
- * {@link UpdateLearnerViewIterationListener}. If the early stopping button is pushed this will update the stop flag in
+ * The learning will be updated calling updateView() in the learner node model. The error is sampled by a
+ * {@link UpdateLearnerViewIterationListener} into the {@link ScoreBuffer} of the node model, which is polled by the
+ * view while it is open. If the early stopping button is pushed this will update the stop flag in
  * the {@link LearningMonitor} which can be retrieved using {@link AbstractDLLearnerNodeModel#getLearningMonitor()}.
  *
  * @author David Kolb, KNIME.com GmbH
@@ -105,6 +107,15 @@
 
     private String m_dotAppend = WHITESPACE;
 
+    /** Interval in milliseconds in which the score buffer of the node model is polled. */
+    private static final int SCORE_POLL_INTERVAL = 250;
+
+    /** Timer polling the score buffer on the event dispatch thread. */
+    private final Timer m_scoreTimer;
+
+    /** The number of scores of the score buffer already seen by this view. */
+    private long m_scoreCount;
+
     /**
      * Super constructor for class AbstractSimpleLearnerNodeView specifying the {@link AbstractDLLearnerNodeModel} to
      * use.
@@ -193,6 +204,15 @@ public void actionPerformed(final ActionEvent e) {
 
         setComponent(p_wrapper);
 
+        m_scoreCount = nodeModel.getScoreBuffer().getCount();
+        m_scoreTimer = new Timer(SCORE_POLL_INTERVAL, new ActionListener() {
+
+            @Override
+            public void actionPerformed(final ActionEvent e) {
+                pollScores();
+            }
+        });
+
         resetView();
         //get last values from model if available
         if (nodeModel.getScore() != null) {
@@ -209,6 +229,29 @@ public void actionPerformed(final ActionEvent e) {
         }
     }
 
+    /**
+     * Displays the most recent score reported since the last poll, if any.
+     */
+    private void pollScores() {
+        final ScoreBuffer buffer = getNodeModel().getScoreBuffer();
+        final long count = buffer.getCount();
+        final double[] scores = buffer.getScoresSince(m_scoreCount);
+        m_scoreCount = count;
+        if (scores.length > 0) {
+            displayScore(scores[scores.length - 1]);
+        }
+    }
+
+    /**
+     * Displays the specified score.
+     *
+     * @param score the score to display
+     */
+    private void displayScore(final double score) {
+        m_scoreDisplay.setText(addProgressDots(Double.toString(score), m_numberOfUpdates));
+        m_numberOfUpdates++;
+    }
+
     /**
      * Appends the String representation of the specified {@link HistoryEntry} to the text area.
      *
@@ -240,9 +283,7 @@ protected void updateModel(final Object arg) {
             appendHistoryEntry((HistoryEntry)arg);
             //single double value -> score
         } else if (arg instanceof Double) {
-            String loss = Double.toString((Double)arg);
-            m_scoreDisplay.setText(addProgressDots(loss, m_numberOfUpdates));
-            m_numberOfUpdates++;
+            displayScore((Double)arg);
         } else if (arg instanceof LearningStatus) {
             final LearningStatus status = (LearningStatus)arg;
             m_learningInfo.setText(status.getEpochDescription());
@@ -278,7 +319,7 @@ protected void modelChanged() {
      */
     @Override
     protected void onClose() {
-        //nothing to do here
+        m_scoreTimer.stop();
     }
 
     /**
@@ -286,7 +327,7 @@ protected void onClose() {
      */
     @Override
     protected void onOpen() {
-        //nothing to do here
+        m_scoreTimer.start();
     }
 
     /**
@@ -0,0 +1,129 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.dl4j.base.nodes.learn.view;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free ring buffer of the most recent training scores. The training thread adds scores without blocking and the
+ * view polls the scores added since its last poll. Only a single thread may add scores, any number of threads may
+ * read. If the reader falls behind by more than the capacity, the oldest scores are skipped.
+ *
+ * @author agent
+ */
+public class ScoreBuffer {
+
+    private static final double[] EMPTY = new double[0];
+
+    /** The scores stored as raw long bits in order to avoid boxing. */
+    private final AtomicLongArray m_scores;
+
+    /** The total number of scores added to this buffer. */
+    private final AtomicLong m_count = new AtomicLong();
+
+    /**
+     * Constructor for class ScoreBuffer.
+     *
+     * @param capacity the number of recent scores to keep
+     */
+    public ScoreBuffer(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be at least 1 but was: " + capacity);
+        }
+        m_scores = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * Adds the specified score to the buffer, overwriting the oldest score if the buffer is full. Must only be called
+     * by a single thread.
+     *
+     * @param score the score to add
+     */
+    public void add(final double score) {
+        final long count = m_count.get();
+        m_scores.set((int)(count % m_scores.length()), Double.doubleToRawLongBits(score));
+        m_count.lazySet(count + 1);
+    }
+
+    /**
+     * @return the total number of scores added to this buffer, can be used as position for
+     *         {@link #getScoresSince(long)}
+     */
+    public long getCount() {
+        return m_count.get();
+    }
+
+    /**
+     * Returns the scores added after the specified number of scores, oldest first. Scores which are already
+     * overwritten are not contained.
+     *
+     * @param count the number of scores already seen, usually the result of a previous call of {@link #getCount()}
+     * @return the scores added since, may be empty
+     */
+    public double[] getScoresSince(final long count) {
+        final int capacity = m_scores.length();
+        final long end = m_count.get();
+        final long start = Math.max(count, end - capacity);
+        if (start >= end) {
+            return EMPTY;
+        }
+        final double[] scores = new double[(int)(end - start)];
+        for (long i = start; i < end; i++) {
+            scores[(int)(i - start)] = Double.longBitsToDouble(m_scores.get((int)(i % capacity)));
+        }
+        //drop the scores which may have been overwritten while copying, the slot of the next score is written first
+        final long firstValid = (m_count.get() + 1) - capacity;
+        if (firstValid > start) {
+            return Arrays.copyOfRange(scores, (int)Math.min(firstValid - start, scores.length), scores.length);
+        }
+        return scores;
+    }
+}
@@ -42,13 +42,17 @@
  *******************************************************************************/
 package org.knime.ext.dl4j.base.nodes.learn.view;
 
+import java.util.concurrent.TimeUnit;
+
 import org.deeplearning4j.nn.api.Model;
 import org.deeplearning4j.optimize.api.IterationListener;
 import org.knime.ext.dl4j.base.nodes.learn.AbstractDLLearnerNodeModel;
 
 /**
  * Implementation of {@link IterationListener} using a {@link AbstractDLLearnerNodeModel} for score reporting and view
- * communication. Also updates the score of the learner node model.
+ * communication. Also updates the score of the learner node model. The score is only sampled every few iterations or
+ * milliseconds and reported using {@link AbstractDLLearnerNodeModel#reportScore(double)}, which never blocks on the
+ * view.
  *
  * @author David Kolb, KNIME.com GmbH
  */
@@ -59,20 +63,54 @@ public class UpdateLearnerViewIterationListener implements IterationListener {
      */
     private static final long serialVersionUID = 825931436593012325L;
 
+    /** The default number of iterations after which the score is sampled, disabled by default. */
+    public static final int DEFAULT_SAMPLING_FREQUENCY = 0;
+
+    /** The default number of milliseconds after which the score is sampled. */
+    public static final long DEFAULT_SAMPLING_INTERVAL = 100;
+
     private boolean m_invoked = false;
 
     private final AbstractDLLearnerNodeModel m_nodeModel;
 
+    private final int m_samplingFrequency;
+
+    private final long m_samplingIntervalNanos;
+
+    private int m_iterationsSinceSample = 0;
+
+    private long m_lastSampleNanos;
+
     /**
      * Constructor for class UpdateLearnerViewIterationListener specifying the {@link AbstractDLLearnerNodeModel} it
-     * should use for updating the view. After each iteration the method
-     * {@link AbstractDLLearnerNodeModel#passObjToView(Object)} is called which in turn calls notifyView on the
-     * NodeModel.
+     * should use for updating the view. Uses the default sampling frequency and interval.
      *
      * @param nodeModel
      */
     public UpdateLearnerViewIterationListener(final AbstractDLLearnerNodeModel nodeModel) {
+        this(nodeModel, DEFAULT_SAMPLING_FREQUENCY, DEFAULT_SAMPLING_INTERVAL);
+    }
+
+    /**
+     * Constructor for class UpdateLearnerViewIterationListener specifying the {@link AbstractDLLearnerNodeModel} it
+     * should use for updating the view. The score is sampled if the specified number of iterations or milliseconds
+     * passed since the last sample, whichever comes first. Values smaller than 1 disable the respective criterion. If
+     * both are disabled the score is sampled after each iteration.
+     *
+     * @param nodeModel
+     * @param samplingFrequency the number of iterations after which the score is sampled
+     * @param samplingInterval the number of milliseconds after which the score is sampled
+     */
+    public UpdateLearnerViewIterationListener(final AbstractDLLearnerNodeModel nodeModel,
+        final int samplingFrequency, final long samplingInterval) {
         m_nodeModel = nodeModel;
+        if ((samplingFrequency < 1) && (samplingInterval < 1)) {
+            m_samplingFrequency = 1;
+        } else {
+            m_samplingFrequency = samplingFrequency;
+        }
+        m_samplingIntervalNanos = TimeUnit.MILLISECONDS.toNanos(samplingInterval);
+        m_lastSampleNanos = System.nanoTime();
     }
 
     @Override
@@ -88,11 +126,15 @@ public void invoke() {
     @Override
     public void iterationDone(final Model model, final int iteration) {
         invoke();
-        final double result = model.score();
-        //pass the current score to the view
-        m_nodeModel.passObjToView(new Double(result));
-        //update score in node model
-        m_nodeModel.setScore(result);
+        m_iterationsSinceSample++;
+        final long now = System.nanoTime();
+        if (((m_samplingFrequency > 0) && (m_iterationsSinceSample >= m_samplingFrequency))
+            || ((m_samplingIntervalNanos > 0) && ((now - m_lastSampleNanos) >= m_samplingIntervalNanos))) {
+            m_iterationsSinceSample = 0;
+            m_lastSampleNanos = now;
+            //pass the current score to the view and update score in node model
+            m_nodeModel.reportScore(model.score());
+        }
     }
 
 }
@@ -42,9 +42,9 @@
  *******************************************************************************/
 package org.knime.ext.dl4j.base.nodes.predict;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import org.deeplearning4j.nn.conf.WorkspaceMode;
 import org.deeplearning4j.nn.conf.layers.BaseLayer;
 import org.deeplearning4j.nn.conf.layers.FeedForwardLayer;
 import org.deeplearning4j.nn.conf.layers.Layer;
@@ -273,23 +273,20 @@ protected int getNumberOfOutputs(final MultiLayerNetwork mln, final int layerInd
     /**
      * Creates output for an input {@link INDArray}. The input array must contain each example to predict in a row.
      * Returns a {@link INDArray} with 'number of outputs' columns and 'number of examples' rows, whereby the number of
-     * examples is the number of rows of the input array.
+     * examples is the number of rows of the input array. All examples are passed through the network in a single
+     * forward pass.
      *
      * @param mln the network to use for prediction
      * @param input the input used to create output
      * @return array containing the output of the network for each row of the input
      */
     protected INDArray predict(final MultiLayerNetwork mln, final INDArray input) {
-        final INDArray output = Nd4j.create(input.rows(), getNumberOfOutputs(mln));
-        for (int i = 0; i < input.rows(); i++) {
-            output.putRow(i, mln.output(input.getRow(i), false));
-        }
-        return output;
+        return mln.output(input, false);
     }
 
     /**
      * Activates the specified layer in the specified network with the specified input. The input array should contain
-     * one example per row.
+     * one example per row. All examples are passed through the network in a single forward pass.
      *
      * @param mln the network to use
      * @param layerNum the layer to activate
@@ -300,15 +297,15 @@ protected INDArray activate(final MultiLayerNetwork mln, final int layerNum, fin
         /* The MultiLayerNetwork.feedForwardToLayer(int layerNum, INDArray input, boolean train) method is not wrapped
          * into workspaces by DL4J (see MultiLayerNetwork.output(INDArray input, boolean train) method). Therefore, we
          * need to do the same thing here. */
+        if (mln.getLayerWiseConfigurations().getInferenceWorkspaceMode() == WorkspaceMode.NONE) {
+            final List<INDArray> activations = mln.feedForwardToLayer(layerNum, input, false);
+            return activations.get(activations.size() - 1);
+        }
         MemoryWorkspace workspace =
             Nd4j.getWorkspaceManager().getWorkspaceForCurrentThread(workspaceConfigurationExternal, workspaceExternal);
         try (MemoryWorkspace wsE = workspace.notifyScopeEntered()) {
-            final List<INDArray> output = new ArrayList<INDArray>();
-            for (int i = 0; i < input.rows(); i++) {
-                List<INDArray> activations = mln.feedForwardToLayer(layerNum, input.getRow(i), false);
-                output.add(activations.get(activations.size() - 1).detach());
-            }
-            return Nd4j.hstack(output);
+            final List<INDArray> activations = mln.feedForwardToLayer(layerNum, input, false);
+            return activations.get(activations.size() - 1).detach();
         }
     }
 
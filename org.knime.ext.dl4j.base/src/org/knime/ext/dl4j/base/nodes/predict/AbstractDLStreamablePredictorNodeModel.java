@@ -0,0 +1,380 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.dl4j.base.nodes.predict;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.deeplearning4j.nn.conf.MultiLayerConfiguration;
+import org.deeplearning4j.nn.conf.WorkspaceMode;
+import org.deeplearning4j.nn.multilayer.MultiLayerNetwork;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.ext.dl4j.base.DLModelPortObject;
+import org.knime.ext.dl4j.base.DLModelPortObjectSpec;
+import org.knime.ext.dl4j.base.data.convert.row.IDataRowToDataSetConverter;
+import org.knime.ext.dl4j.base.data.convert.row.LabelTargetDataRowToDataSetConverter;
+import org.knime.ext.dl4j.base.util.ConfigurationUtils;
+import org.knime.ext.dl4j.base.util.DLModelPortObjectUtils;
+import org.knime.ext.dl4j.base.util.TableUtils;
+import org.nd4j.linalg.api.memory.MemoryWorkspaceManager;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+
+/**
+ * Abstract superclass for predictor node models of Deeplearning4J integration which append the network output for
+ * each row of the input table. Rows are polled from a {@link RowInput} in micro-batches, each batch is passed through
+ * the network in a single forward pass and the output rows are pushed in input order. The same code path is used for
+ * normal and for streamed or distributed execution, hence the input table is never copied.
+ *
+ * Expects the model at port 0 and the table to predict at port 1.
+ *
+ * @author agent
+ */
+public abstract class AbstractDLStreamablePredictorNodeModel extends AbstractDLPredictorNodeModel {
+
+    private static final NodeLogger logger = NodeLogger.getLogger(AbstractDLStreamablePredictorNodeModel.class);
+
+    /**
+     * Super constructor for class AbstractDLStreamablePredictorNodeModel passing through parameters to node model
+     * class.
+     *
+     * @param inPortTypes
+     * @param outPortTypes
+     */
+    protected AbstractDLStreamablePredictorNodeModel(final PortType[] inPortTypes, final PortType[] outPortTypes) {
+        super(inPortTypes, outPortTypes);
+    }
+
+    /**
+     * Checks if the specified model can be used by this predictor. Called once before the rows are predicted.
+     *
+     * @param model the model to check
+     * @throws InvalidSettingsException if the model can't be used for prediction
+     */
+    protected void validateModel(final DLModelPortObject model) throws InvalidSettingsException {
+        //nothing to check by default
+    }
+
+    /**
+     * @return the number of rows which are passed through the network at once
+     */
+    protected abstract int getInferenceBatchSize();
+
+    /**
+     * Returns the DL4J workspace mode which should be used for the forward passes of this predictor. If null is
+     * returned, the mode stored in the configuration of the model is used.
+     *
+     * @return the workspace mode to use for inference, null to keep the mode of the model
+     * @throws InvalidSettingsException if the configured workspace mode is invalid
+     */
+    protected WorkspaceMode getInferenceWorkspaceMode() throws InvalidSettingsException {
+        return null;
+    }
+
+    /**
+     * Parses the specified name of a DL4J workspace mode.
+     *
+     * @param workspaceMode the name of the workspace mode
+     * @return the corresponding workspace mode
+     * @throws InvalidSettingsException if the name does not correspond to a workspace mode
+     */
+    protected WorkspaceMode parseWorkspaceMode(final String workspaceMode) throws InvalidSettingsException {
+        try {
+            return WorkspaceMode.valueOf(workspaceMode);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Unknown workspace mode: " + workspaceMode, e);
+        }
+    }
+
+    /**
+     * @return the spec of the output table
+     */
+    protected abstract DataTableSpec getOutputSpec();
+
+    /**
+     * Computes the output of the specified network for a batch of examples. The input array contains one example per
+     * row, the returned array must contain the corresponding output in the same row.
+     *
+     * @param mln the network to use
+     * @param features the features of the batch
+     * @return the output for each row of the batch
+     */
+    protected abstract INDArray computeOutput(MultiLayerNetwork mln, INDArray features);
+
+    /**
+     * Converts the network output for one row to cells and appends them to the specified list of cells.
+     *
+     * @param cells the cells of the input row
+     * @param output the output of the network for this row
+     * @param modelSpec the spec of the used model
+     */
+    protected abstract void appendOutputCells(List<DataCell> cells, INDArray output, DLModelPortObjectSpec modelSpec);
+
+    @Override
+    protected PortObject[] executeDL4JMemorySafe(final PortObject[] inObjects, final ExecutionContext exec)
+        throws Exception {
+        final DLModelPortObject model = (DLModelPortObject)inObjects[0];
+        final BufferedDataTable table = (BufferedDataTable)inObjects[1];
+
+        try {
+            TableUtils.checkForEmptyTable(table);
+        } catch (IllegalStateException e) {
+            return createEmptyTable(exec, getOutputSpec());
+        }
+
+        final BufferedDataTableRowOutput output =
+            new BufferedDataTableRowOutput(exec.createDataContainer(getOutputSpec()));
+        predictRows(model, new DataTableRowInput(table), output, exec, table.size());
+
+        return new PortObject[]{output.getDataTable()};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                final DLModelPortObject model = (DLModelPortObject)((PortObjectInput)inputs[0]).getPortObject();
+                final MemoryWorkspaceManager mwsm = Nd4j.getWorkspaceManager();
+                try {
+                    mwsm.destroyAllWorkspacesForCurrentThread();
+                    predictRows(model, (RowInput)inputs[1], (RowOutput)outputs[0], exec, -1);
+                } finally {
+                    mwsm.destroyAllWorkspacesForCurrentThread();
+                }
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_NONSTREAMABLE, InputPortRole.DISTRIBUTED_STREAMABLE};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{OutputPortRole.DISTRIBUTED};
+    }
+
+    /**
+     * Polls rows from the specified input in batches of the inference batch size, passes each batch through the network
+     * and pushes the input rows with appended output cells to the specified output. Closes input and output when done.
+     *
+     * @param model the model to use for prediction
+     * @param input the rows to predict
+     * @param output the output to push the result rows to
+     * @param exec the execution context used for progress and cancellation
+     * @param rowCount the number of rows of the input, or a negative value if unknown
+     * @throws Exception if a row could not be converted or the execution was canceled
+     */
+    private void predictRows(final DLModelPortObject model, final RowInput input, final RowOutput output,
+        final ExecutionContext exec, final long rowCount) throws Exception {
+        validateModel(model);
+        final DLModelPortObjectSpec modelSpec = model.getSpec();
+        final MultiLayerNetwork mln = model.getMultilayerLayerNetwork();
+        final WorkspaceMode inferenceMode = getInferenceWorkspaceMode();
+        if ((inferenceMode == null)
+            || (inferenceMode == mln.getLayerWiseConfigurations().getInferenceWorkspaceMode())) {
+            predictRows(mln, modelSpec, input, output, exec, rowCount);
+        } else {
+            logWarnings(logger,
+                ConfigurationUtils.validateWorkspaceMode(modelSpec.getLayerTypes(), inferenceMode.name(), false));
+            predictRows(withInferenceWorkspaceMode(mln, inferenceMode), modelSpec, input, output, exec, rowCount);
+        }
+    }
+
+    /**
+     * Creates a network using the specified inference workspace mode which shares the parameters of the specified
+     * network. The network of the input port object is shared with other nodes and must not be modified, hence only
+     * the configuration of the created network is changed.
+     *
+     * @param mln the network to copy
+     * @param inferenceMode the workspace mode to use for inference
+     * @return a network sharing the parameters of the specified network
+     */
+    private static MultiLayerNetwork withInferenceWorkspaceMode(final MultiLayerNetwork mln,
+        final WorkspaceMode inferenceMode) {
+        final MultiLayerConfiguration conf = mln.getLayerWiseConfigurations().clone();
+        conf.setInferenceWorkspaceMode(inferenceMode);
+        final INDArray params = mln.params();
+        final MultiLayerNetwork copy = new MultiLayerNetwork(conf, params);
+        copy.init(params, false);
+        return copy;
+    }
+
+    /**
+     * Polls rows from the specified input in batches of the inference batch size using the specified network.
+     *
+     * @param mln the network to use for prediction
+     * @param modelSpec the spec of the model
+     * @param input the rows to predict
+     * @param output the output to push the result rows to
+     * @param exec the execution context used for progress and cancellation
+     * @param rowCount the number of rows of the input, or a negative value if unknown
+     * @throws Exception if a row could not be converted or the execution was canceled
+     */
+    private void predictRows(final MultiLayerNetwork mln, final DLModelPortObjectSpec modelSpec,
+        final RowInput input, final RowOutput output, final ExecutionContext exec, final long rowCount)
+        throws Exception {
+        final int batchSize = getInferenceBatchSize();
+        final int[] featureColumns = getFeatureColumnIndices(input.getDataTableSpec(), modelSpec);
+
+        final List<DataRow> batch = new ArrayList<>(batchSize);
+        IDataRowToDataSetConverter converter = null;
+        long i = 0;
+        boolean inputExhausted = false;
+        while (!inputExhausted) {
+            exec.checkCanceled();
+
+            batch.clear();
+            DataRow row = null;
+            while (batch.size() < batchSize && (row = input.poll()) != null) {
+                batch.add(row);
+            }
+            inputExhausted = row == null;
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            //the converter determines the feature length from the first row it sees
+            if (converter == null) {
+                converter = new LabelTargetDataRowToDataSetConverter(selectCells(batch.get(0), featureColumns));
+            }
+            final INDArray features = Nd4j.create(batch.size(), converter.featureLength());
+            final INDArray targets = Nd4j.create(batch.size(), Math.max(converter.targetLength(), 1));
+            for (int r = 0; r < batch.size(); r++) {
+                converter.convertInto(selectCells(batch.get(r), featureColumns), features, targets, r);
+            }
+            final INDArray outputs = computeOutput(mln, features);
+
+            //write results back in row order
+            for (int r = 0; r < batch.size(); r++) {
+                final DataRow inputRow = batch.get(r);
+                final List<DataCell> cells = TableUtils.toListOfCells(inputRow);
+                appendOutputCells(cells, outputs.getRow(r), modelSpec);
+                output.push(new DefaultRow(inputRow.getKey(), cells));
+            }
+
+            i += batch.size();
+            if (rowCount > 0) {
+                exec.setProgress((double)i / (double)rowCount);
+            }
+        }
+
+        input.close();
+        output.close();
+    }
+
+    /**
+     * Determines the indices of the feature columns the model was trained on in the specified spec. The indices are
+     * sorted ascending as the columns are used in the order of the input table.
+     *
+     * @param spec the spec of the table to predict
+     * @param modelSpec the spec of the used model
+     * @return the sorted indices of the feature columns
+     */
+    private int[] getFeatureColumnIndices(final DataTableSpec spec, final DLModelPortObjectSpec modelSpec) {
+        final String[] predictCols = DLModelPortObjectUtils.getFirsts(modelSpec.getLearnedColumns(), String.class);
+        final int[] indices = new int[predictCols.length];
+        for (int i = 0; i < predictCols.length; i++) {
+            indices[i] = spec.findColumnIndex(predictCols[i]);
+        }
+        Arrays.sort(indices);
+        return indices;
+    }
+
+    /**
+     * Creates a row containing only the cells at the specified indices of the specified row.
+     *
+     * @param row the row to select from
+     * @param columnIndices the indices of the cells to keep
+     * @return row containing the selected cells
+     */
+    private DataRow selectCells(final DataRow row, final int[] columnIndices) {
+        final DataCell[] cells = new DataCell[columnIndices.length];
+        for (int i = 0; i < columnIndices.length; i++) {
+            cells[i] = row.getCell(columnIndices[i]);
+        }
+        return new DefaultRow(row.getKey(), cells);
+    }
+}
@@ -45,6 +45,8 @@
 import org.knime.ext.dl4j.base.nodes.dialog.DefaultDLNodeDialogPane;
 import org.knime.ext.dl4j.base.nodes.predict.dialog.AppendProbabilityColumnComponentGroup;
 import org.knime.ext.dl4j.base.nodes.predict.dialog.ClassificationPredictionColumnNameComponentGroup;
+import org.knime.ext.dl4j.base.nodes.predict.dialog.InferenceBatchSizeComponentGroup;
+import org.knime.ext.dl4j.base.nodes.predict.dialog.InferenceWorkspaceModeComponentGroup;
 import org.knime.ext.dl4j.base.settings.impl.PredictorParameterSettingsModels2;
 
 /**
@@ -66,5 +68,12 @@ public FeedforwardClassificationPredictorNodeDialog() {
         AppendProbabilityColumnComponentGroup probabilityColumnComp =
             new AppendProbabilityColumnComponentGroup(predictorSettings);
         addDialogComponentGroup(probabilityColumnComp);
+
+        InferenceBatchSizeComponentGroup batchSizeComp = new InferenceBatchSizeComponentGroup(predictorSettings);
+        addDialogComponentGroup(batchSizeComp);
+
+        InferenceWorkspaceModeComponentGroup workspaceComp =
+            new InferenceWorkspaceModeComponentGroup(predictorSettings);
+        addDialogComponentGroup(workspaceComp);
     }
 }
\ No newline at end of file
@@ -45,46 +45,36 @@
 import java.util.ArrayList;
 import java.util.List;
 
+import org.deeplearning4j.nn.conf.WorkspaceMode;
 import org.deeplearning4j.nn.multilayer.MultiLayerNetwork;
 import org.knime.core.data.DataCell;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
-import org.knime.core.data.container.CloseableRowIterator;
-import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.StringCell;
-import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
-import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.defaultnodesettings.SettingsModel;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
-import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
 import org.knime.ext.dl4j.base.DLModelPortObject;
 import org.knime.ext.dl4j.base.DLModelPortObjectSpec;
-import org.knime.ext.dl4j.base.data.iter.ClassificationBufferedDataTableDataSetIterator;
 import org.knime.ext.dl4j.base.nodes.learn.feedforward.classification.FeedforwardClassificationLearnerNodeModel;
-import org.knime.ext.dl4j.base.nodes.predict.AbstractDLPredictorNodeModel;
+import org.knime.ext.dl4j.base.nodes.predict.AbstractDLStreamablePredictorNodeModel;
 import org.knime.ext.dl4j.base.settings.enumerate.PredictorPrameter;
 import org.knime.ext.dl4j.base.settings.enumerate.dl4j.DL4JActivationFunction;
 import org.knime.ext.dl4j.base.settings.impl.PredictorParameterSettingsModels2;
-import org.knime.ext.dl4j.base.util.DLModelPortObjectUtils;
 import org.knime.ext.dl4j.base.util.NDArrayUtils;
 import org.knime.ext.dl4j.base.util.TableUtils;
 import org.nd4j.linalg.api.ndarray.INDArray;
-import org.nd4j.linalg.dataset.DataSet;
-import org.nd4j.linalg.dataset.api.iterator.DataSetIterator;
 
 /**
  * Classification predictor for feedforward networks of Deeplearning4J integration.
  *
  * @author David Kolb, KNIME.com GmbH
  */
-public class FeedforwardClassificationPredictorNodeModel extends AbstractDLPredictorNodeModel {
+public class FeedforwardClassificationPredictorNodeModel extends AbstractDLStreamablePredictorNodeModel {
 
     /* SettingsModels */
     private PredictorParameterSettingsModels2 m_predictorParameter;
@@ -98,70 +88,66 @@ protected FeedforwardClassificationPredictorNodeModel() {
         super(new PortType[]{DLModelPortObject.TYPE, BufferedDataTable.TYPE}, new PortType[]{BufferedDataTable.TYPE});
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    protected PortObject[] executeDL4JMemorySafe(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
-        final DLModelPortObject model = (DLModelPortObject)inObjects[0];
-        final DLModelPortObjectSpec modelSpec = model.getSpec();
-        final BufferedDataTable table = (BufferedDataTable)inObjects[1];
-        final DataTableSpec tableSpec = table.getDataTableSpec();
-
-        //select feature columns from table used for prediction
-        final String[] predictCols = DLModelPortObjectUtils.getFirsts(modelSpec.getLearnedColumns(), String.class);
-        ColumnRearranger crr = new ColumnRearranger(tableSpec);
-        crr.keepOnly(predictCols);
-        final BufferedDataTable filteredTable = exec.createColumnRearrangeTable(table, crr, exec);
-
-        try {
-            TableUtils.checkForEmptyTable(filteredTable);
-        } catch (IllegalStateException e) {
-            return createEmptyTable(exec, m_outputSpec);
-        }
-
-        //create iterator and prediction
-        final DataSetIterator input = new ClassificationBufferedDataTableDataSetIterator(filteredTable, 1);
-        final MultiLayerNetwork mln = model.getMultilayerLayerNetwork();
-
+    protected void validateModel(final DLModelPortObject model) throws InvalidSettingsException {
         if (!isOutActivation(model.getLayers(), DL4JActivationFunction.softmax)) {
             throw new InvalidSettingsException("The activation of the output layer is not softmax!");
         }
+    }
 
-        final List<String> labels = modelSpec.getLabels();
-        boolean appendProbability = m_predictorParameter.getBoolean(PredictorPrameter.APPEND_PROBABILITY);
-
-        //write output to table
-        final BufferedDataContainer container = exec.createDataContainer(m_outputSpec);
-        final CloseableRowIterator tableIter = table.iterator();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int getInferenceBatchSize() {
+        return m_predictorParameter.getInteger(PredictorPrameter.INFERENCE_BATCH_SIZE,
+            PredictorPrameter.DEFAULT_INFERENCE_BATCH_SIZE);
+    }
 
-        int i = 0;
-        while (tableIter.hasNext()) {
-            exec.setProgress((double)(i + 1) / (double)(table.size()));
-            exec.checkCanceled();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected WorkspaceMode getInferenceWorkspaceMode() throws InvalidSettingsException {
+        return parseWorkspaceMode(m_predictorParameter.getString(PredictorPrameter.INFERENCE_WORKSPACE_MODE,
+            PredictorPrameter.DEFAULT_INFERENCE_WORKSPACE_MODE));
+    }
 
-            final DataRow row = tableIter.next();
-            final List<DataCell> cells = TableUtils.toListOfCells(row);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected DataTableSpec getOutputSpec() {
+        return m_outputSpec;
+    }
 
-            final DataSet next = input.next();
-            final INDArray prediction = predict(mln, next.getFeatureMatrix());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected INDArray computeOutput(final MultiLayerNetwork mln, final INDArray features) {
+        return predict(mln, features);
+    }
 
-            //add probability values
-            if (appendProbability) {
-                for (int j = 0; j < prediction.length(); j++) {
-                    cells.add(new DoubleCell(prediction.getDouble(j)));
-                }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void appendOutputCells(final List<DataCell> cells, final INDArray prediction,
+        final DLModelPortObjectSpec modelSpec) {
+        //add probability values
+        if (m_predictorParameter.getBoolean(PredictorPrameter.APPEND_PROBABILITY)) {
+            for (int j = 0; j < prediction.length(); j++) {
+                cells.add(new DoubleCell(prediction.getDouble(j)));
             }
-
-            //append prediction
-            final String winningLabel = NDArrayUtils.softmaxActivationToLabel(labels, prediction);
-            cells.add(new StringCell(winningLabel));
-
-            container.addRowToTable(new DefaultRow(row.getKey(), cells));
-            i++;
         }
 
-        tableIter.close();
-        container.close();
-
-        return new PortObject[]{container.getTable()};
+        //append prediction
+        final String winningLabel = NDArrayUtils.softmaxActivationToLabel(modelSpec.getLabels(), prediction);
+        cells.add(new StringCell(winningLabel));
     }
 
     @Override
@@ -239,6 +225,10 @@ protected List<SettingsModel> initSettingsModels() {
         m_predictorParameter.setParameter(PredictorPrameter.NEW_PREDICTION_COLUMN_NAME);
         m_predictorParameter.setParameter(PredictorPrameter.APPEND_PROBABILITY);
         m_predictorParameter.setParameter(PredictorPrameter.PROBABILITY_COLUMN_SUFFIX);
+        m_predictorParameter.setParameter(PredictorPrameter.INFERENCE_BATCH_SIZE);
+        markAsOptional(m_predictorParameter.getParameter(PredictorPrameter.INFERENCE_BATCH_SIZE));
+        m_predictorParameter.setParameter(PredictorPrameter.INFERENCE_WORKSPACE_MODE);
+        markAsOptional(m_predictorParameter.getParameter(PredictorPrameter.INFERENCE_WORKSPACE_MODE));
 
         //set default name in dialog
         SettingsModelString columnNameSettings =
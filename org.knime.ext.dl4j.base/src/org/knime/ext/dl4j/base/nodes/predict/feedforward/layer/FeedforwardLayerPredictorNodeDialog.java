@@ -44,6 +44,8 @@
 
 import org.knime.ext.dl4j.base.nodes.dialog.DefaultDLNodeDialogPane;
 import org.knime.ext.dl4j.base.nodes.predict.dialog.LayerSelectionComponentGroup;
+import org.knime.ext.dl4j.base.nodes.predict.dialog.InferenceBatchSizeComponentGroup;
+import org.knime.ext.dl4j.base.nodes.predict.dialog.InferenceWorkspaceModeComponentGroup;
 import org.knime.ext.dl4j.base.settings.impl.PredictorParameterSettingsModels2;
 
 /**
@@ -60,5 +62,12 @@ public FeedforwardLayerPredictorNodeDialog() {
         setDefaultTabTitle("Predictor Settings");
         LayerSelectionComponentGroup columnNameComp = new LayerSelectionComponentGroup(predictorSettings, 0);
         addDialogComponentGroupWithBorder(columnNameComp, "Layer to activate");
+
+        InferenceBatchSizeComponentGroup batchSizeComp = new InferenceBatchSizeComponentGroup(predictorSettings);
+        addDialogComponentGroup(batchSizeComp);
+
+        InferenceWorkspaceModeComponentGroup workspaceComp =
+            new InferenceWorkspaceModeComponentGroup(predictorSettings);
+        addDialogComponentGroup(workspaceComp);
     }
 }
@@ -45,43 +45,33 @@
 import java.util.ArrayList;
 import java.util.List;
 
+import org.deeplearning4j.nn.conf.WorkspaceMode;
 import org.deeplearning4j.nn.multilayer.MultiLayerNetwork;
 import org.knime.core.data.DataCell;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
-import org.knime.core.data.container.CloseableRowIterator;
-import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.vector.doublevector.DenseDoubleVectorCell;
-import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
-import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.defaultnodesettings.SettingsModel;
-import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
 import org.knime.ext.dl4j.base.DLModelPortObject;
 import org.knime.ext.dl4j.base.DLModelPortObjectSpec;
-import org.knime.ext.dl4j.base.data.iter.ClassificationBufferedDataTableDataSetIterator;
-import org.knime.ext.dl4j.base.nodes.predict.AbstractDLPredictorNodeModel;
+import org.knime.ext.dl4j.base.nodes.predict.AbstractDLStreamablePredictorNodeModel;
 import org.knime.ext.dl4j.base.settings.enumerate.PredictorPrameter;
 import org.knime.ext.dl4j.base.settings.impl.PredictorParameterSettingsModels2;
-import org.knime.ext.dl4j.base.util.DLModelPortObjectUtils;
 import org.knime.ext.dl4j.base.util.NDArrayUtils;
 import org.knime.ext.dl4j.base.util.TableUtils;
 import org.nd4j.linalg.api.ndarray.INDArray;
-import org.nd4j.linalg.dataset.DataSet;
-import org.nd4j.linalg.dataset.api.iterator.DataSetIterator;
 
 /**
  * Layer predictor for feedforward networks of Deeplearning4J integration.
  *
  * @author David Kolb, KNIME.com GmbH
  */
-public class FeedforwardLayerPredictorNodeModel extends AbstractDLPredictorNodeModel {
+public class FeedforwardLayerPredictorNodeModel extends AbstractDLStreamablePredictorNodeModel {
 
     /* SettingsModels */
     private PredictorParameterSettingsModels2 m_predictorParameter;
@@ -95,56 +85,48 @@ protected FeedforwardLayerPredictorNodeModel() {
         super(new PortType[]{DLModelPortObject.TYPE, BufferedDataTable.TYPE}, new PortType[]{BufferedDataTable.TYPE});
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    protected PortObject[] executeDL4JMemorySafe(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
-        final DLModelPortObject model = (DLModelPortObject)inObjects[0];
-        final DLModelPortObjectSpec modelSpec = model.getSpec();
-        final BufferedDataTable table = (BufferedDataTable)inObjects[1];
-        final DataTableSpec tableSpec = table.getDataTableSpec();
-
-        //select feature columns from table used for prediction
-        final String[] predictCols = DLModelPortObjectUtils.getFirsts(modelSpec.getLearnedColumns(), String.class);
-        ColumnRearranger crr = new ColumnRearranger(tableSpec);
-        crr.keepOnly(predictCols);
-        final BufferedDataTable filteredTable = exec.createColumnRearrangeTable(table, crr, exec);
-
-        try {
-            TableUtils.checkForEmptyTable(filteredTable);
-        } catch (IllegalStateException e) {
-            return createEmptyTable(exec, m_outputSpec);
-        }
-
-        //create iterator and prediction
-        final DataSetIterator input = new ClassificationBufferedDataTableDataSetIterator(filteredTable, 1);
-        final MultiLayerNetwork mln = model.getMultilayerLayerNetwork();
-
-        //write output to table
-        final BufferedDataContainer container = exec.createDataContainer(m_outputSpec);
-        final CloseableRowIterator tableIter = table.iterator();
-
-        int i = 0;
-        while (tableIter.hasNext()) {
-            exec.setProgress((double)(i + 1) / (double)(table.size()));
-            exec.checkCanceled();
-
-            final DataRow row = tableIter.next();
-            final List<DataCell> cells = TableUtils.toListOfCells(row);
-
-            final DataSet next = input.next();
-            final int layerToActivate = getLayerNumFromDialogSelection();
-            final INDArray activation = activate(mln, layerToActivate, next.getFeatureMatrix());
+    protected int getInferenceBatchSize() {
+        return m_predictorParameter.getInteger(PredictorPrameter.INFERENCE_BATCH_SIZE,
+            PredictorPrameter.DEFAULT_INFERENCE_BATCH_SIZE);
+    }
 
-            final DenseDoubleVectorCell outputVector = NDArrayUtils.toDoubleVector(activation);
-            cells.add(outputVector);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected WorkspaceMode getInferenceWorkspaceMode() throws InvalidSettingsException {
+        return parseWorkspaceMode(m_predictorParameter.getString(PredictorPrameter.INFERENCE_WORKSPACE_MODE,
+            PredictorPrameter.DEFAULT_INFERENCE_WORKSPACE_MODE));
+    }
 
-            container.addRowToTable(new DefaultRow(row.getKey(), cells));
-            i++;
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected DataTableSpec getOutputSpec() {
+        return m_outputSpec;
+    }
 
-        tableIter.close();
-        container.close();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected INDArray computeOutput(final MultiLayerNetwork mln, final INDArray features) {
+        return activate(mln, getLayerNumFromDialogSelection(), features);
+    }
 
-        return new PortObject[]{container.getTable()};
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void appendOutputCells(final List<DataCell> cells, final INDArray activation,
+        final DLModelPortObjectSpec modelSpec) {
+        final DenseDoubleVectorCell outputVector = NDArrayUtils.toDoubleVector(activation);
+        cells.add(outputVector);
     }
 
     /**
@@ -179,6 +161,10 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
     protected List<SettingsModel> initSettingsModels() {
         m_predictorParameter = new PredictorParameterSettingsModels2();
         m_predictorParameter.setParameter(PredictorPrameter.LAYER_SELECTION);
+        m_predictorParameter.setParameter(PredictorPrameter.INFERENCE_BATCH_SIZE);
+        markAsOptional(m_predictorParameter.getParameter(PredictorPrameter.INFERENCE_BATCH_SIZE));
+        m_predictorParameter.setParameter(PredictorPrameter.INFERENCE_WORKSPACE_MODE);
+        markAsOptional(m_predictorParameter.getParameter(PredictorPrameter.INFERENCE_WORKSPACE_MODE));
 
         final List<SettingsModel> settings = new ArrayList<>();
         settings.addAll(m_predictorParameter.getAllInitializedSettings());
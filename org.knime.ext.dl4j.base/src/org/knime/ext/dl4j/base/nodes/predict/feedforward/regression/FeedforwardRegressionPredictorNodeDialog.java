@@ -44,6 +44,8 @@
 
 import org.knime.ext.dl4j.base.nodes.dialog.DefaultDLNodeDialogPane;
 import org.knime.ext.dl4j.base.nodes.predict.dialog.RegressionPredictionColumnNameComponentGroup;
+import org.knime.ext.dl4j.base.nodes.predict.dialog.InferenceBatchSizeComponentGroup;
+import org.knime.ext.dl4j.base.nodes.predict.dialog.InferenceWorkspaceModeComponentGroup;
 import org.knime.ext.dl4j.base.settings.impl.PredictorParameterSettingsModels2;
 
 /**
@@ -61,5 +63,12 @@ public FeedforwardRegressionPredictorNodeDialog() {
         RegressionPredictionColumnNameComponentGroup columnNameComp =
             new RegressionPredictionColumnNameComponentGroup(predictorSettings);
         addDialogComponentGroup(columnNameComp);
+
+        InferenceBatchSizeComponentGroup batchSizeComp = new InferenceBatchSizeComponentGroup(predictorSettings);
+        addDialogComponentGroup(batchSizeComp);
+
+        InferenceWorkspaceModeComponentGroup workspaceComp =
+            new InferenceWorkspaceModeComponentGroup(predictorSettings);
+        addDialogComponentGroup(workspaceComp);
     }
 }
@@ -64,7 +64,22 @@ public enum DataParameter {
                                * Same as FEATURE_COLUMN_SELECTION but with different settings model
                                * (SettingsModelColumnFilter2) associated with it.
                                */
-    FEATURE_COLUMN_SELECTION2;
+    FEATURE_COLUMN_SELECTION2, /** Whether to assemble the next batches on a background thread during training. */
+    USE_PREFETCHING, /** The maximum number of batches which are assembled ahead of training. */
+    PREFETCH_QUEUE_SIZE, /** Whether to cache the converted data of the first epoch for the following epochs. */
+    USE_DATA_CACHE, /** Whether to train replicas of the network on several threads in parallel. */
+    USE_DATA_PARALLEL, /** The number of network replicas used for data parallel training. */
+    NUMBER_OF_WORKERS, /** The number of parallel training rounds after which parameters are averaged. */
+    AVERAGING_FREQUENCY, /** Whether to stop training if the validation score does not improve anymore. */
+    USE_EARLY_STOPPING, /** The number of epochs without improvement of the validation score before stopping. */
+    EARLY_STOPPING_PATIENCE, /** Whether to periodically save a checkpoint of the training state. */
+    USE_CHECKPOINTS, /** The number of epochs after which a checkpoint is saved. */
+    CHECKPOINT_FREQUENCY, /** Whether to continue training from the last saved checkpoint. */
+    RESUME_FROM_CHECKPOINT, /** The directory or URL the training checkpoint is written to and resumed from. */
+    CHECKPOINT_DIRECTORY, /** Whether to train layers on cached activations of frozen or pretrained layers. */
+    USE_ACTIVATION_CACHE, /** The number of iterations after which the training score is sampled for the view. */
+    SCORE_SAMPLING_FREQUENCY, /** The number of milliseconds after which the training score is sampled for the view. */
+    SCORE_SAMPLING_INTERVAL;
 
     //default values for learner parameters
     public static final String DEFAULT_IMAGE_SIZE = "0,0,0";
@@ -72,4 +87,34 @@ public enum DataParameter {
     public static final int DEFAULT_BATCH_SIZE = 1;
 
     public static final int DEFAULT_EPOCHS = 1;
+
+    public static final boolean DEFAULT_USE_PREFETCHING = false;
+
+    public static final int DEFAULT_PREFETCH_QUEUE_SIZE = 2;
+
+    public static final boolean DEFAULT_USE_DATA_CACHE = false;
+
+    public static final boolean DEFAULT_USE_DATA_PARALLEL = false;
+
+    public static final int DEFAULT_NUMBER_OF_WORKERS = 2;
+
+    public static final int DEFAULT_AVERAGING_FREQUENCY = 1;
+
+    public static final boolean DEFAULT_USE_EARLY_STOPPING = false;
+
+    public static final int DEFAULT_EARLY_STOPPING_PATIENCE = 5;
+
+    public static final boolean DEFAULT_USE_CHECKPOINTS = false;
+
+    public static final int DEFAULT_CHECKPOINT_FREQUENCY = 1;
+
+    public static final boolean DEFAULT_RESUME_FROM_CHECKPOINT = false;
+
+    public static final String DEFAULT_CHECKPOINT_DIRECTORY = "";
+
+    public static final boolean DEFAULT_USE_ACTIVATION_CACHE = false;
+
+    public static final int DEFAULT_SCORE_SAMPLING_FREQUENCY = 0;
+
+    public static final int DEFAULT_SCORE_SAMPLING_INTERVAL = 100;
 }
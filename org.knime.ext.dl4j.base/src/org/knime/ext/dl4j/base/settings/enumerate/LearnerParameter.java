@@ -109,7 +109,9 @@ public enum LearnerParameter {
     BIAS_LEARNING_RATE, /** Whether to use a bias learning rate. */
     USE_BIAS_LEARNING_RATE, /** The value to initialise all bias values with. */
     BIAS_INIT, /** Whether to use a bias initialisation value. */
-    USE_BIAS_INIT;
+    USE_BIAS_INIT, /** The DL4J workspace mode used during training. */
+    TRAINING_WORKSPACE_MODE, /** The DL4J workspace mode used during inference. */
+    INFERENCE_WORKSPACE_MODE;
 
     //default values for learner parameters
     public static final String DEFAULT_DISTRIBUTION = "UNIFORM";
@@ -154,4 +156,6 @@ public enum LearnerParameter {
 
     public static final boolean DEFAULT_USE_UPDATER = true;
 
+    public static final String DEFAULT_WORKSPACE_MODE = "SEPARATE";
+
 }
@@ -65,5 +65,14 @@ public enum PredictorPrameter {
         /** The suffix of the prediction columns for regression. */
         PREDICTION_COLUMN_SUFFIX,
         /** The layer to get outputs from for layer predictor. */
-        LAYER_SELECTION;
+        LAYER_SELECTION,
+        /** The number of rows passed through the network at once. */
+        INFERENCE_BATCH_SIZE,
+        /** The DL4J workspace mode used during inference. */
+        INFERENCE_WORKSPACE_MODE;
+
+    //default values for predictor parameters
+    public static final int DEFAULT_INFERENCE_BATCH_SIZE = 100;
+
+    public static final String DEFAULT_INFERENCE_WORKSPACE_MODE = "SEPARATE";
 }
@@ -90,6 +90,10 @@ public class DataParameterSettingsModels implements IParameterSettingsModels<Dat
 
     private SettingsModelString m_sequenceColumn;
 
+    private SettingsModelIntegerBounded m_scoreSamplingFrequency;
+
+    private SettingsModelIntegerBounded m_scoreSamplingInterval;
+
     private final List<SettingsModel> m_allInitializedSettings = new ArrayList<>();
 
     @Override
@@ -116,6 +120,12 @@ public SettingsModel createParameter(final DataParameter enumerate) throws Illeg
                 return new SettingsModelColumnFilter2("feature_column_selection2", getAllowedTypes());
             case TARGET_COLUMN_SELECTION2:
                 return new SettingsModelColumnFilter2("target_column_selection2", getAllowedTypes());
+            case SCORE_SAMPLING_FREQUENCY:
+                return new SettingsModelIntegerBounded("score_sampling_frequency",
+                    DataParameter.DEFAULT_SCORE_SAMPLING_FREQUENCY, 0, Integer.MAX_VALUE);
+            case SCORE_SAMPLING_INTERVAL:
+                return new SettingsModelIntegerBounded("score_sampling_interval",
+                    DataParameter.DEFAULT_SCORE_SAMPLING_INTERVAL, 0, Integer.MAX_VALUE);
             default:
                 throw new IllegalArgumentException("No case defined for Data Parameter: " + enumerate);
         }
@@ -172,6 +182,14 @@ public void setParameter(final DataParameter enumerate) throws IllegalArgumentEx
                 m_targetColumnSelection2 = (SettingsModelColumnFilter2)createParameter(enumerate);
                 addToSet(m_targetColumnSelection2);
                 break;
+            case SCORE_SAMPLING_FREQUENCY:
+                m_scoreSamplingFrequency = (SettingsModelIntegerBounded)createParameter(enumerate);
+                addToSet(m_scoreSamplingFrequency);
+                break;
+            case SCORE_SAMPLING_INTERVAL:
+                m_scoreSamplingInterval = (SettingsModelIntegerBounded)createParameter(enumerate);
+                addToSet(m_scoreSamplingInterval);
+                break;
             default:
                 throw new IllegalArgumentException("No case defined for Data Parameter: " + enumerate);
         }
@@ -217,6 +235,14 @@ public SettingsModelString getSequenceColumn() {
         return m_sequenceColumn;
     }
 
+    public SettingsModelIntegerBounded getScoreSamplingFrequency() {
+        return m_scoreSamplingFrequency;
+    }
+
+    public SettingsModelIntegerBounded getScoreSamplingInterval() {
+        return m_scoreSamplingInterval;
+    }
+
     @Override
     public List<SettingsModel> getAllInitializedSettings() {
         return m_allInitializedSettings;
@@ -44,6 +44,7 @@
 
 import org.knime.core.data.DataValue;
 import org.knime.core.node.defaultnodesettings.SettingsModel;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
 import org.knime.core.node.defaultnodesettings.SettingsModelFilterString;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
@@ -84,6 +85,43 @@ public SettingsModel createParameter(final DataParameter enumerate) throws Illeg
                 return new SettingsModelColumnFilter2("feature_column_selection2", getAllowedTypes());
             case TARGET_COLUMN_SELECTION2:
                 return new SettingsModelColumnFilter2("target_column_selection2", getAllowedTypes());
+            case USE_PREFETCHING:
+                return new SettingsModelBoolean("use_prefetching", DataParameter.DEFAULT_USE_PREFETCHING);
+            case PREFETCH_QUEUE_SIZE:
+                return new SettingsModelIntegerBounded("prefetch_queue_size", DataParameter.DEFAULT_PREFETCH_QUEUE_SIZE,
+                    1, Integer.MAX_VALUE);
+            case USE_DATA_CACHE:
+                return new SettingsModelBoolean("use_data_cache", DataParameter.DEFAULT_USE_DATA_CACHE);
+            case USE_DATA_PARALLEL:
+                return new SettingsModelBoolean("use_data_parallel", DataParameter.DEFAULT_USE_DATA_PARALLEL);
+            case NUMBER_OF_WORKERS:
+                return new SettingsModelIntegerBounded("number_of_workers", DataParameter.DEFAULT_NUMBER_OF_WORKERS, 1,
+                    Integer.MAX_VALUE);
+            case AVERAGING_FREQUENCY:
+                return new SettingsModelIntegerBounded("averaging_frequency", DataParameter.DEFAULT_AVERAGING_FREQUENCY,
+                    1, Integer.MAX_VALUE);
+            case USE_EARLY_STOPPING:
+                return new SettingsModelBoolean("use_early_stopping", DataParameter.DEFAULT_USE_EARLY_STOPPING);
+            case EARLY_STOPPING_PATIENCE:
+                return new SettingsModelIntegerBounded("early_stopping_patience",
+                    DataParameter.DEFAULT_EARLY_STOPPING_PATIENCE, 1, Integer.MAX_VALUE);
+            case USE_CHECKPOINTS:
+                return new SettingsModelBoolean("use_checkpoints", DataParameter.DEFAULT_USE_CHECKPOINTS);
+            case CHECKPOINT_FREQUENCY:
+                return new SettingsModelIntegerBounded("checkpoint_frequency",
+                    DataParameter.DEFAULT_CHECKPOINT_FREQUENCY, 1, Integer.MAX_VALUE);
+            case RESUME_FROM_CHECKPOINT:
+                return new SettingsModelBoolean("resume_from_checkpoint", DataParameter.DEFAULT_RESUME_FROM_CHECKPOINT);
+            case CHECKPOINT_DIRECTORY:
+                return new SettingsModelString("checkpoint_directory", DataParameter.DEFAULT_CHECKPOINT_DIRECTORY);
+            case USE_ACTIVATION_CACHE:
+                return new SettingsModelBoolean("use_activation_cache", DataParameter.DEFAULT_USE_ACTIVATION_CACHE);
+            case SCORE_SAMPLING_FREQUENCY:
+                return new SettingsModelIntegerBounded("score_sampling_frequency",
+                    DataParameter.DEFAULT_SCORE_SAMPLING_FREQUENCY, 0, Integer.MAX_VALUE);
+            case SCORE_SAMPLING_INTERVAL:
+                return new SettingsModelIntegerBounded("score_sampling_interval",
+                    DataParameter.DEFAULT_SCORE_SAMPLING_INTERVAL, 0, Integer.MAX_VALUE);
             default:
                 throw new IllegalArgumentException("No case defined for Data Parameter: " + enumerate);
         }
@@ -84,6 +84,10 @@ public SettingsModel createParameter(final LearnerParameter enumerate) throws Il
                     LearnerParameter.DEFAULT_GRADIENT_NORMALIZATION);
             case UPDATER:
                 return new SettingsModelString("updater", LearnerParameter.DEFAULT_UPDATER);
+            case TRAINING_WORKSPACE_MODE:
+                return new SettingsModelString("training_workspace_mode", LearnerParameter.DEFAULT_WORKSPACE_MODE);
+            case INFERENCE_WORKSPACE_MODE:
+                return new SettingsModelString("inference_workspace_mode", LearnerParameter.DEFAULT_WORKSPACE_MODE);
             case MOMENTUM_AFTER:
                 return new SettingsModelString("momentum_after", LearnerParameter.DEFAULT_MAP);
             case TRAINING_MODE:
@@ -44,6 +44,7 @@
 
 import org.knime.core.node.defaultnodesettings.SettingsModel;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.ext.dl4j.base.settings.IParameterSettingsModels;
 import org.knime.ext.dl4j.base.settings.enumerate.PredictorPrameter;
@@ -79,6 +80,12 @@ public SettingsModel createParameter(final PredictorPrameter enumerate) throws I
                 return new SettingsModelString("prediction_column_suffix", "");
             case LAYER_SELECTION:
                 return new SettingsModelString("layer_to_activate", "");
+            case INFERENCE_BATCH_SIZE:
+                return new SettingsModelIntegerBounded("inference_batch_size",
+                    PredictorPrameter.DEFAULT_INFERENCE_BATCH_SIZE, 1, Integer.MAX_VALUE);
+            case INFERENCE_WORKSPACE_MODE:
+                return new SettingsModelString("inference_workspace_mode",
+                    PredictorPrameter.DEFAULT_INFERENCE_WORKSPACE_MODE);
             default:
                 throw new IllegalArgumentException("No case defined for Predictor Parameter: " + enumerate);
         }
@@ -46,6 +46,7 @@
 import java.util.Iterator;
 import java.util.List;
 
+import org.deeplearning4j.nn.conf.WorkspaceMode;
 import org.deeplearning4j.nn.conf.layers.FeedForwardLayer;
 import org.deeplearning4j.nn.conf.layers.Layer;
 import org.deeplearning4j.nn.conf.layers.LocalResponseNormalization;
@@ -337,6 +338,33 @@ public static void setupLayers(final List<Layer> layers, final int numberOfInput
         }
     }
 
+    /**
+     * Parses the specified DL4J workspace mode and checks if it is suited for the specified layer types.
+     *
+     * @param layerTypes the types of the layers of the network
+     * @param workspaceMode the name of the {@link WorkspaceMode} to check
+     * @param training whether the mode is used for training or for inference
+     * @return list of warnings, empty if the mode can be used without restrictions
+     * @throws InvalidSettingsException if the specified name is not a valid workspace mode
+     */
+    public static List<String> validateWorkspaceMode(final List<DNNLayerType> layerTypes, final String workspaceMode,
+        final boolean training) throws InvalidSettingsException {
+        final WorkspaceMode mode;
+        try {
+            mode = WorkspaceMode.valueOf(workspaceMode);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidSettingsException("Unknown workspace mode: " + workspaceMode, e);
+        }
+
+        final List<String> warnings = new ArrayList<>();
+        if (training && (mode == WorkspaceMode.SINGLE)
+            && (layerTypes.contains(DNNLayerType.GRAVES_LSTM) || layerTypes.contains(DNNLayerType.GRU))) {
+            warnings.add("Workspace mode SINGLE is not recommended for training recurrent layers as the activations of "
+                + "all time steps share one workspace with the backward pass. Consider using SEPARATE.");
+        }
+        return warnings;
+    }
+
     /**
      * Check if the specified list of layer types contains a layer that can be trained unsupervised.
      *
@@ -0,0 +1,131 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.dl4j.base.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Utility class containing helper methods to run work in parallel on the KNIME thread pool instead of the common fork
+ * join pool, hence the number of threads used by nodes is limited by the KNIME preferences.
+ *
+ * @author agent
+ */
+public class ParallelUtils {
+
+    private ParallelUtils() {
+        // Utility class
+    }
+
+    /**
+     * Applies the specified function to all elements of the specified list in parallel using a sub pool of
+     * {@link KNIMEConstants#GLOBAL_THREAD_POOL}. The calling thread is invisible to the pool while waiting, hence
+     * calling this method from a node execution thread does not block a slot of the pool.
+     *
+     * @param elements the elements to map
+     * @param function the function to apply, must be thread safe
+     * @return the results in the order of the elements
+     * @throws ExecutionException if the function threw an exception for any element
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     */
+    public static <T, R> List<R> map(final List<T> elements, final Function<? super T, ? extends R> function)
+        throws ExecutionException, InterruptedException {
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool();
+        final List<Future<R>> futures = new ArrayList<>(elements.size());
+        for (final T element : elements) {
+            futures.add(pool.enqueue(() -> function.apply(element)));
+        }
+        try {
+            return pool.runInvisible(() -> {
+                final List<R> results = new ArrayList<>(futures.size());
+                for (final Future<R> future : futures) {
+                    results.add(future.get());
+                }
+                return results;
+            });
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            for (final Future<R> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Waits for the result of the specified future of a task enqueued to the specified pool, e.g. a sub pool of
+     * {@link KNIMEConstants#GLOBAL_THREAD_POOL}. The calling thread is invisible to the pool while waiting, hence
+     * calling this method from a node execution thread does not block a slot of the pool.
+     *
+     * @param pool the pool the task was enqueued to
+     * @param future the future of the task
+     * @return the result of the task
+     * @throws ExecutionException if the task threw an exception
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     */
+    public static <R> R await(final ThreadPool pool, final Future<R> future)
+        throws ExecutionException, InterruptedException {
+        try {
+            return pool.runInvisible(future::get);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static ExecutionException unwrap(final ExecutionException e) {
+        //runInvisible wraps the exception thrown while waiting for the results
+        return e.getCause() instanceof ExecutionException ? (ExecutionException)e.getCause() : e;
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.dl4j.base.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.UUID;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+
+/**
+ * Temporary file storing the raw values of {@link INDArray}s in the data type currently used by ND4J. Arrays are
+ * appended to the file and read back by their position, their shapes need to be kept by the caller. Values are
+ * written directly from the off-heap buffers of the arrays and read back directly into the off-heap buffers of new
+ * arrays, hence they are never copied to the heap. The file is created when the first array is appended.
+ * {@link #close()} must be called if the file is not used anymore in order to delete it.
+ *
+ * @author agent
+ */
+public final class TemporaryArrayFile implements AutoCloseable {
+
+    // the logger instance
+    private static final NodeLogger logger = NodeLogger.getLogger(TemporaryArrayFile.class);
+
+    private final String m_prefix;
+
+    private final String m_description;
+
+    private final boolean m_useDouble;
+
+    private File m_file;
+
+    private FileChannel m_channel;
+
+    private long m_writePosition;
+
+    /**
+     * Constructor for class TemporaryArrayFile.
+     *
+     * @param prefix the prefix of the name of the temporary file
+     * @param description the description of the file used in messages, e.g. "activation cache"
+     */
+    public TemporaryArrayFile(final String prefix, final String description) {
+        m_prefix = prefix;
+        m_description = description;
+        m_useDouble = Nd4j.dataType() == DataBuffer.Type.DOUBLE;
+    }
+
+    /**
+     * Appends the values of the specified array in c order to the file.
+     *
+     * @param array the array to write
+     * @return the position of the array in the file
+     * @throws IOException if the file can't be written
+     */
+    public long append(final INDArray array) throws IOException {
+        if (m_channel == null) {
+            m_file = FileUtil.createTempFile(m_prefix + UUID.randomUUID().toString(), ".bin");
+            m_channel = new RandomAccessFile(m_file, "rw").getChannel();
+        }
+        //copy to make sure we have a dense array in c order, its off-heap buffer is written without further copies
+        final INDArray dense = array.dup('c');
+        final ByteBuffer buffer = dense.data().asNio().duplicate().order(ByteOrder.nativeOrder());
+        buffer.clear().limit((int)dense.length() * elementSize());
+        final long position = m_writePosition;
+        while (buffer.hasRemaining()) {
+            m_writePosition += m_channel.write(buffer, m_writePosition);
+        }
+        return position;
+    }
+
+    /**
+     * Reads the array with the specified shape at the specified position from the file. The values are read directly
+     * into the off-heap buffer of a newly allocated array, hence they are not copied to the heap. The file is not
+     * memory mapped, as a mapping is only released by garbage collection and reading each batch of each epoch would
+     * create a new one. Changes of the returned array are not written to the file.
+     *
+     * @param position the position returned by {@link #append(INDArray)}
+     * @param shape the shape of the array
+     * @return the array read from file, in c order
+     * @throws IOException if the file can't be read
+     */
+    public INDArray read(final long position, final int[] shape) throws IOException {
+        int length = 1;
+        for (final int dim : shape) {
+            length *= dim;
+        }
+        final long size = (long)length * elementSize();
+        //the file is not truncated when cleared, hence only the written part is valid
+        if (position + size > m_writePosition) {
+            throw new IOException("Unexpected end of " + m_description + " file.");
+        }
+        final INDArray array = Nd4j.create(shape, 'c');
+        final ByteBuffer buffer = array.data().asNio().duplicate().order(ByteOrder.nativeOrder());
+        buffer.clear().limit((int)size);
+        long readPosition = position;
+        while (buffer.hasRemaining()) {
+            final int read = m_channel.read(buffer, readPosition);
+            if (read < 0) {
+                throw new IOException("Unexpected end of " + m_description + " file.");
+            }
+            readPosition += read;
+        }
+        return array;
+    }
+
+    /**
+     * Get the number of bytes written to the file since it was created or cleared.
+     *
+     * @return the number of written bytes
+     */
+    public long size() {
+        return m_writePosition;
+    }
+
+    /**
+     * Discards all arrays, the following arrays are written from the start of the file.
+     */
+    public void clear() {
+        m_writePosition = 0;
+    }
+
+    private int elementSize() {
+        return m_useDouble ? Double.BYTES : Float.BYTES;
+    }
+
+    /**
+     * Deletes the file. The file is created again when the next array is appended.
+     */
+    @Override
+    public void close() {
+        m_writePosition = 0;
+        if (m_channel != null) {
+            try {
+                m_channel.close();
+            } catch (IOException e) {
+                logger.debug("Could not close " + m_description + " file: " + e.getMessage(), e);
+            }
+            m_channel = null;
+        }
+        if (m_file != null) {
+            if (!m_file.delete()) {
+                logger.debug("Could not delete " + m_description + " file: " + m_file);
+                m_file.deleteOnExit();
+            }
+            m_file = null;
+        }
+    }
+}
@@ -42,13 +42,11 @@
  *******************************************************************************/
 package org.knime.ext.textprocessing.dl4j.data;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.deeplearning4j.text.documentiterator.LabelAwareIterator;
 import org.deeplearning4j.text.documentiterator.LabelledDocument;
 import org.deeplearning4j.text.documentiterator.LabelsSource;
-import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataTable;
@@ -60,6 +58,13 @@
  * {@link LabelAwareIterator} for a {@link BufferedDataTable}. Expects a column contained in the data table holding one
  * document and one label per row.
  *
+ * The table is read in a single pass per iteration. The next document is read ahead, hence rows containing missing
+ * cells can be skipped without scanning the table upfront. Labels are collected lazily into the {@link LabelsSource}
+ * while iterating, which only keeps each distinct label once.
+ *
+ * The iterator is thread-safe, hence it may be consumed by several tokenizer threads. Threads checking for a next
+ * element before retrieving it need to synchronize on the iterator to do so atomically.
+ *
  * @author David Kolb, KNIME.com GmbH
  */
 public class BufferedDataTableLabelledDocumentIterator implements LabelAwareIterator {
@@ -74,13 +79,7 @@ public class BufferedDataTableLabelledDocumentIterator implements LabelAwareIter
 
     private LabelsSource m_labelsSource;
 
-    private List<String> m_labels;
-
-    private int m_nonEmptyRowCounter = 0;
-
-    private long m_currentRow = 0;
-
-    private long m_lastIndexWithoutMissing;
+    private LabelledDocument m_nextDocument;
 
     private final boolean m_skipMissing;
 
@@ -111,43 +110,14 @@ public BufferedDataTableLabelledDocumentIterator(final BufferedDataTable table,
         m_table = table;
         m_documentColumnIndex = table.getSpec().findColumnIndex(documentColumnName);
         m_labelColumnIndex = table.getSpec().findColumnIndex(labelColumnName);
+        m_labelsSource = new LabelsSource();
         m_tableIterator = table.iterator();
-        m_labels = new ArrayList<>();
-        m_labelsSource = initLabelsSource();
-        if(skipMissing){
-            m_lastIndexWithoutMissing = searchLastIndexWithoutMissing();
-        }
-        this.reset();
+        readAhead();
     }
 
     @Override
-    public boolean hasNextDocument() {
-        if (m_skipMissing) {
-            //if no follow up rows are valid we are done
-            return m_currentRow <= m_lastIndexWithoutMissing;
-        } else {
-            return m_tableIterator.hasNext();
-        }
-    }
-
-    /**
-     * Returns the index of the last row in the table that contains no missing values. Missing in the sense of
-     * <code>containsMissing(final DataRow row)</code> implementation.
-     *
-     * @return
-     */
-    private long searchLastIndexWithoutMissing() {
-        long lastIndex = 0;
-        long i = 0;
-        while (m_tableIterator.hasNext()) {
-            final DataRow row = m_tableIterator.next();
-            if (!containsMissing(row)) {
-                lastIndex = i;
-            }
-            i++;
-        }
-        reset();
-        return lastIndex;
+    public synchronized boolean hasNextDocument() {
+        return m_nextDocument != null;
     }
 
     /**
@@ -160,6 +130,33 @@ private boolean containsMissing(final DataRow row) {
         return TableUtils.hasMissing(row, new int[]{m_documentColumnIndex, m_labelColumnIndex});
     }
 
+    /**
+     * Reads the next row which should not be skipped from the table and converts it to the next document. Sets the
+     * next document to null if there are no more rows.
+     */
+    private void readAhead() {
+        m_nextDocument = null;
+        while (m_tableIterator.hasNext()) {
+            final DataRow row = m_tableIterator.next();
+            if (m_skipMissing && containsMissing(row)) {
+                continue;
+            }
+
+            final LabelledDocument document = new LabelledDocument();
+            try {
+                document.setContent(
+                    ConverterUtils.convertDataCellToJava(row.getCell(m_documentColumnIndex), String.class));
+                document.setLabel(
+                    ConverterUtils.convertDataCellToJava(row.getCell(m_labelColumnIndex), String.class));
+            } catch (DataCellConversionException e) {
+                throw new RuntimeException("Error in row " + row.getKey() + " : " + e.getMessage(), e);
+            }
+            m_labelsSource.storeLabel(document.getLabel());
+            m_nextDocument = document;
+            return;
+        }
+    }
+
     /**
      * Returns the next {@link LabelledDocument} containing a document and a corresponding label from the
      * {@link BufferedDataTable}.
@@ -167,75 +164,38 @@ private boolean containsMissing(final DataRow row) {
      * @return the next labelled document
      */
     @Override
-    public LabelledDocument nextDocument() {
-        final DataRow row = m_tableIterator.next();
-        final DataCell documentCell = row.getCell(m_documentColumnIndex);
-
-        if (m_skipMissing && containsMissing(row)) {
-            m_currentRow++;
-            return nextDocument();
+    public synchronized LabelledDocument nextDocument() {
+        if (m_nextDocument == null) {
+            throw new NoSuchElementException("No more documents available.");
         }
-
-        String documentContent = null;
-        try {
-            documentContent = ConverterUtils.convertDataCellToJava(documentCell, String.class);
-        } catch (DataCellConversionException e) {
-            throw new RuntimeException("Error in row " + row.getKey() + " : " + e.getMessage(), e);
-        }
-
-        String documentLabel = m_labels.get(m_nonEmptyRowCounter);
-        final LabelledDocument output = new LabelledDocument();
-        output.setContent(documentContent);
-        output.setLabel(documentLabel);
-
-        m_nonEmptyRowCounter++;
-        m_currentRow++;
-
+        final LabelledDocument output = m_nextDocument;
+        readAhead();
         return output;
     }
 
     @Override
-    public void reset() {
+    public synchronized void reset() {
         m_tableIterator.close();
         m_tableIterator = m_table.iterator();
-        m_nonEmptyRowCounter = 0;
-        m_currentRow = 0;
-    }
-
-    @Override
-    public LabelsSource getLabelsSource() {
-        return m_labelsSource;
+        readAhead();
     }
 
     /**
-     * Iterates over {@link BufferedDataTable} and collects all labels.
+     * Returns the {@link LabelsSource} of this iterator. The labels are collected while iterating, hence the source
+     * contains all labels after the first complete iteration.
      *
-     * @return {@link LabelsSource} containing the collected labels.
+     * @return the labels seen so far
      */
-    private LabelsSource initLabelsSource() {
-        while (m_tableIterator.hasNext()) {
-            final DataRow row = m_tableIterator.next();
-            final DataCell labelCell = row.getCell(m_labelColumnIndex);
-
-            if (m_skipMissing && labelCell.isMissing()) {
-                continue;
-            }
-
-            try {
-                m_labels.add(ConverterUtils.convertDataCellToJava(labelCell, String.class));
-            } catch (DataCellConversionException e) {
-                throw new RuntimeException("Error in row " + row.getKey() + " : " + e.getMessage(), e);
-            }
-        }
-        reset();
-        return new LabelsSource(m_labels);
+    @Override
+    public LabelsSource getLabelsSource() {
+        return m_labelsSource;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public boolean hasNext() {
+    public synchronized boolean hasNext() {
         return hasNextDocument();
     }
 
@@ -243,7 +203,7 @@ public boolean hasNext() {
      * {@inheritDoc}
      */
     @Override
-    public LabelledDocument next() {
+    public synchronized LabelledDocument next() {
         return nextDocument();
     }
 
@@ -258,12 +218,11 @@ public void shutdown() {
     /**
      * Close this iterator.
      */
-    public void close() {
+    public synchronized void close() {
         m_tableIterator.close();
         m_tableIterator = null;
         m_table = null;
         m_labelsSource = null;
-        m_labels.clear();
-        m_labels = null;
+        m_nextDocument = null;
     }
 }
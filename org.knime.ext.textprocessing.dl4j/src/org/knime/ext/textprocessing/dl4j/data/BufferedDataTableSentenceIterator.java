@@ -42,9 +42,10 @@
  *******************************************************************************/
 package org.knime.ext.textprocessing.dl4j.data;
 
+import java.util.NoSuchElementException;
+
 import org.deeplearning4j.text.sentenceiterator.SentenceIterator;
 import org.deeplearning4j.text.sentenceiterator.SentencePreProcessor;
-import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataTable;
@@ -56,6 +57,9 @@
  * {@link SentenceIterator} for a {@link BufferedDataTable}. Expects a column contained in the data table holding one
  * sentence per row.
  *
+ * The iterator is thread-safe, hence it may be consumed by several tokenizer threads. Threads checking for a next
+ * element before retrieving it need to synchronize on the iterator to do so atomically.
+ *
  * @author David Kolb, KNIME.com GmbH
  */
 public class BufferedDataTableSentenceIterator implements SentenceIterator {
@@ -68,10 +72,7 @@ public class BufferedDataTableSentenceIterator implements SentenceIterator {
 
     private final boolean m_skipMissing;
 
-    private long m_currentRow = 0;
-
-    private long m_lastIndexWithoutMissing;
-
+    private String m_nextSentence;
 
     /**
      * Convenience constructor for class BufferedDataTableSentenceIterator. Equal to calling
@@ -96,10 +97,7 @@ public BufferedDataTableSentenceIterator(final BufferedDataTable table, final St
         m_table = table;
         m_documentColumnIndex = table.getSpec().findColumnIndex(documentColumnName);
         m_tableIterator = table.iterator();
-        if(skipMissing){
-            m_lastIndexWithoutMissing = searchLastIndexWithoutMissing();
-        }
-        reset();
+        readAhead();
     }
 
     /**
@@ -113,70 +111,55 @@ private boolean containsMissing(final DataRow row) {
     }
 
     /**
-     * Returns the index of the last row in the table that contains no missing values. Missing in the sense of
-     * <code>containsMissing(final DataRow row)</code> implementation.
-     *
-     * @return
+     * Reads the next row which should not be skipped from the table and converts it to the next sentence. Sets the
+     * next sentence to null if there are no more rows.
      */
-    private long searchLastIndexWithoutMissing() {
-        long lastIndex = 0;
-        long i = 0;
+    private void readAhead() {
+        m_nextSentence = null;
         while (m_tableIterator.hasNext()) {
             final DataRow row = m_tableIterator.next();
-            if (!containsMissing(row)) {
-                lastIndex = i;
+            if (m_skipMissing && containsMissing(row)) {
+                continue;
             }
-            i++;
+
+            try {
+                m_nextSentence = ConverterUtils.convertDataCellToJava(row.getCell(m_documentColumnIndex), String.class);
+            } catch (DataCellConversionException e) {
+                throw new RuntimeException("Error in row " + row.getKey() + " : " + e.getMessage(), e);
+            }
+            return;
         }
-        reset();
-        return lastIndex;
     }
 
     /**
      * Returns the next String contained in the document column of the table.
      */
     @Override
-    public String nextSentence() {
-        final DataRow row = m_tableIterator.next();
-        final DataCell cell = row.getCell(m_documentColumnIndex);
-        String documentContent = null;
-
-        if (m_skipMissing && containsMissing(row)) {
-            m_currentRow++;
-            return nextSentence();
-        }
-
-        try {
-            documentContent = ConverterUtils.convertDataCellToJava(cell, String.class);
-        } catch (DataCellConversionException e) {
-            throw new RuntimeException("Error in row " + row.getKey() + " : " + e.getMessage(), e);
+    public synchronized String nextSentence() {
+        if (m_nextSentence == null) {
+            throw new NoSuchElementException("No more sentences available.");
         }
-
-        m_currentRow++;
-        return documentContent;
+        final String sentence = m_nextSentence;
+        readAhead();
+        return sentence;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public boolean hasNext() {
-        if (m_skipMissing) {
-            //if no follow up rows are valid we are done
-            return m_currentRow <= m_lastIndexWithoutMissing;
-        } else {
-            return m_tableIterator.hasNext();
-        }
+    public synchronized boolean hasNext() {
+        return m_nextSentence != null;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void reset() {
+    public synchronized void reset() {
         m_tableIterator.close();
         m_tableIterator = m_table.iterator();
-        m_currentRow = 0;
+        readAhead();
     }
 
     /**
@@ -206,9 +189,10 @@ public void setPreProcessor(final SentencePreProcessor preProcessor) {
     /**
      * Close this iterator.
      */
-    public void close() {
+    public synchronized void close() {
         m_tableIterator.close();
         m_tableIterator = null;
         m_table = null;
+        m_nextSentence = null;
     }
 }
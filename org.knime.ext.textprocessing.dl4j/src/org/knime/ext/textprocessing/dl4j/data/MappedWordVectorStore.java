@@ -0,0 +1,513 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.textprocessing.dl4j.data;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.deeplearning4j.models.embeddings.WeightLookupTable;
+import org.deeplearning4j.models.embeddings.inmemory.InMemoryLookupTable;
+import org.deeplearning4j.models.embeddings.wordvectors.WordVectors;
+import org.deeplearning4j.models.word2vec.wordstore.VocabCache;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.indexing.NDArrayIndex;
+
+/**
+ * Read-only word vector store backed by a memory-mapped file. The word vectors are not loaded into memory, they are
+ * read from the mapped file on lookup, hence models which barely fit into memory can be applied.
+ *
+ * The file consists of a header, the word vectors as little endian float32 matrix with one row per word, the UTF-8
+ * bytes of all words in row order, the offsets of the words (one per row plus end offset) and the rows sorted by the
+ * bytes of their words, which is used to look up words by binary search.
+ *
+ * @author agent
+ */
+public final class MappedWordVectorStore implements WordVectorLookup {
+
+    private static final int MAGIC = 0x57565354;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 4 * Integer.BYTES + 3 * Long.BYTES;
+
+    /** The maximum size of one mapped region of the matrix. */
+    private static final long MAX_WINDOW_BYTES = 1L << 30;
+
+    /** The maximum number of bytes copied from the model to the file at once. */
+    private static final int CHUNK_BYTES = 16 * 1024 * 1024;
+
+    private final File m_file;
+
+    private final int m_numWords;
+
+    private final int m_layerSize;
+
+    private final int m_rowsPerWindow;
+
+    private final ByteBuffer[] m_matrixWindows;
+
+    private final ByteBuffer m_words;
+
+    private final LongBuffer m_wordOffsets;
+
+    private final IntBuffer m_sortedRows;
+
+    private MappedWordVectorStore(final File file) throws IOException {
+        m_file = file;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final ByteBuffer header = map(channel, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("File does not contain a word vector store: " + file);
+            }
+            m_numWords = header.getInt();
+            m_layerSize = header.getInt();
+            final long wordsOffset = header.getLong();
+            final long wordOffsetsOffset = header.getLong();
+            final long sortedRowsOffset = header.getLong();
+
+            final long rowBytes = Math.max(1, (long)m_layerSize * Float.BYTES);
+            m_rowsPerWindow = (int)Math.max(1, MAX_WINDOW_BYTES / rowBytes);
+            final int numWindows = (m_numWords + m_rowsPerWindow - 1) / m_rowsPerWindow;
+            m_matrixWindows = new ByteBuffer[numWindows];
+            for (int w = 0; w < numWindows; w++) {
+                final long firstRow = (long)w * m_rowsPerWindow;
+                final long rows = Math.min(m_rowsPerWindow, m_numWords - firstRow);
+                m_matrixWindows[w] = map(channel, HEADER_BYTES + firstRow * rowBytes, rows * rowBytes);
+            }
+
+            m_words = map(channel, wordsOffset, wordOffsetsOffset - wordsOffset);
+            m_wordOffsets = map(channel, wordOffsetsOffset, (m_numWords + 1L) * Long.BYTES).asLongBuffer();
+            m_sortedRows = map(channel, sortedRowsOffset, (long)m_numWords * Integer.BYTES).asIntBuffer();
+        }
+    }
+
+    /**
+     * Opens the store contained in the specified file.
+     *
+     * @param file the file written by {@link #write(WordVectors, File)} or a {@link Writer}
+     * @return the opened store
+     * @throws IOException if the file could not be mapped or does not contain a store
+     */
+    public static MappedWordVectorStore open(final File file) throws IOException {
+        return new MappedWordVectorStore(file);
+    }
+
+    /**
+     * Writes the vocabulary and the word vectors of the specified model to the specified file.
+     *
+     * @param wordVectors the model to write
+     * @param file the file to write to, will be overwritten
+     * @throws IOException if the file could not be written
+     */
+    public static void write(final WordVectors wordVectors, final File file) throws IOException {
+        final VocabCache<?> vocab = wordVectors.vocab();
+        final int numWords = vocab.numWords();
+        final int layerSize = wordVectors.lookupTable().layerSize();
+
+        final byte[][] words = new byte[numWords][];
+        for (int i = 0; i < numWords; i++) {
+            words[i] = vocab.wordAtIndex(i).getBytes(StandardCharsets.UTF_8);
+        }
+
+        final WeightLookupTable<?> lookupTable = wordVectors.lookupTable();
+        final INDArray syn0 = lookupTable instanceof InMemoryLookupTable
+            ? ((InMemoryLookupTable<?>)lookupTable).getSyn0() : null;
+        write(words, layerSize, file, (start, end, chunk) -> {
+            if (syn0 != null && syn0.rows() >= numWords) {
+                //rows of syn0 correspond to the vocabulary indices
+                chunk.asFloatBuffer()
+                    .put(syn0.get(NDArrayIndex.interval(start, end), NDArrayIndex.all()).dup('c').data().asFloat());
+            } else {
+                for (int i = start; i < end; i++) {
+                    final INDArray vector =
+                        wordVectors.getWordVectorMatrix(new String(words[i], StandardCharsets.UTF_8));
+                    for (int j = 0; j < layerSize; j++) {
+                        chunk.putFloat(((i - start) * layerSize + j) * Float.BYTES,
+                            vector == null ? 0f : vector.getFloat(j));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Writes the words of the specified store and their vectors scaled to unit length to the specified file. The
+     * euclidean distance of unit length vectors is a metric which orders neighbours like the cosine similarity.
+     * Vectors of length zero are written as they are.
+     *
+     * @param source the store to copy
+     * @param file the file to write to, will be overwritten
+     * @throws IOException if the file could not be written
+     */
+    public static void writeNormalized(final MappedWordVectorStore source, final File file) throws IOException {
+        final int layerSize = source.layerSize();
+        final byte[][] words = new byte[source.numWords()][];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = source.wordAtIndex(i).getBytes(StandardCharsets.UTF_8);
+        }
+
+        final float[] vector = new float[layerSize];
+        write(words, layerSize, file, (start, end, chunk) -> {
+            for (int i = start; i < end; i++) {
+                source.getVector(i, vector);
+                double norm = 0;
+                for (final float f : vector) {
+                    norm += f * f;
+                }
+                norm = norm > 0 ? Math.sqrt(norm) : 1;
+                for (int j = 0; j < layerSize; j++) {
+                    chunk.putFloat(((i - start) * layerSize + j) * Float.BYTES, (float)(vector[j] / norm));
+                }
+            }
+        });
+    }
+
+    /**
+     * Fills a chunk of the matrix with the vectors of consecutive rows.
+     */
+    @FunctionalInterface
+    private interface MatrixChunkWriter {
+        /**
+         * @param start the first row of the chunk
+         * @param end the row after the last row of the chunk
+         * @param chunk little endian buffer with room for exactly the rows of the chunk, position zero
+         */
+        void fill(int start, int end, ByteBuffer chunk);
+    }
+
+    private static void write(final byte[][] words, final int layerSize, final File file,
+        final MatrixChunkWriter matrixWriter) throws IOException {
+        final int numWords = words.length;
+        try (FileChannel channel = openForWriting(file)) {
+            final int rowsPerChunk = Math.max(1, CHUNK_BYTES / Math.max(1, layerSize * Float.BYTES));
+            for (int start = 0; start < numWords; start += rowsPerChunk) {
+                final int end = Math.min(numWords, start + rowsPerChunk);
+                final ByteBuffer chunk = allocate((end - start) * layerSize * Float.BYTES);
+                matrixWriter.fill(start, end, chunk);
+                chunk.rewind();
+                writeFully(channel, chunk);
+            }
+            writeVocabulary(channel, words, layerSize);
+        }
+    }
+
+    /**
+     * Opens the specified file for writing and positions the channel at the start of the matrix.
+     */
+    private static FileChannel openForWriting(final File file) throws IOException {
+        final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        channel.position(HEADER_BYTES);
+        return channel;
+    }
+
+    /**
+     * Writes the words, their offsets and the sorted rows after the matrix, which must have been written completely,
+     * and finally the header.
+     */
+    private static void writeVocabulary(final FileChannel channel, final byte[][] words, final int layerSize)
+        throws IOException {
+        final int numWords = words.length;
+        long wordBytes = 0;
+        for (final byte[] word : words) {
+            wordBytes += word.length;
+        }
+        final int[] sortedRows = IntStream.range(0, numWords).boxed()
+            .sorted((a, b) -> compareBytes(words[a], words[b])).mapToInt(Integer::intValue).toArray();
+
+        final long wordsOffset = HEADER_BYTES + (long)numWords * layerSize * Float.BYTES;
+        final long wordOffsetsOffset = wordsOffset + wordBytes;
+        final long sortedRowsOffset = wordOffsetsOffset + (numWords + 1L) * Long.BYTES;
+
+        for (final byte[] word : words) {
+            writeFully(channel, ByteBuffer.wrap(word));
+        }
+
+        final ByteBuffer offsets = allocate((numWords + 1) * Long.BYTES);
+        long offset = 0;
+        for (final byte[] word : words) {
+            offsets.putLong(offset);
+            offset += word.length;
+        }
+        offsets.putLong(offset);
+        offsets.flip();
+        writeFully(channel, offsets);
+
+        final ByteBuffer rows = allocate(numWords * Integer.BYTES);
+        rows.asIntBuffer().put(sortedRows);
+        writeFully(channel, rows);
+
+        final ByteBuffer header = allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).putInt(numWords).putInt(layerSize);
+        header.putLong(wordsOffset).putLong(wordOffsetsOffset).putLong(sortedRowsOffset);
+        header.flip();
+        channel.position(0);
+        writeFully(channel, header);
+    }
+
+    /**
+     * Creates a writer which writes a store to the specified file row by row.
+     *
+     * @param file the file to write to, will be overwritten
+     * @param layerSize the size of the vectors to write
+     * @return the writer, which must be closed to complete the store
+     * @throws IOException if the file could not be opened
+     */
+    public static Writer newWriter(final File file, final int layerSize) throws IOException {
+        return new Writer(file, layerSize);
+    }
+
+    /**
+     * Writes a store row by row, hence the vectors of a model do not need to be held in memory while the store is
+     * written. Only the words are kept until the writer is closed.
+     */
+    public static final class Writer implements Closeable {
+
+        private final FileChannel m_channel;
+
+        private final int m_layerSize;
+
+        private final ByteBuffer m_chunk;
+
+        private final List<byte[]> m_words = new ArrayList<>();
+
+        private Writer(final File file, final int layerSize) throws IOException {
+            m_channel = openForWriting(file);
+            m_layerSize = layerSize;
+            final int rowsPerChunk = Math.max(1, CHUNK_BYTES / Math.max(1, layerSize * Float.BYTES));
+            m_chunk = allocate(rowsPerChunk * layerSize * Float.BYTES);
+        }
+
+        /**
+         * Appends a row to the store.
+         *
+         * @param word the word of the row
+         * @param vector the vector of the word, must contain at least layer size values
+         * @throws IOException if the row could not be written
+         */
+        public void add(final String word, final float[] vector) throws IOException {
+            if (m_chunk.remaining() < m_layerSize * Float.BYTES) {
+                flush();
+            }
+            for (int i = 0; i < m_layerSize; i++) {
+                m_chunk.putFloat(vector[i]);
+            }
+            m_words.add(word.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Writes the remaining rows and the vocabulary and closes the file.
+         *
+         * @throws IOException if the store could not be completed
+         */
+        @Override
+        public void close() throws IOException {
+            try (FileChannel channel = m_channel) {
+                flush();
+                writeVocabulary(channel, m_words.toArray(new byte[m_words.size()][]), m_layerSize);
+            }
+        }
+
+        private void flush() throws IOException {
+            m_chunk.flip();
+            writeFully(m_channel, m_chunk);
+            m_chunk.clear();
+        }
+    }
+
+    /**
+     * @return the file containing this store
+     */
+    public File getFile() {
+        return m_file;
+    }
+
+    /**
+     * @return the number of words contained in this store
+     */
+    public int numWords() {
+        return m_numWords;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int layerSize() {
+        return m_layerSize;
+    }
+
+    /**
+     * @param row the row of the word
+     * @return the word stored in the specified row
+     */
+    public String wordAtIndex(final int row) {
+        final int start = (int)m_wordOffsets.get(row);
+        final byte[] bytes = new byte[(int)m_wordOffsets.get(row + 1) - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = m_words.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOf(final String word) {
+        //binary search on the rows sorted by the bytes of their words
+        final byte[] query = word.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = m_numWords - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int row = m_sortedRows.get(mid);
+            final int cmp = compareToWord(row, query);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getVector(final int index, final float[] dest) {
+        final ByteBuffer window =
+            m_matrixWindows[index / m_rowsPerWindow].duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        window.position((index % m_rowsPerWindow) * m_layerSize * Float.BYTES);
+        window.asFloatBuffer().get(dest, 0, m_layerSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasWord(final String word) {
+        return indexOf(word) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public INDArray getWordVectorMatrix(final String word) {
+        final int row = indexOf(word);
+        if (row < 0) {
+            return null;
+        }
+        final float[] vector = new float[m_layerSize];
+        getVector(row, vector);
+        return Nd4j.create(vector);
+    }
+
+    /**
+     * Compares the bytes of the word in the specified row with the specified bytes.
+     */
+    private int compareToWord(final int row, final byte[] query) {
+        final int start = (int)m_wordOffsets.get(row);
+        final int length = (int)m_wordOffsets.get(row + 1) - start;
+        final int n = Math.min(length, query.length);
+        for (int i = 0; i < n; i++) {
+            final int cmp = Integer.compare(m_words.get(start + i) & 0xff, query[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, query.length);
+    }
+
+    private static int compareBytes(final byte[] a, final byte[] b) {
+        final int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; i++) {
+            final int cmp = Integer.compare(a[i] & 0xff, b[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(a.length, b.length);
+    }
+
+    private static ByteBuffer map(final FileChannel channel, final long position, final long size)
+        throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Section of word vector store too large to be mapped: " + size + " bytes");
+        }
+        return channel.map(MapMode.READ_ONLY, position, size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static ByteBuffer allocate(final int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.textprocessing.dl4j.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.deeplearning4j.models.sequencevectors.iterators.SequenceIterator;
+import org.deeplearning4j.models.sequencevectors.sequence.Sequence;
+import org.deeplearning4j.models.word2vec.VocabWord;
+import org.deeplearning4j.text.documentiterator.LabelAwareIterator;
+import org.deeplearning4j.text.documentiterator.LabelledDocument;
+import org.deeplearning4j.text.sentenceiterator.SentenceIterator;
+import org.deeplearning4j.text.tokenization.tokenizerfactory.TokenizerFactory;
+import org.knime.core.util.FileUtil;
+
+/**
+ * {@link SequenceIterator} which tokenizes the documents of a {@link SentenceIterator} or {@link LabelAwareIterator}
+ * only once. During the first complete pass every token is mapped to an integer id and the ids are written to a
+ * temporary file. All following passes, i.e. the training epochs, read the ids from that file instead of converting
+ * and tokenizing the documents again.
+ *
+ * @author agent
+ */
+public class TokenizedCorpusSequenceIterator implements SequenceIterator<VocabWord> {
+
+    private static final int NO_LABEL = -1;
+
+    private final SentenceIterator m_sentenceIterator;
+
+    private final LabelAwareIterator m_documentIterator;
+
+    private final TokenizerFactory m_tokenizerFactory;
+
+    private final Map<String, Integer> m_ids = new HashMap<>();
+
+    private final List<String> m_tokens = new ArrayList<>();
+
+    private File m_cacheFile;
+
+    private DataOutputStream m_cacheWriter;
+
+    private DataInputStream m_cacheReader;
+
+    private boolean m_cached = false;
+
+    private long m_numSequences = 0;
+
+    private long m_remainingSequences;
+
+    /**
+     * Constructor for class TokenizedCorpusSequenceIterator reading the documents from a {@link SentenceIterator}.
+     *
+     * @param sentenceIterator the iterator providing the documents
+     * @param tokenizerFactory the factory used to tokenize the documents
+     */
+    public TokenizedCorpusSequenceIterator(final SentenceIterator sentenceIterator,
+        final TokenizerFactory tokenizerFactory) {
+        m_sentenceIterator = sentenceIterator;
+        m_documentIterator = null;
+        m_tokenizerFactory = tokenizerFactory;
+    }
+
+    /**
+     * Constructor for class TokenizedCorpusSequenceIterator reading labelled documents from a
+     * {@link LabelAwareIterator}. The label of each document is used as sequence label.
+     *
+     * @param documentIterator the iterator providing the documents
+     * @param tokenizerFactory the factory used to tokenize the documents
+     */
+    public TokenizedCorpusSequenceIterator(final LabelAwareIterator documentIterator,
+        final TokenizerFactory tokenizerFactory) {
+        m_sentenceIterator = null;
+        m_documentIterator = documentIterator;
+        m_tokenizerFactory = tokenizerFactory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean hasMoreSequences() {
+        if (m_cached) {
+            return m_remainingSequences > 0;
+        }
+        return m_documentIterator != null ? m_documentIterator.hasNextDocument() : m_sentenceIterator.hasNext();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized Sequence<VocabWord> nextSequence() {
+        try {
+            return m_cached ? readSequence() : tokenizeSequence();
+        } catch (IOException e) {
+            throw new IllegalStateException("Error accessing tokenized corpus cache!", e);
+        }
+    }
+
+    /**
+     * Resets this iterator. If the documents were iterated completely, all following passes read from the cache.
+     * Otherwise the incomplete cache is discarded and the next pass tokenizes the documents again.
+     */
+    @Override
+    public synchronized void reset() {
+        try {
+            if (!m_cached && m_cacheWriter != null) {
+                m_cacheWriter.close();
+                m_cacheWriter = null;
+                if (hasMoreSequences()) {
+                    m_cacheFile.delete();
+                    m_numSequences = 0;
+                } else {
+                    m_cached = true;
+                }
+            }
+            if (m_cached) {
+                if (m_cacheReader != null) {
+                    m_cacheReader.close();
+                }
+                m_cacheReader = new DataInputStream(new BufferedInputStream(new FileInputStream(m_cacheFile)));
+                m_remainingSequences = m_numSequences;
+            } else if (m_documentIterator != null) {
+                m_documentIterator.reset();
+            } else {
+                m_sentenceIterator.reset();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Error accessing tokenized corpus cache!", e);
+        }
+    }
+
+    /**
+     * Reads the next document from the underlying iterator, tokenizes it and appends the token ids to the cache.
+     */
+    private Sequence<VocabWord> tokenizeSequence() throws IOException {
+        if (m_cacheWriter == null) {
+            m_cacheFile = FileUtil.createTempFile("dl4j-tokenized-corpus-", ".bin", true);
+            m_cacheWriter = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(m_cacheFile)));
+        }
+
+        final String content;
+        String label = null;
+        if (m_documentIterator != null) {
+            final LabelledDocument document = m_documentIterator.nextDocument();
+            content = document.getContent();
+            label = document.getLabel();
+        } else {
+            content = m_sentenceIterator.nextSentence();
+        }
+        final List<String> tokens = m_tokenizerFactory.create(content).getTokens();
+
+        final Sequence<VocabWord> sequence = new Sequence<>();
+        m_cacheWriter.writeInt(label == null ? NO_LABEL : idOf(label));
+        m_cacheWriter.writeInt(tokens.size());
+        for (final String token : tokens) {
+            m_cacheWriter.writeInt(idOf(token));
+            sequence.addElement(new VocabWord(1.0, token));
+        }
+        if (label != null) {
+            sequence.setSequenceLabel(new VocabWord(1.0, label));
+        }
+        m_numSequences++;
+        return sequence;
+    }
+
+    /**
+     * Reads the token ids of the next document from the cache.
+     */
+    private Sequence<VocabWord> readSequence() throws IOException {
+        if (m_remainingSequences <= 0) {
+            throw new NoSuchElementException("No more sequences available.");
+        }
+        final Sequence<VocabWord> sequence = new Sequence<>();
+        final int labelId = m_cacheReader.readInt();
+        final int numTokens = m_cacheReader.readInt();
+        for (int i = 0; i < numTokens; i++) {
+            sequence.addElement(new VocabWord(1.0, m_tokens.get(m_cacheReader.readInt())));
+        }
+        if (labelId != NO_LABEL) {
+            sequence.setSequenceLabel(new VocabWord(1.0, m_tokens.get(labelId)));
+        }
+        m_remainingSequences--;
+        return sequence;
+    }
+
+    private int idOf(final String token) {
+        Integer id = m_ids.get(token);
+        if (id == null) {
+            id = m_tokens.size();
+            m_ids.put(token, id);
+            m_tokens.add(token);
+        }
+        return id;
+    }
+
+    /**
+     * Close this iterator and delete the cache.
+     */
+    public synchronized void close() {
+        try {
+            if (m_cacheWriter != null) {
+                m_cacheWriter.close();
+            }
+            if (m_cacheReader != null) {
+                m_cacheReader.close();
+            }
+        } catch (IOException e) {
+            // nothing to do, the file is deleted anyway
+        } finally {
+            m_cacheWriter = null;
+            m_cacheReader = null;
+            if (m_cacheFile != null) {
+                m_cacheFile.delete();
+            }
+            m_ids.clear();
+            m_tokens.clear();
+        }
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.textprocessing.dl4j.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Vantage point tree over the words of a {@link MappedWordVectorStore} for fast k-nearest-neighbour queries using the
+ * euclidean distance. Should be built on a store written by
+ * {@link MappedWordVectorStore#writeNormalized(MappedWordVectorStore, File)}, so that the neighbours correspond to the
+ * most cosine similar words.
+ *
+ * The tree is stored in three arrays indexed by node position. The node at position i is the vantage point
+ * m_items[i]. Its inner subtree, containing the words with a distance to the vantage point of at most m_thresholds[i],
+ * spans the positions i + 1 to m_splits[i] (exclusive). Its outer subtree spans the positions m_splits[i] to the end of
+ * the subtree of node i.
+ *
+ * @author agent
+ */
+public final class VPTreeIndex {
+
+    private static final int MAGIC = 0x56505449;
+
+    private static final int VERSION = 1;
+
+    private final MappedWordVectorStore m_store;
+
+    private final int[] m_items;
+
+    private final int[] m_splits;
+
+    private final float[] m_thresholds;
+
+    private VPTreeIndex(final MappedWordVectorStore store, final int[] items, final int[] splits,
+        final float[] thresholds) {
+        m_store = store;
+        m_items = items;
+        m_splits = splits;
+        m_thresholds = thresholds;
+    }
+
+    /**
+     * Builds a tree over all words contained in the specified store.
+     *
+     * @param store the store containing the vectors to index
+     * @param seed seed for the selection of the vantage points
+     * @param exec monitor used to check for cancellation and report progress
+     * @return the built tree
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public static VPTreeIndex build(final MappedWordVectorStore store, final long seed, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final int n = store.numWords();
+        final int[] items = new int[n];
+        for (int i = 0; i < n; i++) {
+            items[i] = i;
+        }
+        final VPTreeIndex index = new VPTreeIndex(store, items, new int[n], new float[n]);
+        final Builder builder = index.new Builder(new Random(seed), exec);
+        builder.build(0, n);
+        return index;
+    }
+
+    /**
+     * Opens a tree written by {@link #write(File)}.
+     *
+     * @param store the store the tree was built on
+     * @param file the file containing the tree
+     * @return the opened tree
+     * @throws IOException if the file could not be read or does not contain a tree for the store
+     */
+    public static VPTreeIndex open(final MappedWordVectorStore store, final File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("File does not contain a vantage point tree: " + file);
+            }
+            final int n = in.readInt();
+            if (n != store.numWords()) {
+                throw new IOException("Vantage point tree does not match word vector store.");
+            }
+            final int[] items = new int[n];
+            final int[] splits = new int[n];
+            final float[] thresholds = new float[n];
+            for (int i = 0; i < n; i++) {
+                items[i] = in.readInt();
+                splits[i] = in.readInt();
+                thresholds[i] = in.readFloat();
+            }
+            return new VPTreeIndex(store, items, splits, thresholds);
+        }
+    }
+
+    /**
+     * Writes this tree to the specified file. The vectors are not written, they remain in the store.
+     *
+     * @param file the file to write to
+     * @throws IOException if the file could not be written
+     */
+    public void write(final File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(m_items.length);
+            for (int i = 0; i < m_items.length; i++) {
+                out.writeInt(m_items[i]);
+                out.writeInt(m_splits[i]);
+                out.writeFloat(m_thresholds[i]);
+            }
+        }
+    }
+
+    /**
+     * @return the store containing the indexed vectors
+     */
+    public MappedWordVectorStore getStore() {
+        return m_store;
+    }
+
+    /**
+     * Searches the k nearest neighbours of the specified vector. This method may be called concurrently.
+     *
+     * @param query the vector to search the neighbours of, should have unit length
+     * @param k the number of neighbours to search
+     * @return the neighbours sorted by increasing distance
+     */
+    public Neighbour[] search(final float[] query, final int k) {
+        final PriorityQueue<Neighbour> heap =
+            new PriorityQueue<>(k + 1, (a, b) -> Float.compare(b.getDistance(), a.getDistance()));
+        if (k > 0 && m_items.length > 0) {
+            search(query, k, 0, m_items.length, heap, new float[m_store.layerSize()]);
+        }
+        final Neighbour[] neighbours = new Neighbour[heap.size()];
+        for (int i = neighbours.length - 1; i >= 0; i--) {
+            neighbours[i] = heap.poll();
+        }
+        return neighbours;
+    }
+
+    private void search(final float[] query, final int k, final int lo, final int hi,
+        final PriorityQueue<Neighbour> heap, final float[] buffer) {
+        if (lo >= hi) {
+            return;
+        }
+        m_store.getVector(m_items[lo], buffer);
+        final float d = distance(query, buffer);
+        if (heap.size() < k) {
+            heap.add(new Neighbour(m_items[lo], d));
+        } else if (d < heap.peek().getDistance()) {
+            heap.poll();
+            heap.add(new Neighbour(m_items[lo], d));
+        }
+
+        final int split = m_splits[lo];
+        final float threshold = m_thresholds[lo];
+        if (d < threshold) {
+            search(query, k, lo + 1, split, heap, buffer);
+            if (d + tau(heap, k) >= threshold) {
+                search(query, k, split, hi, heap, buffer);
+            }
+        } else {
+            search(query, k, split, hi, heap, buffer);
+            if (d - tau(heap, k) <= threshold) {
+                search(query, k, lo + 1, split, heap, buffer);
+            }
+        }
+    }
+
+    /**
+     * @return the distance of the current k-th neighbour, or infinity if less than k neighbours were found yet
+     */
+    private static float tau(final PriorityQueue<Neighbour> heap, final int k) {
+        return heap.size() < k ? Float.POSITIVE_INFINITY : heap.peek().getDistance();
+    }
+
+    private static float distance(final float[] a, final float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            final double diff = a[i] - b[i];
+            sum += diff * diff;
+        }
+        return (float)Math.sqrt(sum);
+    }
+
+    /**
+     * Recursively builds the tree in place.
+     */
+    private final class Builder {
+
+        private final Random m_random;
+
+        private final ExecutionMonitor m_exec;
+
+        private final float[] m_vantage;
+
+        private final float[] m_buffer;
+
+        private final float[] m_distances;
+
+        private int m_done = 0;
+
+        private Builder(final Random random, final ExecutionMonitor exec) {
+            m_random = random;
+            m_exec = exec;
+            m_vantage = new float[m_store.layerSize()];
+            m_buffer = new float[m_store.layerSize()];
+            m_distances = new float[m_items.length];
+        }
+
+        private void build(final int lo, final int hi) throws CanceledExecutionException {
+            if (lo >= hi) {
+                return;
+            }
+            swap(lo, lo + m_random.nextInt(hi - lo));
+            if (hi - lo == 1) {
+                m_splits[lo] = hi;
+                reportProgress();
+                return;
+            }
+
+            m_store.getVector(m_items[lo], m_vantage);
+            for (int i = lo + 1; i < hi; i++) {
+                m_store.getVector(m_items[i], m_buffer);
+                m_distances[i] = distance(m_vantage, m_buffer);
+            }
+            final int median = lo + 1 + (hi - lo - 1) / 2;
+            select(lo + 1, hi - 1, median);
+            m_splits[lo] = median;
+            m_thresholds[lo] = m_distances[median];
+            reportProgress();
+
+            build(lo + 1, median);
+            build(median, hi);
+        }
+
+        private void reportProgress() throws CanceledExecutionException {
+            m_done++;
+            if (m_done % 1000 == 0) {
+                m_exec.checkCanceled();
+                m_exec.setProgress(m_done / (double)m_items.length);
+            }
+        }
+
+        /**
+         * Partially sorts the positions left to right by distance, so that the position k contains the element it
+         * would contain if sorted, smaller or equal distances are left of it and greater or equal ones right of it.
+         */
+        private void select(final int left, final int right, final int k) {
+            int l = left;
+            int r = right;
+            while (l < r) {
+                final float pivot = m_distances[l + m_random.nextInt(r - l + 1)];
+                int i = l;
+                int j = r;
+                while (i <= j) {
+                    while (m_distances[i] < pivot) {
+                        i++;
+                    }
+                    while (m_distances[j] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        swap(i, j);
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    r = j;
+                } else if (k >= i) {
+                    l = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void swap(final int i, final int j) {
+            final int item = m_items[i];
+            m_items[i] = m_items[j];
+            m_items[j] = item;
+            final float distance = m_distances[i];
+            m_distances[i] = m_distances[j];
+            m_distances[j] = distance;
+        }
+    }
+
+    /**
+     * A neighbour found by {@link VPTreeIndex#search(float[], int)}.
+     */
+    public static final class Neighbour {
+
+        private final int m_index;
+
+        private final float m_distance;
+
+        private Neighbour(final int index, final float distance) {
+            m_index = index;
+            m_distance = distance;
+        }
+
+        /**
+         * @return the index of the word in the store
+         */
+        public int getIndex() {
+            return m_index;
+        }
+
+        /**
+         * @return the euclidean distance to the query
+         */
+        public float getDistance() {
+            return m_distance;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.textprocessing.dl4j.data;
+
+import org.deeplearning4j.models.embeddings.wordvectors.WordVectors;
+import org.nd4j.linalg.api.ndarray.INDArray;
+
+/**
+ * Read-only access to the word vectors of a model. Implemented by {@link MappedWordVectorStore}, which reads vectors
+ * from a memory-mapped file, hence the {@link WordVectors} model itself does not need to be loaded.
+ *
+ * @author agent
+ */
+public interface WordVectorLookup {
+
+    /**
+     * @param word the word to check
+     * @return true if the vocabulary contains the specified word
+     */
+    boolean hasWord(String word);
+
+    /**
+     * @param word the word to look up
+     * @return row vector containing the word vector of the specified word, or null if the word is unknown
+     */
+    INDArray getWordVectorMatrix(String word);
+
+    /**
+     * @param word the word to look up
+     * @return the index of the specified word, or -1 if the word is unknown
+     */
+    int indexOf(String word);
+
+    /**
+     * Copies the vector of the word with the specified index to the specified array. Resolving the indices of all
+     * words of a document with {@link #indexOf(String)} first avoids repeated vocabulary lookups.
+     *
+     * @param index the index of the word as returned by {@link #indexOf(String)}
+     * @param dest the array to copy to, must have at least {@link #layerSize()} elements
+     */
+    void getVector(int index, float[] dest);
+
+    /**
+     * @return the length of the word vectors
+     */
+    int layerSize();
+}
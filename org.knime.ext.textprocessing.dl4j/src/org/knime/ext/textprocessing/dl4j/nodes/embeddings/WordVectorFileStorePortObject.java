@@ -46,15 +46,19 @@
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 import javax.swing.JComponent;
 
+import org.apache.commons.io.IOUtils;
 import org.deeplearning4j.models.embeddings.wordvectors.WordVectors;
 import org.knime.core.data.filestore.FileStore;
 import org.knime.core.data.filestore.FileStorePortObject;
@@ -68,7 +72,11 @@
 import org.knime.core.node.port.PortObjectZipOutputStream;
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.port.PortTypeRegistry;
+import org.knime.core.util.FileUtil;
 import org.knime.ext.dl4j.base.cache.MemoryAlertAwareGuavaCache;
+import org.knime.ext.textprocessing.dl4j.data.MappedWordVectorStore;
+import org.knime.ext.textprocessing.dl4j.util.Word2VecSpillCodec;
+import org.knime.ext.textprocessing.dl4j.util.Word2VecStreamReader;
 import org.knime.ext.textprocessing.dl4j.util.WordVectorPortObjectUtils;
 
 /**
@@ -116,6 +124,11 @@ public WordVectorFileStorePortObject loadPortObject(final PortObjectZipInputStre
      */
     private final static MemoryAlertAwareGuavaCache CACHE = MemoryAlertAwareGuavaCache.getInstance();
 
+    static {
+        //evicted Word2Vec models are kept on disk in a format which is much faster to restore
+        CACHE.registerSpillCodec(new Word2VecSpillCodec());
+    }
+
     private static final String SUMMARY = "Word Vector Model";
 
     private static final String CFG_MODELKEY = "model_key";
@@ -124,6 +137,11 @@ public WordVectorFileStorePortObject loadPortObject(final PortObjectZipInputStre
 
     private UUID m_modelKey;
 
+    private MappedWordVectorStore m_store;
+
+    /** The temporary file of the store if the port object does not contain a vector file store, otherwise null. */
+    private File m_tempStoreFile;
+
     /**
      * Factory method to create a WordVectorFileStorePortObject. This will serialize the contained WordVectors model.
      *
@@ -143,6 +161,30 @@ public static WordVectorFileStorePortObject create(final WordVectors wordVectors
         return obj;
     }
 
+    /**
+     * Factory method to create a WordVectorFileStorePortObject. This will serialize the contained WordVectors model
+     * and additionally write its vectors to a {@link MappedWordVectorStore}, which is used for lookups, hence the
+     * model does not need to be deserialized for downstream lookups.
+     *
+     * @param wordVectors
+     * @param spec
+     * @param fileStore the file store to serialize the model to
+     * @param vectorFileStore the file store to write the word vector store to
+     * @return a new WordVectorFileStorePortObject object containing the specified model and spec
+     */
+    public static WordVectorFileStorePortObject create(final WordVectors wordVectors,
+        final WordVectorPortObjectSpec spec, final FileStore fileStore, final FileStore vectorFileStore) {
+        WordVectorFileStorePortObject obj =
+            new WordVectorFileStorePortObject(wordVectors, spec, Arrays.asList(fileStore, vectorFileStore));
+        serialize(wordVectors, fileStore);
+        try {
+            MappedWordVectorStore.write(wordVectors, vectorFileStore.getFile());
+        } catch (IOException e) {
+            throw new IllegalStateException("Error writing word vector store!", e);
+        }
+        return obj;
+    }
+
     /**
      * Constructor for class WordVectorFileStorePortObject specifying the WordVectors model, the port object spec and
      * the FileStore.
@@ -153,7 +195,12 @@ public static WordVectorFileStorePortObject create(final WordVectors wordVectors
      */
     public WordVectorFileStorePortObject(final WordVectors wordVectors, final WordVectorPortObjectSpec spec,
         final FileStore fileStore) {
-        super(Collections.singletonList(fileStore));
+        this(wordVectors, spec, Collections.singletonList(fileStore));
+    }
+
+    private WordVectorFileStorePortObject(final WordVectors wordVectors, final WordVectorPortObjectSpec spec,
+        final List<FileStore> fileStores) {
+        super(fileStores);
         m_spec = spec;
         m_modelKey = UUID.randomUUID();
         CACHE.put(m_modelKey, wordVectors);
@@ -197,6 +244,76 @@ public WordVectors call() {
         }
     }
 
+    /**
+     * Get read-only access to the word vectors of the model. The vectors are read from the memory-mapped
+     * {@link MappedWordVectorStore} contained in the file store, hence the model itself does not need to be in memory.
+     * Port objects created without a store write it to a temporary file on first call, which is streamed from the
+     * serialized model if possible.
+     *
+     * @return lookup for the word vectors of the model
+     * @throws IOException if the store could not be opened or created
+     */
+    public synchronized MappedWordVectorStore getWordVectorLookup() throws IOException {
+        if (m_store == null) {
+            if (getFileStoreCount() > 1) {
+                m_store = MappedWordVectorStore.open(getFileStore(1).getFile());
+            } else {
+                final File file = FileUtil.createTempFile("dl4j-word-vectors-" + m_modelKey, ".wvs", true);
+                m_tempStoreFile = file;
+                writeWordVectorStore(file);
+                m_store = MappedWordVectorStore.open(file);
+            }
+        }
+        return m_store;
+    }
+
+    /**
+     * @return true if the vectors are already available as {@link MappedWordVectorStore}, i.e. a call to
+     *         {@link #getWordVectorLookup()} does not need to write a temporary store
+     */
+    public synchronized boolean hasWordVectorStore() {
+        return m_store != null || getFileStoreCount() > 1;
+    }
+
+    /**
+     * Writes the vectors of the serialized model to the specified file. Only models in formats which can not be
+     * streamed are deserialized.
+     */
+    private void writeWordVectorStore(final File file) throws IOException {
+        try (ZipInputStream zIn = new ZipInputStream(new FileInputStream(getFileStore(0).getFile()))) {
+            ZipEntry entry;
+            while ((entry = zIn.getNextEntry()) != null) {
+                if (entry.getName().equals("word_vectors") && Word2VecStreamReader.writeWordVectorStore(zIn, file)) {
+                    return;
+                }
+            }
+        }
+        MappedWordVectorStore.write(getWordVectors(), file);
+    }
+
+    /**
+     * Writes the serialized WordVectors model contained in the file store to the specified stream, i.e. the ZipEntry
+     * with name "word_vectors". This does not trigger deserialization.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the file store could not be read
+     */
+    public void writeSerializedWordVectors(final ZipOutputStream out) throws IOException {
+        final File file = getFileStore(0).getFile();
+        try (ZipInputStream zIn = new ZipInputStream(new FileInputStream(file))) {
+            ZipEntry entry;
+            while ((entry = zIn.getNextEntry()) != null) {
+                if (entry.getName().equals("word_vectors")) {
+                    out.putNextEntry(new ZipEntry(entry.getName()));
+                    IOUtils.copy(zIn, out);
+                    out.closeEntry();
+                    return;
+                }
+            }
+        }
+        throw new IOException("WordVectors entry not found in file store!");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -262,5 +379,9 @@ private static void serialize(final WordVectors model, final FileStore fileStore
     protected void finalize() throws Throwable {
         super.finalize();
         CACHE.remove(m_modelKey);
+        if (m_tempStoreFile != null) {
+            //the mapping will be released when the store is collected
+            m_tempStoreFile.delete();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,196 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.textprocessing.dl4j.nodes.embeddings;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+
+import javax.swing.JComponent;
+
+import org.knime.core.data.filestore.FileStore;
+import org.knime.core.data.filestore.FileStorePortObject;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortObjectZipInputStream;
+import org.knime.core.node.port.PortObjectZipOutputStream;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.port.PortTypeRegistry;
+import org.knime.ext.textprocessing.dl4j.data.MappedWordVectorStore;
+import org.knime.ext.textprocessing.dl4j.data.VPTreeIndex;
+
+/**
+ * Port Object for nearest neighbour indices over the words of a Word Vector Model. The file store is a directory
+ * containing the unit length word vectors as {@link MappedWordVectorStore} and the {@link VPTreeIndex} built on them.
+ *
+ * @author agent
+ */
+public final class WordVectorIndexPortObject extends FileStorePortObject {
+
+    /**
+     * Serializer for class WordVectorIndexPortObject.
+     *
+     * @author agent
+     */
+    public static final class Serializer extends PortObjectSerializer<WordVectorIndexPortObject> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void savePortObject(final WordVectorIndexPortObject portObject, final PortObjectZipOutputStream out,
+            final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+            // everything is contained in the file store
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public WordVectorIndexPortObject loadPortObject(final PortObjectZipInputStream in,
+            final PortObjectSpec spec, final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+            final WordVectorIndexPortObject portObject = new WordVectorIndexPortObject();
+            portObject.m_spec = (WordVectorPortObjectSpec)spec;
+            return portObject;
+        }
+    }
+
+    /**
+     * PortType of this FileStorePortObject.
+     */
+    public static final PortType TYPE = PortTypeRegistry.getInstance().getPortType(WordVectorIndexPortObject.class);
+
+    private static final String SUMMARY = "Word Vector Index";
+
+    private static final String VECTORS_FILE = "vectors.wvs";
+
+    private static final String TREE_FILE = "tree.vpt";
+
+    private WordVectorPortObjectSpec m_spec;
+
+    private VPTreeIndex m_index;
+
+    /**
+     * Builds a nearest neighbour index over the words of the specified store and writes it to the specified file
+     * store.
+     *
+     * @param store the store containing the words and vectors to index
+     * @param spec the spec of the indexed Word Vector Model
+     * @param fileStore the file store to write the index to
+     * @param exec monitor used to check for cancellation and report progress
+     * @return a new WordVectorIndexPortObject containing the built index
+     * @throws IOException if the index could not be written
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public static WordVectorIndexPortObject create(final MappedWordVectorStore store,
+        final WordVectorPortObjectSpec spec, final FileStore fileStore, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        final File dir = fileStore.getFile();
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Could not create directory for word vector index: " + dir);
+        }
+        final File vectorsFile = new File(dir, VECTORS_FILE);
+        MappedWordVectorStore.writeNormalized(store, vectorsFile);
+        final VPTreeIndex index = VPTreeIndex.build(MappedWordVectorStore.open(vectorsFile), 1, exec);
+        index.write(new File(dir, TREE_FILE));
+
+        final WordVectorIndexPortObject obj = new WordVectorIndexPortObject(spec, fileStore);
+        obj.m_index = index;
+        return obj;
+    }
+
+    private WordVectorIndexPortObject(final WordVectorPortObjectSpec spec, final FileStore fileStore) {
+        super(Collections.singletonList(fileStore));
+        m_spec = spec;
+    }
+
+    /** Framework constructor, not to be used by node code. */
+    public WordVectorIndexPortObject() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSummary() {
+        return SUMMARY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public WordVectorPortObjectSpec getSpec() {
+        return m_spec;
+    }
+
+    /**
+     * Get the index. This may trigger mapping the index files.
+     *
+     * @return the nearest neighbour index
+     * @throws IOException if the index files could not be read
+     */
+    public synchronized VPTreeIndex getIndex() throws IOException {
+        if (m_index == null) {
+            final File dir = getFileStore(0).getFile();
+            m_index = VPTreeIndex.open(MappedWordVectorStore.open(new File(dir, VECTORS_FILE)),
+                new File(dir, TREE_FILE));
+        }
+        return m_index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JComponent[] getViews() {
+        return null;
+    }
+}
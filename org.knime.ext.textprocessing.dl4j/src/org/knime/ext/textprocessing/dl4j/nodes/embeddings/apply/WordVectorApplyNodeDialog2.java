@@ -69,5 +69,8 @@ protected WordVectorApplyNodeDialog2() {
 
         addDialogComponent(new DialogComponentBoolean(WordVectorApplyNodeModel2.createCalculateMeanSettings(),
             "Calculate Mean Vector?"));
+
+        addDialogComponent(new DialogComponentBoolean(WordVectorApplyNodeModel2.createVectorCellsSettings(),
+            "Create Vector Cells?"));
     }
 }
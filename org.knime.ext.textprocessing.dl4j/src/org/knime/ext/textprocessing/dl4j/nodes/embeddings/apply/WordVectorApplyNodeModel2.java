@@ -60,6 +60,8 @@
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.vector.doublevector.DenseDoubleVectorCell;
+import org.knime.core.data.vector.doublevector.DoubleVectorCellFactory;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
@@ -84,12 +86,10 @@
 import org.knime.ext.dl4j.base.exception.DataCellConversionException;
 import org.knime.ext.dl4j.base.util.ConfigurationUtils;
 import org.knime.ext.dl4j.base.util.ConverterUtils;
-import org.knime.ext.dl4j.base.util.NDArrayUtils;
 import org.knime.ext.dl4j.base.util.TableUtils;
 import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.dl4j.data.WordVectorLookup;
 import org.knime.ext.textprocessing.dl4j.nodes.embeddings.WordVectorFileStorePortObject;
-import org.nd4j.linalg.api.ndarray.INDArray;
-import org.nd4j.linalg.factory.Nd4j;
 
 /**
  * Node to apply a {@link WordVectors} model to documents, meaning to replace all words contained in the document with
@@ -106,6 +106,8 @@ final class WordVectorApplyNodeModel2 extends AbstractDLNodeModel {
 
     private SettingsModelBoolean m_calculateMean;
 
+    private SettingsModelBoolean m_createVectorCells;
+
     private DataTableSpec m_outputSpec;
 
     private int m_unknownWordsCtr = 0;
@@ -121,7 +123,7 @@ final class WordVectorApplyNodeModel2 extends AbstractDLNodeModel {
     protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
         final BufferedDataTable table = (BufferedDataTable)inObjects[0];
         final WordVectorFileStorePortObject portObject = (WordVectorFileStorePortObject)inObjects[1];
-        final WordVectors wordVectors = portObject.getWordVectors();
+        final WordVectorLookup wordVectors = portObject.getWordVectorLookup();
 
         final int documentColumnIndex =
             table.getDataTableSpec().findColumnIndex(m_documentColumn.getStringValue());
@@ -145,38 +147,36 @@ protected PortObject[] execute(final PortObject[] inObjects, final ExecutionCont
         return new PortObject[]{outputTable};
     }
 
-    private DataRow processRow(final DataRow row, final int documentColumnIndex, final WordVectors wordVectors)
+    private DataRow processRow(final DataRow row, final int documentColumnIndex, final WordVectorLookup wordVectors)
         throws DataCellConversionException, IllegalStateException {
 
         final List<DataCell> cells = TableUtils.toListOfCells(row);
         final DataCell cell = row.getCell(documentColumnIndex);
 
         final String document = ConverterUtils.convertDataCellToJava(cell, String.class);
-        ListCell convertedDocument;
 
         final Tokenizer t = new DefaultTokenizerFactory().create(document);
 
-        final List<String> matchingTokens = new ArrayList<String>();
-        for (final String token : t.getTokens()) {
-            if (wordVectors.hasWord(token)) {
-                matchingTokens.add(token);
+        //resolve the vocabulary indices of all tokens once
+        final List<String> tokens = t.getTokens();
+        final int[] indices = new int[tokens.size()];
+        int numMatching = 0;
+        for (final String token : tokens) {
+            final int index = wordVectors.indexOf(token);
+            if (index >= 0) {
+                indices[numMatching++] = index;
             } else {
                 m_unknownWordsCtr++;
             }
             m_totalWordsCtr++;
         }
 
-        if (matchingTokens.size() == 0) {
+        if (numMatching == 0) {
             cells.add(new MissingCell("No tokens in row " + row.getKey() + " match the vocabulary!"));
+        } else if (m_calculateMean.getBooleanValue()) {
+            cells.add(toCell(calculateDocumentMean(wordVectors, indices, numMatching)));
         } else {
-            if (m_calculateMean.getBooleanValue()) {
-                final INDArray documentMeanVector = calculateDocumentMean(wordVectors, matchingTokens);
-                convertedDocument =
-                        CollectionCellFactory.createListCell(NDArrayUtils.toListOfDoubleCells(documentMeanVector));
-            } else {
-                convertedDocument = replaceWordsByWordVector(wordVectors, matchingTokens);
-            }
-            cells.add(convertedDocument);
+            cells.add(replaceWordsByWordVector(wordVectors, indices, numMatching));
         }
         return new DefaultRow(row.getKey(), cells);
     }
@@ -195,7 +195,7 @@ public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final
                 DataTableSpec tableSpec = (DataTableSpec)inSpecs[0];
                 WordVectorFileStorePortObject wordVectorModel =
                     (WordVectorFileStorePortObject)((PortObjectInput)inputs[1]).getPortObject();
-                WordVectors wordVectors = wordVectorModel.getWordVectors();
+                WordVectorLookup wordVectors = wordVectorModel.getWordVectorLookup();
                 RowInput rowInput = (RowInput)inputs[0];
                 RowOutput rowOutput = (RowOutput)outputs[0];
 
@@ -235,12 +235,13 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
         ConfigurationUtils.validateColumnSelection(tableSpec, documentColumnName);
         checkDocumentColumnType(tableSpec);
 
+        final DataType vectorType = m_createVectorCells.getBooleanValue() ? DoubleVectorCellFactory.TYPE
+            : DataType.getType(ListCell.class, DoubleCell.TYPE);
         if (m_calculateMean.getBooleanValue()) {
-            m_outputSpec = TableUtils.appendColumnSpec(tableSpec, "converted_document",
-                DataType.getType(ListCell.class, DoubleCell.TYPE));
+            m_outputSpec = TableUtils.appendColumnSpec(tableSpec, "converted_document", vectorType);
         } else {
             m_outputSpec = TableUtils.appendColumnSpec(tableSpec, "converted_document",
-                DataType.getType(ListCell.class, DataType.getType(ListCell.class, DoubleCell.TYPE)));
+                DataType.getType(ListCell.class, vectorType));
         }
         return new DataTableSpec[]{m_outputSpec};
     }
@@ -260,65 +261,83 @@ private void checkDocumentColumnType(final DataTableSpec spec) throws InvalidSet
     protected List<SettingsModel> initSettingsModels() {
         m_documentColumn = createDocumentColumnSettings();
         m_calculateMean = createCalculateMeanSettings();
+        m_createVectorCells = createVectorCellsSettings();
+        markAsOptional(m_createVectorCells);
 
         ArrayList<SettingsModel> settings = new ArrayList<SettingsModel>();
         settings.add(m_calculateMean);
         settings.add(m_documentColumn);
+        settings.add(m_createVectorCells);
         return settings;
     }
 
     /**
-     * Converts the word vector corresponding to a specific word to a {@link ListCell} containing {@link DoubleCell}s
-     * containing the elements of the word vector.
+     * Converts the specified vector to a {@link DenseDoubleVectorCell} if vector cells should be created, or to a
+     * {@link ListCell} containing {@link DoubleCell}s otherwise.
      *
-     * @param wordVec the {@link WordVectors} model to use
-     * @param word the word for which we want to retrieve the word vector
-     * @return the {@link ListCell} containing the word vector as {@link DoubleCell}s
+     * @param vector the vector to convert
+     * @return the cell containing the elements of the vector
      */
-    private ListCell wordToListCell(final WordVectors wordVec, final String word) {
-        final List<DoubleCell> cells = NDArrayUtils.toListOfDoubleCells(wordVec.getWordVectorMatrix(word));
+    private DataCell toCell(final double[] vector) {
+        if (m_createVectorCells.getBooleanValue()) {
+            return DoubleVectorCellFactory.createCell(vector);
+        }
+        final List<DoubleCell> cells = new ArrayList<DoubleCell>(vector.length);
+        for (final double d : vector) {
+            cells.add(new DoubleCell(d));
+        }
         return CollectionCellFactory.createListCell(cells);
     }
 
     /**
-     * Replaces each word contained in a document with its corresponding word vector. If a word from the document is not
-     * contained in the used {@link WordVectors} model it will be skipped. The output is a {@link ListCell} containing
-     * {@link ListCell}s containing the word vectors as {@link DoubleCell}s.
+     * Replaces each word contained in a document with its corresponding word vector. The output is a {@link ListCell}
+     * containing the word vectors as cells created by {@link #toCell(double[])}.
      *
-     * @param wordVec the {@link WordVectors} model to use
-     * @param document the document to use
-     * @return {@link ListCell} of {@link ListCell}c of {@link DoubleCell}s containing converted words
+     * @param wordVec the word vectors to use
+     * @param indices the vocabulary indices of the words of the document
+     * @param numIndices the number of valid entries in indices
+     * @return {@link ListCell} containing the converted words
      */
-    private ListCell replaceWordsByWordVector(final WordVectors wordVec, final List<String> tokens) {
-        final List<ListCell> listCells = new ArrayList<ListCell>();
-
-        for (String token : tokens) {
-            if (!token.isEmpty()) {
-                listCells.add(wordToListCell(wordVec, token));
+    private ListCell replaceWordsByWordVector(final WordVectorLookup wordVec, final int[] indices,
+        final int numIndices) {
+        final List<DataCell> listCells = new ArrayList<DataCell>(numIndices);
+        final float[] vector = new float[wordVec.layerSize()];
+        final double[] converted = new double[vector.length];
+
+        for (int i = 0; i < numIndices; i++) {
+            wordVec.getVector(indices[i], vector);
+            for (int j = 0; j < vector.length; j++) {
+                converted[j] = vector[j];
             }
+            listCells.add(toCell(converted));
         }
         return CollectionCellFactory.createListCell(listCells);
     }
 
     /**
-     * Calculates the mean vector of all word vectors of all words contained in a document.
+     * Calculates the mean vector of all word vectors of all words contained in a document. The vectors are added to
+     * the mean one after the other, hence no matrix containing all vectors of the document is created.
      *
-     * @param wordVec the {@link WordVectors} model to use
-     * @param document the document for which the mean should be calculated
-     * @return {@link INDArray} containing the mean vector of the document
+     * @param wordVec the word vectors to use
+     * @param indices the vocabulary indices of the words of the document
+     * @param numIndices the number of valid entries in indices
+     * @return the mean vector of the document
      */
-    private INDArray calculateDocumentMean(final WordVectors wordVec, final List<String> tokens) {
-        final INDArray documentWordVectors = Nd4j.create(tokens.size(), wordVec.lookupTable().layerSize());
-
-        int i = 0;
-        for (final String token : tokens) {
-            if (!token.isEmpty()) {
-                documentWordVectors.putRow(i, wordVec.getWordVectorMatrix(token));
-                i++;
+    private double[] calculateDocumentMean(final WordVectorLookup wordVec, final int[] indices,
+        final int numIndices) {
+        final float[] vector = new float[wordVec.layerSize()];
+        final double[] mean = new double[vector.length];
+
+        for (int i = 0; i < numIndices; i++) {
+            wordVec.getVector(indices[i], vector);
+            for (int j = 0; j < vector.length; j++) {
+                mean[j] += vector[j];
             }
         }
-        final INDArray documentMeanVector = documentWordVectors.mean(0);
-        return documentMeanVector;
+        for (int j = 0; j < mean.length; j++) {
+            mean[j] /= numIndices;
+        }
+        return mean;
     }
 
     @Override
@@ -338,6 +357,10 @@ public static SettingsModelBoolean createCalculateMeanSettings() {
         return new SettingsModelBoolean("do_calculate_mean", false);
     }
 
+    public static SettingsModelBoolean createVectorCellsSettings() {
+        return new SettingsModelBoolean("create_vector_cells", false);
+    }
+
     public static SettingsModelString createDocumentColumnSettings() {
         return new SettingsModelString("document_column", "");
     }
@@ -71,6 +71,7 @@
 import org.knime.core.node.port.inactive.InactiveBranchPortObjectSpec;
 import org.knime.ext.dl4j.base.AbstractDLNodeModel;
 import org.knime.ext.dl4j.base.util.NDArrayUtils;
+import org.knime.ext.textprocessing.dl4j.data.MappedWordVectorStore;
 import org.knime.ext.textprocessing.dl4j.nodes.embeddings.WordVectorFileStorePortObject;
 import org.knime.ext.textprocessing.dl4j.nodes.embeddings.WordVectorPortObjectSpec;
 import org.knime.ext.textprocessing.dl4j.settings.enumerate.WordVectorTrainingMode;
@@ -102,6 +103,12 @@ public VocabularyExtractorNodeModel2() {
     @Override
     protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
         final WordVectorFileStorePortObject portObject = (WordVectorFileStorePortObject)inObjects[0];
+        if (m_trainingMode == WordVectorTrainingMode.WORD2VEC && portObject.hasWordVectorStore()) {
+            //Word2Vec models do not contain labels, hence we can read the vocabulary directly from the store. Models
+            //without a store are read from memory instead of writing a temporary store just to list the vocabulary.
+            return new PortObject[]{createWordVectorTableFromStore((DataTableSpec)m_outputSpec[0],
+                portObject.getWordVectorLookup(), exec), InactiveBranchPortObject.INSTANCE};
+        }
         WordVectors wordVec = portObject.getWordVectors();
         WordVectorsImpl<VocabWord> wvImpl = null;
 
@@ -173,6 +180,40 @@ private BufferedDataTable createWordVectorTableFromWordList(final DataTableSpec
         return container.getTable();
     }
 
+    /**
+     * Create a BufferedDataTable with two columns containing all words of the specified store and the corresponding
+     * word vector. The vectors are read row by row from the store.
+     *
+     * @param tableSpec the spec to use for container creation
+     * @param store the store containing the words and vectors
+     * @param exec the execution context to use for container creation
+     * @return table containing the words and vectors
+     */
+    private BufferedDataTable createWordVectorTableFromStore(final DataTableSpec tableSpec,
+        final MappedWordVectorStore store, final ExecutionContext exec) {
+        final BufferedDataContainer container = exec.createDataContainer(tableSpec);
+        m_maxProgress = store.numWords();
+        final float[] vector = new float[store.layerSize()];
+        for (int i = 0; i < store.numWords(); i++) {
+            final String word = store.wordAtIndex(i);
+            incrementProgessAndSetMessage(exec, word);
+            final List<DataCell> cells = new ArrayList<>();
+
+            cells.add(new StringCell(word));
+
+            store.getVector(i, vector);
+            final List<DoubleCell> vectorCells = new ArrayList<>(vector.length);
+            for (final float f : vector) {
+                vectorCells.add(new DoubleCell(f));
+            }
+            cells.add(CollectionCellFactory.createListCell(vectorCells));
+
+            container.addRowToTable(new DefaultRow(new RowKey("Row" + i), cells));
+        }
+        container.close();
+        return container.getTable();
+    }
+
     @Override
     protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
         WordVectorPortObjectSpec port = (WordVectorPortObjectSpec)inSpecs[0];
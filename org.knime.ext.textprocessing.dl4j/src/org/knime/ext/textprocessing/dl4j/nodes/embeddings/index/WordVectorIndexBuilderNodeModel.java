@@ -0,0 +1,108 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.textprocessing.dl4j.nodes.embeddings.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.defaultnodesettings.SettingsModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.ext.dl4j.base.AbstractDLNodeModel;
+import org.knime.ext.textprocessing.dl4j.data.MappedWordVectorStore;
+import org.knime.ext.textprocessing.dl4j.data.WordVectorLookup;
+import org.knime.ext.textprocessing.dl4j.nodes.embeddings.WordVectorFileStorePortObject;
+import org.knime.ext.textprocessing.dl4j.nodes.embeddings.WordVectorIndexPortObject;
+import org.knime.ext.textprocessing.dl4j.nodes.embeddings.WordVectorPortObjectSpec;
+
+/**
+ * Node to build a nearest neighbour index over the words of a Word Vector Model.
+ *
+ * @author agent
+ */
+public class WordVectorIndexBuilderNodeModel extends AbstractDLNodeModel {
+
+    /**
+     * Constructor for the node model.
+     */
+    public WordVectorIndexBuilderNodeModel() {
+        super(new PortType[]{WordVectorFileStorePortObject.TYPE}, new PortType[]{WordVectorIndexPortObject.TYPE});
+    }
+
+    @Override
+    protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+        final WordVectorFileStorePortObject portObject = (WordVectorFileStorePortObject)inObjects[0];
+        exec.setMessage("Preparing word vectors");
+        final WordVectorLookup lookup = portObject.getWordVectorLookup();
+        if (!(lookup instanceof MappedWordVectorStore)) {
+            throw new IllegalStateException("Word vectors expected to be of type: " + MappedWordVectorStore.class);
+        }
+
+        exec.setMessage("Building index");
+        final WordVectorIndexPortObject outPortObject = WordVectorIndexPortObject.create(
+            (MappedWordVectorStore)lookup, portObject.getSpec(), exec.createFileStore(UUID.randomUUID().toString()),
+            exec);
+        return new PortObject[]{outPortObject};
+    }
+
+    @Override
+    protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        return new PortObjectSpec[]{(WordVectorPortObjectSpec)inSpecs[0]};
+    }
+
+    @Override
+    protected List<SettingsModel> initSettingsModels() {
+        // no parameter for this node
+        return new ArrayList<SettingsModel>();
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.textprocessing.dl4j.nodes.embeddings.infer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.deeplearning4j.models.paragraphvectors.ParagraphVectors;
+import org.deeplearning4j.models.word2vec.VocabWord;
+import org.deeplearning4j.models.word2vec.wordstore.VocabCache;
+import org.deeplearning4j.text.tokenization.tokenizerfactory.DefaultTokenizerFactory;
+import org.deeplearning4j.text.tokenization.tokenizerfactory.TokenizerFactory;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.collection.ListCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.vector.doublevector.DoubleVectorCellFactory;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.defaultnodesettings.SettingsModel;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelDoubleBounded;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.ext.dl4j.base.AbstractDLNodeModel;
+import org.knime.ext.dl4j.base.util.ConfigurationUtils;
+import org.knime.ext.dl4j.base.util.ConverterUtils;
+import org.knime.ext.dl4j.base.util.ParallelUtils;
+import org.knime.ext.dl4j.base.util.TableUtils;
+import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.dl4j.nodes.embeddings.WordVectorFileStorePortObject;
+import org.knime.ext.textprocessing.dl4j.nodes.embeddings.WordVectorPortObjectSpec;
+import org.knime.ext.textprocessing.dl4j.settings.enumerate.WordVectorTrainingMode;
+import org.nd4j.linalg.api.ndarray.INDArray;
+
+/**
+ * Node to infer document vectors for new documents using a Doc2Vec model. The rows are processed in micro-batches,
+ * the documents of each batch are inferred in parallel on the KNIME thread pool.
+ *
+ * @author agent
+ */
+final class Doc2VecInferNodeModel extends AbstractDLNodeModel {
+
+    private SettingsModelString m_documentColumn;
+
+    private SettingsModelIntegerBounded m_iterations;
+
+    private SettingsModelDoubleBounded m_learningRate;
+
+    private SettingsModelDoubleBounded m_minLearningRate;
+
+    private SettingsModelIntegerBounded m_batchSize;
+
+    private SettingsModelBoolean m_createVectorCells;
+
+    private DataTableSpec m_outputSpec;
+
+    Doc2VecInferNodeModel() {
+        super(new PortType[]{BufferedDataTable.TYPE, WordVectorFileStorePortObject.TYPE},
+            new PortType[]{BufferedDataTable.TYPE});
+    }
+
+    @Override
+    protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+        final BufferedDataTable table = (BufferedDataTable)inObjects[0];
+        final WordVectorFileStorePortObject portObject = (WordVectorFileStorePortObject)inObjects[1];
+
+        final BufferedDataTableRowOutput output =
+            new BufferedDataTableRowOutput(exec.createDataContainer(m_outputSpec));
+        inferRows(portObject, new DataTableRowInput(table), output, exec, table.size());
+
+        return new PortObject[]{output.getDataTable()};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                final WordVectorFileStorePortObject portObject =
+                    (WordVectorFileStorePortObject)((PortObjectInput)inputs[1]).getPortObject();
+                inferRows(portObject, (RowInput)inputs[0], (RowOutput)outputs[0], exec, -1);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        return new InputPortRole[]{InputPortRole.DISTRIBUTED_STREAMABLE, InputPortRole.NONDISTRIBUTED_NONSTREAMABLE};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{OutputPortRole.DISTRIBUTED};
+    }
+
+    /**
+     * Polls rows from the specified input in batches of the configured batch size, infers the vectors of the
+     * documents of each batch in parallel and pushes the input rows with appended vector cells to the specified output
+     * in input order. Closes input and output when done.
+     *
+     * @param portObject the port object containing the Doc2Vec model
+     * @param input the rows to infer
+     * @param output the output to push the result rows to
+     * @param exec the execution context used for progress and cancellation
+     * @param rowCount the number of rows of the input, or a negative value if unknown
+     * @throws Exception if a document could not be converted or the execution was canceled
+     */
+    private void inferRows(final WordVectorFileStorePortObject portObject, final RowInput input,
+        final RowOutput output, final ExecutionContext exec, final long rowCount) throws Exception {
+        //the model is cached and shared, hence it must not be changed
+        final ParagraphVectors vectors = (ParagraphVectors)portObject.getWordVectors();
+        //the tokenizer is not part of the serialized model, use the same one as the learner
+        final TokenizerFactory tokenizerFactory = new DefaultTokenizerFactory();
+
+        final int documentColumnIndex = input.getDataTableSpec().findColumnIndex(m_documentColumn.getStringValue());
+        final int batchSize = m_batchSize.getIntValue();
+
+        final List<DataRow> batch = new ArrayList<>(batchSize);
+        final List<String> documents = new ArrayList<>(batchSize);
+        long i = 0;
+        boolean inputExhausted = false;
+        while (!inputExhausted) {
+            exec.checkCanceled();
+
+            batch.clear();
+            documents.clear();
+            DataRow row = null;
+            while (batch.size() < batchSize && (row = input.poll()) != null) {
+                final DataCell cell = row.getCell(documentColumnIndex);
+                documents.add(cell.isMissing() ? null : ConverterUtils.convertDataCellToJava(cell, String.class));
+                batch.add(row);
+            }
+            inputExhausted = row == null;
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            final List<DataCell> inferred =
+                ParallelUtils.map(documents, document -> inferVector(vectors, tokenizerFactory, document));
+
+            //write results back in row order
+            for (int r = 0; r < batch.size(); r++) {
+                final DataRow inputRow = batch.get(r);
+                final List<DataCell> cells = TableUtils.toListOfCells(inputRow);
+                cells.add(inferred.get(r));
+                output.push(new DefaultRow(inputRow.getKey(), cells));
+            }
+            i += batch.size();
+            if (rowCount > 0) {
+                exec.setProgress(i / (double)rowCount);
+            } else {
+                exec.setMessage("Inferred " + i + " rows");
+            }
+        }
+
+        output.close();
+        input.close();
+    }
+
+    /**
+     * Infers the vector of the specified document. The document is tokenized here instead of by the model, hence the
+     * shared model does not need a tokenizer. Documents containing no word of the vocabulary can't be inferred, hence
+     * a {@link MissingCell} is returned in this case.
+     *
+     * @param vectors the Doc2Vec model to use
+     * @param tokenizerFactory the tokenizer factory used by the learner
+     * @param document the document to infer, may be null if the input cell is missing
+     * @return the cell containing the inferred vector
+     */
+    private DataCell inferVector(final ParagraphVectors vectors, final TokenizerFactory tokenizerFactory,
+        final String document) {
+        if (document == null) {
+            return new MissingCell("Document is missing.");
+        }
+        final VocabCache<VocabWord> vocab = vectors.getVocab();
+        final List<VocabWord> words = new ArrayList<>();
+        for (final String token : tokenizerFactory.create(document).getTokens()) {
+            if (vocab.containsWord(token)) {
+                words.add(vocab.wordFor(token));
+            }
+        }
+        if (words.isEmpty()) {
+            return new MissingCell("No tokens of the document match the vocabulary!");
+        }
+        final INDArray vector = vectors.inferVector(words, m_learningRate.getDoubleValue(),
+            m_minLearningRate.getDoubleValue(), m_iterations.getIntValue());
+        return toCell(vector.dup().data().asDouble());
+    }
+
+    /**
+     * Converts the specified vector to a {@link org.knime.core.data.vector.doublevector.DenseDoubleVectorCell} if
+     * vector cells should be created, or to a {@link ListCell} containing {@link DoubleCell}s otherwise.
+     *
+     * @param vector the vector to convert
+     * @return the cell containing the elements of the vector
+     */
+    private DataCell toCell(final double[] vector) {
+        if (m_createVectorCells.getBooleanValue()) {
+            return DoubleVectorCellFactory.createCell(vector);
+        }
+        final List<DoubleCell> cells = new ArrayList<DoubleCell>(vector.length);
+        for (final double d : vector) {
+            cells.add(new DoubleCell(d));
+        }
+        return CollectionCellFactory.createListCell(cells);
+    }
+
+    @Override
+    protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        final DataTableSpec tableSpec = (DataTableSpec)inSpecs[0];
+        final WordVectorPortObjectSpec modelSpec = (WordVectorPortObjectSpec)inSpecs[1];
+        if (modelSpec.getWordVectorTrainingsMode() != WordVectorTrainingMode.DOC2VEC) {
+            throw new InvalidSettingsException("Document vectors can only be inferred using a Doc2Vec model, but "
+                + "the input model was trained using " + modelSpec.getWordVectorTrainingsMode() + ".");
+        }
+        ConfigurationUtils.validateColumnSelection(tableSpec, m_documentColumn.getStringValue());
+        checkDocumentColumnType(tableSpec);
+        if (m_minLearningRate.getDoubleValue() > m_learningRate.getDoubleValue()) {
+            throw new InvalidSettingsException("The minimum learning rate must not be greater than the learning rate.");
+        }
+
+        final DataType vectorType = m_createVectorCells.getBooleanValue() ? DoubleVectorCellFactory.TYPE
+            : DataType.getType(ListCell.class, DoubleCell.TYPE);
+        m_outputSpec = TableUtils.appendColumnSpec(tableSpec, "document_vector", vectorType);
+        return new DataTableSpec[]{m_outputSpec};
+    }
+
+    private void checkDocumentColumnType(final DataTableSpec spec) throws InvalidSettingsException {
+        final DataColumnSpec documentColumnSpec = spec.getColumnSpec(m_documentColumn.getStringValue());
+        final DataType type = documentColumnSpec.getType();
+
+        if (!(type.isCompatible(DocumentValue.class) || type.isCompatible(StringValue.class))) {
+            throw new InvalidSettingsException("Data Type " + type.getName() + " is not supported.");
+        }
+    }
+
+    @Override
+    protected List<SettingsModel> initSettingsModels() {
+        m_documentColumn = createDocumentColumnSettings();
+        m_iterations = createIterationsSettings();
+        m_learningRate = createLearningRateSettings();
+        m_minLearningRate = createMinLearningRateSettings();
+        m_batchSize = createBatchSizeSettings();
+        m_createVectorCells = createVectorCellsSettings();
+
+        final List<SettingsModel> settings = new ArrayList<>();
+        settings.add(m_documentColumn);
+        settings.add(m_iterations);
+        settings.add(m_learningRate);
+        settings.add(m_minLearningRate);
+        settings.add(m_batchSize);
+        settings.add(m_createVectorCells);
+        return settings;
+    }
+
+    public static SettingsModelString createDocumentColumnSettings() {
+        return new SettingsModelString("document_column", "");
+    }
+
+    public static SettingsModelIntegerBounded createIterationsSettings() {
+        return new SettingsModelIntegerBounded("inference_iterations", 10, 1, Integer.MAX_VALUE);
+    }
+
+    public static SettingsModelDoubleBounded createLearningRateSettings() {
+        return new SettingsModelDoubleBounded("learning_rate", 0.025, 0, Double.MAX_VALUE);
+    }
+
+    public static SettingsModelDoubleBounded createMinLearningRateSettings() {
+        return new SettingsModelDoubleBounded("min_learning_rate", 0.0001, 0, Double.MAX_VALUE);
+    }
+
+    public static SettingsModelIntegerBounded createBatchSizeSettings() {
+        return new SettingsModelIntegerBounded("batch_size", 1000, 1, Integer.MAX_VALUE);
+    }
+
+    public static SettingsModelBoolean createVectorCellsSettings() {
+        return new SettingsModelBoolean("create_vector_cells", false);
+    }
+}
@@ -128,6 +128,6 @@ protected PortObject[] read(final InputStream inputStream, final ExecutionContex
             WordVectorPortObjectUtils.deleteTmpFile(path, "The temporary copy of the model could not be deleted");
         }
         return new PortObject[]{WordVectorFileStorePortObject.create(wordVectors, outputSpec,
-            exec.createFileStore(UUID.randomUUID().toString()))};
+            exec.createFileStore(UUID.randomUUID().toString()), exec.createFileStore(UUID.randomUUID().toString()))};
     }
 }
@@ -65,6 +65,7 @@
 import org.knime.ext.dl4j.base.util.ConfigurationUtils;
 import org.knime.ext.dl4j.base.util.TableUtils;
 import org.knime.ext.textprocessing.dl4j.data.BufferedDataTableLabelledDocumentIterator;
+import org.knime.ext.textprocessing.dl4j.data.TokenizedCorpusSequenceIterator;
 import org.knime.ext.textprocessing.dl4j.nodes.embeddings.WordVectorFileStorePortObject;
 import org.knime.ext.textprocessing.dl4j.nodes.embeddings.WordVectorPortObjectSpec;
 import org.knime.ext.textprocessing.dl4j.nodes.embeddings.learn.d2v.dialog.Doc2VecDataParametersComponentGroup;
@@ -124,6 +125,13 @@ protected WordVectorFileStorePortObject[] executeDL4JMemorySafe(final PortObject
         final boolean useHS =
             m_wordVecParameterSettings.getBoolean(WordVectorLearnerParameter.USE_HIERARCHICAL_SOFTMAX);
 
+        // parallelism, the table iterators may be consumed by the tokenizer threads
+        final int workers = m_wordVecParameterSettings.getInteger(WordVectorLearnerParameter.WORKERS);
+        final boolean parallelTokenization =
+            m_wordVecParameterSettings.getBoolean(WordVectorLearnerParameter.USE_PARALLEL_TOKENIZATION);
+        final boolean cacheCorpus =
+            m_wordVecParameterSettings.getBoolean(WordVectorLearnerParameter.CACHE_TOKENIZED_CORPUS);
+
         final TokenizerFactory t = new DefaultTokenizerFactory();
 
         final BufferedDataTableLabelledDocumentIterator docIter =
@@ -135,18 +143,35 @@ protected WordVectorFileStorePortObject[] executeDL4JMemorySafe(final PortObject
         }
 
         // build doc2vec model
-        final ParagraphVectors d2v = new ParagraphVectors.Builder().learningRate(learningRate)
+        final ParagraphVectors.Builder builder = new ParagraphVectors.Builder().learningRate(learningRate)
             .minLearningRate(minLearningRate).seed(seed).layerSize(layerSize).batchSize(batchSize)
             .windowSize(windowSize).minWordFrequency(minWordFrequency).iterations(trainingIterations).epochs(epochs)
-            .iterate(docIter).tokenizerFactory(t).trainElementsRepresentation(true).allowParallelTokenization(false)
+            .tokenizerFactory(t).trainElementsRepresentation(true).workers(workers)
+            .allowParallelTokenization(parallelTokenization)
             .sequenceLearningAlgorithm(parseSequenceAlgo(sequenceAlgo)).useHierarchicSoftmax(useHS)
-            .negativeSample(negativeSampling).sampling(sampling).build();
-
-        d2v.fit();
-        docIter.close();
+            .negativeSample(negativeSampling).sampling(sampling);
+
+        TokenizedCorpusSequenceIterator corpusIter = null;
+        if (cacheCorpus) {
+            corpusIter = new TokenizedCorpusSequenceIterator(docIter, t);
+            builder.iterate(corpusIter).labelsSource(docIter.getLabelsSource());
+        } else {
+            builder.iterate(docIter);
+        }
+        final ParagraphVectors d2v = builder.build();
+
+        try {
+            d2v.fit();
+        } finally {
+            if (corpusIter != null) {
+                corpusIter.close();
+            }
+            docIter.close();
+        }
 
         final WordVectorFileStorePortObject outPortObject =
             WordVectorFileStorePortObject.create(d2v, new WordVectorPortObjectSpec(WordVectorTrainingMode.DOC2VEC),
+                exec.createFileStore(UUID.randomUUID().toString()),
                 exec.createFileStore(UUID.randomUUID().toString()));
         return new WordVectorFileStorePortObject[]{outPortObject};
     }
@@ -182,6 +207,12 @@ protected List<SettingsModel> initSettingsModels() {
         m_wordVecParameterSettings.setParameter(WordVectorLearnerParameter.SAMPLING);
         m_wordVecParameterSettings.setParameter(WordVectorLearnerParameter.SEQUENCE_LEARNING_ALGO);
         m_wordVecParameterSettings.setParameter(WordVectorLearnerParameter.USE_HIERARCHICAL_SOFTMAX);
+        m_wordVecParameterSettings.setParameter(WordVectorLearnerParameter.WORKERS);
+        m_wordVecParameterSettings.setParameter(WordVectorLearnerParameter.USE_PARALLEL_TOKENIZATION);
+        m_wordVecParameterSettings.setParameter(WordVectorLearnerParameter.CACHE_TOKENIZED_CORPUS);
+        markAsOptional(m_wordVecParameterSettings.getParameter(WordVectorLearnerParameter.WORKERS));
+        markAsOptional(m_wordVecParameterSettings.getParameter(WordVectorLearnerParameter.USE_PARALLEL_TOKENIZATION));
+        markAsOptional(m_wordVecParameterSettings.getParameter(WordVectorLearnerParameter.CACHE_TOKENIZED_CORPUS));
 
         final List<SettingsModel> settings = new ArrayList<>();
         settings.addAll(m_wordVecParameterSettings.getAllInitializedSettings());
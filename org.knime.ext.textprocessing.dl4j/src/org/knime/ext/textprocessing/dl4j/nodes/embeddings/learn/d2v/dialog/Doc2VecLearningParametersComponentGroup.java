@@ -78,6 +78,7 @@ public class Doc2VecLearningParametersComponentGroup extends AbstractGridBagDial
     private SettingsModelIntegerBounded m_seedSettings;
     private SettingsModelIntegerBounded m_windowSizeSettings;
     private SettingsModelIntegerBounded m_minWordFreqSizeSettings;
+    private SettingsModelIntegerBounded m_workersSettings;
 
     private SettingsModelDoubleBounded m_samplingSettings;
     private SettingsModelDoubleBounded m_negativeSamplingSettings;
@@ -88,6 +89,8 @@ public class Doc2VecLearningParametersComponentGroup extends AbstractGridBagDial
 
     private SettingsModelBoolean m_useHsSettings;
     private SettingsModelBoolean m_skipMissingSettings;
+    private SettingsModelBoolean m_parallelTokenizationSettings;
+    private SettingsModelBoolean m_cacheTokenizedCorpusSettings;
 
     /**
      * @param settings
@@ -111,6 +114,12 @@ public Doc2VecLearningParametersComponentGroup(final WordVectorParameterSettings
         m_useHsSettings = (SettingsModelBoolean)settings.createParameter(WordVectorLearnerParameter.USE_HIERARCHICAL_SOFTMAX);
         m_skipMissingSettings = (SettingsModelBoolean)settings.createParameter(WordVectorLearnerParameter.SKIP_MISSING_CELLS);
 
+        m_workersSettings = (SettingsModelIntegerBounded)settings.createParameter(WordVectorLearnerParameter.WORKERS);
+        m_parallelTokenizationSettings =
+            (SettingsModelBoolean)settings.createParameter(WordVectorLearnerParameter.USE_PARALLEL_TOKENIZATION);
+        m_cacheTokenizedCorpusSettings =
+            (SettingsModelBoolean)settings.createParameter(WordVectorLearnerParameter.CACHE_TOKENIZED_CORPUS);
+
         addWhitespaceRow(2);
         addNumberEditRowComponent(m_learningRateSettings, "Learning Rate");
         addNumberEditRowComponent(m_minLearningRateSettings, "Minimum Learning Rate");
@@ -138,6 +147,11 @@ public void stateChanged(final ChangeEvent e) {
 
         addHorizontalSeparator();
         addCheckboxRow(m_skipMissingSettings, "Skip Missing Cells?", true);
+
+        addHorizontalSeparator();
+        addNumberEditRowComponent(m_workersSettings, "Number of Workers");
+        addCheckboxRow(m_parallelTokenizationSettings, "Use Parallel Tokenization?", true);
+        addCheckboxRow(m_cacheTokenizedCorpusSettings, "Cache Tokenized Corpus?", true);
     }
 
     private void updateEnableStatus() {
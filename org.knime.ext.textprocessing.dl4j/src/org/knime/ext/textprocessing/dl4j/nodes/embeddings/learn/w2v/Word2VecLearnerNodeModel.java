@@ -65,6 +65,7 @@
 import org.knime.ext.dl4j.base.util.ConfigurationUtils;
 import org.knime.ext.dl4j.base.util.TableUtils;
 import org.knime.ext.textprocessing.dl4j.data.BufferedDataTableSentenceIterator;
+import org.knime.ext.textprocessing.dl4j.data.TokenizedCorpusSequenceIterator;
 import org.knime.ext.textprocessing.dl4j.nodes.embeddings.WordVectorFileStorePortObject;
 import org.knime.ext.textprocessing.dl4j.nodes.embeddings.WordVectorPortObjectSpec;
 import org.knime.ext.textprocessing.dl4j.settings.enumerate.WordVectorLearnerParameter;
@@ -122,6 +123,13 @@ protected WordVectorFileStorePortObject[] executeDL4JMemorySafe(final PortObject
         final boolean useHS =
             m_wordVecParameterSettings.getBoolean(WordVectorLearnerParameter.USE_HIERARCHICAL_SOFTMAX);
 
+        // parallelism, the table iterators may be consumed by the tokenizer threads
+        final int workers = m_wordVecParameterSettings.getInteger(WordVectorLearnerParameter.WORKERS);
+        final boolean parallelTokenization =
+            m_wordVecParameterSettings.getBoolean(WordVectorLearnerParameter.USE_PARALLEL_TOKENIZATION);
+        final boolean cacheCorpus =
+            m_wordVecParameterSettings.getBoolean(WordVectorLearnerParameter.CACHE_TOKENIZED_CORPUS);
+
         final TokenizerFactory t = new DefaultTokenizerFactory();
 
         final BufferedDataTableSentenceIterator sentenceIter =
@@ -133,18 +141,35 @@ protected WordVectorFileStorePortObject[] executeDL4JMemorySafe(final PortObject
         }
 
         // build word2vec model
-        final Word2Vec w2v =
+        final Word2Vec.Builder builder =
             new Word2Vec.Builder().learningRate(learningRate).minLearningRate(minLearningRate).seed(seed)
                 .layerSize(layerSize).batchSize(batchSize).windowSize(windowSize).minWordFrequency(minWordFrequency)
-                .iterations(trainingIterations).epochs(epochs).iterate(sentenceIter).tokenizerFactory(t)
-                .allowParallelTokenization(false).elementsLearningAlgorithm(parseElementsAlgo(elementsAlgo))
-                .useHierarchicSoftmax(useHS).negativeSample(negativeSampling).sampling(sampling).build();
-
-        w2v.fit();
-        sentenceIter.close();
+                .iterations(trainingIterations).epochs(epochs).tokenizerFactory(t)
+                .workers(workers).allowParallelTokenization(parallelTokenization)
+                .elementsLearningAlgorithm(parseElementsAlgo(elementsAlgo))
+                .useHierarchicSoftmax(useHS).negativeSample(negativeSampling).sampling(sampling);
+
+        TokenizedCorpusSequenceIterator corpusIter = null;
+        if (cacheCorpus) {
+            corpusIter = new TokenizedCorpusSequenceIterator(sentenceIter, t);
+            builder.iterate(corpusIter);
+        } else {
+            builder.iterate(sentenceIter);
+        }
+        final Word2Vec w2v = builder.build();
+
+        try {
+            w2v.fit();
+        } finally {
+            if (corpusIter != null) {
+                corpusIter.close();
+            }
+            sentenceIter.close();
+        }
 
         final WordVectorFileStorePortObject outPortObject =
             WordVectorFileStorePortObject.create(w2v, new WordVectorPortObjectSpec(WordVectorTrainingMode.WORD2VEC),
+                exec.createFileStore(UUID.randomUUID().toString()),
                 exec.createFileStore(UUID.randomUUID().toString()));
         return new WordVectorFileStorePortObject[]{outPortObject};
     }
@@ -176,6 +201,12 @@ protected List<SettingsModel> initSettingsModels() {
         m_wordVecParameterSettings.setParameter(WordVectorLearnerParameter.SAMPLING);
         m_wordVecParameterSettings.setParameter(WordVectorLearnerParameter.ELEMENTS_LEARNING_ALGO);
         m_wordVecParameterSettings.setParameter(WordVectorLearnerParameter.USE_HIERARCHICAL_SOFTMAX);
+        m_wordVecParameterSettings.setParameter(WordVectorLearnerParameter.WORKERS);
+        m_wordVecParameterSettings.setParameter(WordVectorLearnerParameter.USE_PARALLEL_TOKENIZATION);
+        m_wordVecParameterSettings.setParameter(WordVectorLearnerParameter.CACHE_TOKENIZED_CORPUS);
+        markAsOptional(m_wordVecParameterSettings.getParameter(WordVectorLearnerParameter.WORKERS));
+        markAsOptional(m_wordVecParameterSettings.getParameter(WordVectorLearnerParameter.USE_PARALLEL_TOKENIZATION));
+        markAsOptional(m_wordVecParameterSettings.getParameter(WordVectorLearnerParameter.CACHE_TOKENIZED_CORPUS));
 
         final List<SettingsModel> settings = new ArrayList<>();
         settings.addAll(m_wordVecParameterSettings.getAllInitializedSettings());
@@ -0,0 +1,281 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.textprocessing.dl4j.nodes.embeddings.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.collection.ListCell;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.vector.doublevector.DoubleVectorValue;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.defaultnodesettings.SettingsModel;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.ext.dl4j.base.AbstractDLNodeModel;
+import org.knime.ext.dl4j.base.util.ConfigurationUtils;
+import org.knime.ext.dl4j.base.util.ParallelUtils;
+import org.knime.ext.dl4j.base.util.TableUtils;
+import org.knime.ext.textprocessing.dl4j.data.MappedWordVectorStore;
+import org.knime.ext.textprocessing.dl4j.data.VPTreeIndex;
+import org.knime.ext.textprocessing.dl4j.data.VPTreeIndex.Neighbour;
+import org.knime.ext.textprocessing.dl4j.nodes.embeddings.WordVectorIndexPortObject;
+
+/**
+ * Node to search the most similar words of words or vectors using a Word Vector Index. The rows are processed in
+ * batches, the queries of each batch are run in parallel on the KNIME thread pool.
+ *
+ * @author agent
+ */
+public class WordVectorIndexQueryNodeModel extends AbstractDLNodeModel {
+
+    /** The number of rows queried in parallel. */
+    private static final int BATCH_SIZE = 1000;
+
+    private SettingsModelString m_queryColumn;
+
+    private SettingsModelIntegerBounded m_numberOfNeighbours;
+
+    private SettingsModelBoolean m_excludeQueryWord;
+
+    private DataTableSpec m_outputSpec;
+
+    /**
+     * Constructor for the node model.
+     */
+    public WordVectorIndexQueryNodeModel() {
+        super(new PortType[]{BufferedDataTable.TYPE, WordVectorIndexPortObject.TYPE},
+            new PortType[]{BufferedDataTable.TYPE});
+    }
+
+    @Override
+    protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+        final BufferedDataTable table = (BufferedDataTable)inObjects[0];
+        final VPTreeIndex index = ((WordVectorIndexPortObject)inObjects[1]).getIndex();
+        final int queryColumnIndex = table.getDataTableSpec().findColumnIndex(m_queryColumn.getStringValue());
+
+        final BufferedDataContainer container = exec.createDataContainer(m_outputSpec);
+        final List<DataRow> batch = new ArrayList<>(BATCH_SIZE);
+        long i = 0;
+        try (CloseableRowIterator tableIterator = table.iterator()) {
+            while (tableIterator.hasNext()) {
+                batch.add(tableIterator.next());
+                i++;
+                if (batch.size() == BATCH_SIZE || !tableIterator.hasNext()) {
+                    exec.checkCanceled();
+                    for (final DataRow row : ParallelUtils.map(batch, r -> processRow(r, queryColumnIndex, index))) {
+                        container.addRowToTable(row);
+                    }
+                    batch.clear();
+                    exec.setProgress(i / (double)table.size());
+                }
+            }
+        }
+        container.close();
+        return new PortObject[]{container.getTable()};
+    }
+
+    private DataRow processRow(final DataRow row, final int queryColumnIndex, final VPTreeIndex index) {
+        final List<DataCell> cells = TableUtils.toListOfCells(row);
+        final DataCell cell = row.getCell(queryColumnIndex);
+        final MappedWordVectorStore store = index.getStore();
+
+        if (cell.isMissing()) {
+            cells.add(new MissingCell("Query is missing."));
+            cells.add(new MissingCell("Query is missing."));
+            return new DefaultRow(row.getKey(), cells);
+        }
+
+        final float[] query = new float[store.layerSize()];
+        int queryWord = -1;
+        if (cell instanceof StringValue && !(cell instanceof CollectionDataValue)) {
+            queryWord = store.indexOf(((StringValue)cell).getStringValue());
+            if (queryWord < 0) {
+                final String message = "Word in row " + row.getKey() + " is not contained in the vocabulary!";
+                cells.add(new MissingCell(message));
+                cells.add(new MissingCell(message));
+                return new DefaultRow(row.getKey(), cells);
+            }
+            store.getVector(queryWord, query);
+        } else if (!readVector(cell, query)) {
+            final String message = "Vector in row " + row.getKey() + " does not match the length of the word vectors!";
+            cells.add(new MissingCell(message));
+            cells.add(new MissingCell(message));
+            return new DefaultRow(row.getKey(), cells);
+        }
+
+        final boolean exclude = queryWord >= 0 && m_excludeQueryWord.getBooleanValue();
+        final int k = m_numberOfNeighbours.getIntValue();
+        final List<StringCell> words = new ArrayList<>(k);
+        final List<DoubleCell> similarities = new ArrayList<>(k);
+        for (final Neighbour neighbour : index.search(query, exclude ? k + 1 : k)) {
+            if (exclude && neighbour.getIndex() == queryWord) {
+                continue;
+            }
+            if (words.size() == k) {
+                break;
+            }
+            final double distance = neighbour.getDistance();
+            words.add(new StringCell(store.wordAtIndex(neighbour.getIndex())));
+            //the vectors have unit length, hence the cosine similarity can be calculated from the distance
+            similarities.add(new DoubleCell(1 - distance * distance / 2));
+        }
+        cells.add(CollectionCellFactory.createListCell(words));
+        cells.add(CollectionCellFactory.createListCell(similarities));
+        return new DefaultRow(row.getKey(), cells);
+    }
+
+    /**
+     * Reads the vector contained in the specified cell to the specified array and scales it to unit length.
+     *
+     * @return false if the length of the vector does not match the length of the array
+     */
+    private static boolean readVector(final DataCell cell, final float[] dest) {
+        if (cell instanceof DoubleVectorValue) {
+            final DoubleVectorValue vector = (DoubleVectorValue)cell;
+            if (vector.getLength() != dest.length) {
+                return false;
+            }
+            for (int i = 0; i < dest.length; i++) {
+                dest[i] = (float)vector.getValue(i);
+            }
+        } else {
+            final CollectionDataValue collection = (CollectionDataValue)cell;
+            if (collection.size() != dest.length) {
+                return false;
+            }
+            int i = 0;
+            for (final DataCell element : collection) {
+                dest[i++] = element.isMissing() ? 0f : (float)((DoubleValue)element).getDoubleValue();
+            }
+        }
+        double norm = 0;
+        for (final float f : dest) {
+            norm += f * f;
+        }
+        if (norm > 0) {
+            norm = Math.sqrt(norm);
+            for (int i = 0; i < dest.length; i++) {
+                dest[i] /= norm;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        final DataTableSpec tableSpec = (DataTableSpec)inSpecs[0];
+        ConfigurationUtils.validateColumnSelection(tableSpec, m_queryColumn.getStringValue());
+        checkQueryColumnType(tableSpec);
+
+        m_outputSpec = TableUtils.appendColumnSpec(tableSpec, "neighbours",
+            DataType.getType(ListCell.class, StringCell.TYPE));
+        m_outputSpec = TableUtils.appendColumnSpec(m_outputSpec, "similarities",
+            DataType.getType(ListCell.class, DoubleCell.TYPE));
+        return new DataTableSpec[]{m_outputSpec};
+    }
+
+    private void checkQueryColumnType(final DataTableSpec spec) throws InvalidSettingsException {
+        final DataColumnSpec queryColumnSpec = spec.getColumnSpec(m_queryColumn.getStringValue());
+        final DataType type = queryColumnSpec.getType();
+
+        final DataType elementType = type.getCollectionElementType();
+        final boolean isDoubleCollection = type.isCompatible(CollectionDataValue.class) && elementType != null
+            && elementType.isCompatible(DoubleValue.class);
+        if (!(type.isCompatible(StringValue.class) || type.isCompatible(DoubleVectorValue.class)
+            || isDoubleCollection)) {
+            throw new InvalidSettingsException("Data Type " + type.getName() + " is not supported.");
+        }
+    }
+
+    @Override
+    protected List<SettingsModel> initSettingsModels() {
+        m_queryColumn = createQueryColumnSettings();
+        m_numberOfNeighbours = createNumberOfNeighboursSettings();
+        m_excludeQueryWord = createExcludeQueryWordSettings();
+
+        final List<SettingsModel> settings = new ArrayList<>();
+        settings.add(m_queryColumn);
+        settings.add(m_numberOfNeighbours);
+        settings.add(m_excludeQueryWord);
+        return settings;
+    }
+
+    public static SettingsModelString createQueryColumnSettings() {
+        return new SettingsModelString("query_column", "");
+    }
+
+    public static SettingsModelIntegerBounded createNumberOfNeighboursSettings() {
+        return new SettingsModelIntegerBounded("number_of_neighbours", 10, 1, Integer.MAX_VALUE);
+    }
+
+    public static SettingsModelBoolean createExcludeQueryWordSettings() {
+        return new SettingsModelBoolean("exclude_query_word", true);
+    }
+}
@@ -85,7 +85,13 @@ public enum WordVectorLearnerParameter {
         /** Negative sampling rate. */
         NEGATIVE_SAMPLING,
         /** Whether to skip rows containing missing cells. */
-        SKIP_MISSING_CELLS;
+        SKIP_MISSING_CELLS,
+        /** Number of threads used for training. */
+        WORKERS,
+        /** Whether to tokenize the input documents in parallel. */
+        USE_PARALLEL_TOKENIZATION,
+        /** Whether to tokenize the input documents only once and reuse the tokens in all epochs. */
+        CACHE_TOKENIZED_CORPUS;
 
     // Parameter default values
     public static final Double DEFAULT_MIN_LEARNING_RATE = 0.0001;
@@ -119,4 +125,10 @@ public enum WordVectorLearnerParameter {
     public static final boolean DEFAULT_USE_BASIC_PREPROCESSING = true;
 
     public static final boolean DEFAULT_USE_HIERARCHICAL_SOFTMAX = false;
+
+    public static final int DEFAULT_WORKERS = Runtime.getRuntime().availableProcessors();
+
+    public static final boolean DEFAULT_USE_PARALLEL_TOKENIZATION = false;
+
+    public static final boolean DEFAULT_CACHE_TOKENIZED_CORPUS = false;
 }
@@ -116,6 +116,15 @@ public SettingsModel createParameter(final WordVectorLearnerParameter enumerate)
             case USE_HIERARCHICAL_SOFTMAX:
                 return new SettingsModelBoolean("use_hierarchical_softmax",
                     WordVectorLearnerParameter.DEFAULT_USE_HIERARCHICAL_SOFTMAX);
+            case WORKERS:
+                return new SettingsModelIntegerBounded("workers", WordVectorLearnerParameter.DEFAULT_WORKERS, 1,
+                    Integer.MAX_VALUE);
+            case USE_PARALLEL_TOKENIZATION:
+                return new SettingsModelBoolean("use_parallel_tokenization",
+                    WordVectorLearnerParameter.DEFAULT_USE_PARALLEL_TOKENIZATION);
+            case CACHE_TOKENIZED_CORPUS:
+                return new SettingsModelBoolean("cache_tokenized_corpus",
+                    WordVectorLearnerParameter.DEFAULT_CACHE_TOKENIZED_CORPUS);
             default:
                 throw new IllegalStateException("WordVectorParameter does not exist: " + enumerate.toString());
         }
@@ -0,0 +1,217 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.textprocessing.dl4j.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.deeplearning4j.models.embeddings.inmemory.InMemoryLookupTable;
+import org.deeplearning4j.models.paragraphvectors.ParagraphVectors;
+import org.deeplearning4j.models.word2vec.VocabWord;
+import org.deeplearning4j.models.word2vec.Word2Vec;
+import org.deeplearning4j.models.word2vec.wordstore.VocabCache;
+import org.deeplearning4j.models.word2vec.wordstore.inmemory.AbstractCache;
+import org.knime.ext.dl4j.base.cache.SpillCodec;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.nd4j.linalg.indexing.NDArrayIndex;
+
+/**
+ * {@link SpillCodec} for {@link Word2Vec} models. The file contains a fixed size header (magic number, version, number
+ * of words, vector length), followed by the word vectors as little endian float32 matrix with one row per word, and
+ * the vocabulary (word and frequency per row of the matrix). On restore the matrix is mapped and copied in bulk into
+ * the off-heap buffer of a new syn0, hence restoring a model does not require to parse the original serialization
+ * format. The restored model is held in memory like the original one, it is not backed by the mapped file. Only the
+ * data needed to apply the model is kept (vocabulary and syn0), the restored model can't be trained further.
+ *
+ * @author agent
+ */
+public final class Word2VecSpillCodec implements SpillCodec {
+
+    private static final int MAGIC = 0x57325653;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+    /** The maximum number of bytes copied from or to the matrix at once. */
+    private static final int CHUNK_BYTES = 16 * 1024 * 1024;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canSpill(final Object value) {
+        //ParagraphVectors extend Word2Vec but contain labels and inference state which we can't restore
+        if (!(value instanceof Word2Vec) || value instanceof ParagraphVectors) {
+            return false;
+        }
+        final Word2Vec w2v = (Word2Vec)value;
+        return w2v.vocab() != null && w2v.lookupTable() instanceof InMemoryLookupTable
+            && ((InMemoryLookupTable<?>)w2v.lookupTable()).getSyn0() != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final Object value, final FileChannel channel) throws IOException {
+        final Word2Vec w2v = (Word2Vec)value;
+        final VocabCache<?> vocab = w2v.vocab();
+        final INDArray syn0 = ((InMemoryLookupTable<?>)w2v.lookupTable()).getSyn0();
+        final int numWords = vocab.numWords();
+        final int layerSize = syn0.columns();
+
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(numWords).putInt(layerSize);
+        header.flip();
+        writeFully(channel, header);
+
+        final int rowsPerChunk = rowsPerChunk(layerSize);
+        for (int start = 0; start < numWords; start += rowsPerChunk) {
+            final int end = Math.min(numWords, start + rowsPerChunk);
+            final float[] rows =
+                syn0.get(NDArrayIndex.interval(start, end), NDArrayIndex.all()).dup('c').data().asFloat();
+            final ByteBuffer buffer = ByteBuffer.allocate(rows.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.asFloatBuffer().put(rows);
+            writeFully(channel, buffer);
+        }
+
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+        for (int i = 0; i < numWords; i++) {
+            final String word = vocab.wordAtIndex(i);
+            out.writeUTF(word);
+            out.writeInt(vocab.wordFrequency(word));
+        }
+        out.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object read(final FileChannel channel) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        channel.position(0);
+        while (header.hasRemaining()) {
+            if (channel.read(header) < 0) {
+                throw new IOException("Unexpected end of spill file.");
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IOException("Unknown spill file format.");
+        }
+        final int numWords = header.getInt();
+        final int layerSize = header.getInt();
+        final long rowBytes = (long)layerSize * Float.BYTES;
+
+        //copy the mapped rows straight into the off-heap buffer of syn0, which is row major
+        final INDArray syn0 = Nd4j.create(new int[]{numWords, layerSize}, 'c');
+        final ByteBuffer target = syn0.data().asNio().order(ByteOrder.nativeOrder());
+        final boolean isDouble = syn0.data().dataType() == DataBuffer.Type.DOUBLE;
+        final FloatBuffer floatTarget = isDouble ? null : target.asFloatBuffer();
+        final DoubleBuffer doubleTarget = isDouble ? target.asDoubleBuffer() : null;
+        final int rowsPerChunk = rowsPerChunk(layerSize);
+        for (int start = 0; start < numWords; start += rowsPerChunk) {
+            final int end = Math.min(numWords, start + rowsPerChunk);
+            final FloatBuffer rows = channel.map(MapMode.READ_ONLY, HEADER_BYTES + start * rowBytes,
+                (end - start) * rowBytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+            if (isDouble) {
+                while (rows.hasRemaining()) {
+                    doubleTarget.put(rows.get());
+                }
+            } else {
+                floatTarget.put(rows);
+            }
+        }
+
+        final AbstractCache<VocabWord> vocab = new AbstractCache.Builder<VocabWord>().build();
+        channel.position(HEADER_BYTES + numWords * rowBytes);
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        for (int i = 0; i < numWords; i++) {
+            final String word = in.readUTF();
+            final VocabWord vocabWord = new VocabWord(in.readInt(), word);
+            vocabWord.setIndex(i);
+            vocab.addToken(vocabWord);
+            vocab.addWordToIndex(i, word);
+            vocab.putVocabWord(word);
+        }
+
+        final InMemoryLookupTable<VocabWord> lookupTable = (InMemoryLookupTable<VocabWord>)new InMemoryLookupTable
+            .Builder<VocabWord>().vectorLength(layerSize).useAdaGrad(false).cache(vocab).build();
+        lookupTable.setSyn0(syn0);
+
+        final Word2Vec w2v = new Word2Vec();
+        w2v.setLookupTable(lookupTable);
+        w2v.setVocab(vocab);
+        return w2v;
+    }
+
+    private static int rowsPerChunk(final int layerSize) {
+        return Math.max(1, CHUNK_BYTES / Math.max(1, layerSize * Float.BYTES));
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
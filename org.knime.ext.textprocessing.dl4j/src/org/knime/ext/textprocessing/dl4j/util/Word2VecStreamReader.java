@@ -0,0 +1,694 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (agent): created
+ */
+package org.knime.ext.textprocessing.dl4j.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.deeplearning4j.models.embeddings.inmemory.InMemoryLookupTable;
+import org.deeplearning4j.models.embeddings.loader.VectorsConfiguration;
+import org.deeplearning4j.models.word2vec.VocabWord;
+import org.deeplearning4j.models.word2vec.Word2Vec;
+import org.deeplearning4j.models.word2vec.wordstore.inmemory.AbstractCache;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+import org.knime.ext.dl4j.base.util.ParallelUtils;
+import org.knime.ext.textprocessing.dl4j.data.MappedWordVectorStore;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+
+/**
+ * Reads {@link Word2Vec} models directly from streams, hence the models do not need to be copied to a temporary file
+ * first like it is required by the DL4J WordVectorSerializer. Supports the zipped format written by
+ * WordVectorSerializer#writeWord2VecModel() as well as the Google text and binary formats, optionally gzipped. The
+ * vectors of text formats can be parsed in parallel, in this case the lines are read sequentially and parsed in blocks
+ * by a sub pool of the KNIME thread pool.
+ *
+ * @author agent
+ */
+public final class Word2VecStreamReader {
+
+    /** The number of lines parsed by one task. */
+    private static final int BLOCK_SIZE = 4096;
+
+    /** The maximum number of bytes read ahead to detect the format of a model. */
+    private static final int DETECTION_LIMIT = 1 << 20;
+
+    private static final String B64_PREFIX = "B64:";
+
+    private Word2VecStreamReader() {
+        // Utility class
+    }
+
+    /**
+     * Checks if the specified stream starts with a zip local file header. Marks and resets the stream.
+     *
+     * @param in the stream to check
+     * @return true if the stream contains a zip file
+     * @throws IOException
+     */
+    public static boolean isZipped(final BufferedInputStream in) throws IOException {
+        in.mark(4);
+        final byte[] magic = new byte[4];
+        final int read = IOUtils.read(in, magic);
+        in.reset();
+        return read == 4 && magic[0] == 'P' && magic[1] == 'K' && magic[2] == 3 && magic[3] == 4;
+    }
+
+    /**
+     * Reads a {@link Word2Vec} model in the zipped format written by WordVectorSerializer#writeWord2VecModel() from the
+     * specified stream. The stream is read until the end of the zip file but not closed.
+     *
+     * @param in the stream to read from
+     * @param parallel whether to parse the vectors in parallel
+     * @return the read model
+     * @throws IOException if the stream could not be read or does not contain a valid model
+     */
+    public static Word2Vec readWord2VecModel(final InputStream in, final boolean parallel) throws IOException {
+        final ZipInputStream zip = new ZipInputStream(in);
+        AbstractCache<VocabWord> vocab = null;
+        INDArray syn0 = null;
+        INDArray syn1 = null;
+        INDArray syn1Neg = null;
+        VectorsConfiguration configuration = null;
+        int layerSize = 0;
+
+        //the streams of the entries must not be closed as this would close the zip stream
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            switch (entry.getName()) {
+                case "syn0.txt":
+                    final BufferedReader reader = newReader(zip);
+                    final long[] header = parseHeader(reader.readLine());
+                    if (header == null) {
+                        throw new IOException("Invalid header of word vectors!");
+                    }
+                    layerSize = (int)header[1];
+                    final VectorParser parser = new VectorParser(layerSize, (int)header[0], true, parallel);
+                    parser.parseLines(reader);
+                    vocab = createVocabCache(parser.getWords(), header.length > 2 ? header[2] : 0);
+                    syn0 = parser.toMatrix();
+                    break;
+                case "syn1.txt":
+                    syn1 = readWeights(zip, vocab, layerSize, parallel);
+                    break;
+                case "syn1Neg.txt":
+                    syn1Neg = readWeights(zip, vocab, layerSize, parallel);
+                    break;
+                case "codes.txt":
+                    forEachWordLine(zip, vocab, (word, split) -> {
+                        final List<Byte> codes = new ArrayList<>(split.length - 1);
+                        for (int i = 1; i < split.length; i++) {
+                            codes.add(Byte.parseByte(split[i]));
+                        }
+                        word.setCodes(codes);
+                        word.setCodeLength((short)codes.size());
+                    });
+                    break;
+                case "huffman.txt":
+                    forEachWordLine(zip, vocab, (word, split) -> {
+                        final List<Integer> points = new ArrayList<>(split.length - 1);
+                        for (int i = 1; i < split.length; i++) {
+                            points.add(Integer.parseInt(split[i]));
+                        }
+                        word.setPoints(points);
+                    });
+                    break;
+                case "frequencies.txt":
+                    forEachWordLine(zip, vocab, (word, split) -> {
+                        if (split.length > 2) {
+                            word.setElementFrequency((long)Double.parseDouble(split[1]));
+                            word.setSequencesCount((long)Double.parseDouble(split[2]));
+                        }
+                    });
+                    break;
+                case "config.json":
+                    configuration = VectorsConfiguration.fromJson(IOUtils.toString(zip, StandardCharsets.UTF_8));
+                    break;
+                default:
+                    //unknown entries are skipped
+            }
+        }
+        if (syn0 == null) {
+            throw new IOException("Word vectors entry not found. Stream seems not to contain a Word2Vec model!");
+        }
+        return createWord2Vec(vocab, syn0, syn1, syn1Neg, layerSize,
+            configuration != null ? configuration : new VectorsConfiguration());
+    }
+
+    /**
+     * Writes the words and vectors of a model in the zipped format written by
+     * WordVectorSerializer#writeWord2VecModel() or WordVectorSerializer#writeParagraphVectors() to a
+     * {@link MappedWordVectorStore} while reading, hence the model is never loaded into memory. The stream is read
+     * until the word vectors entry has been consumed but not closed.
+     *
+     * @param in the stream to read from
+     * @param file the file to write the store to, will be overwritten
+     * @return true if the store was written, false if the stream does not contain a zipped model, in this case the
+     *         stream is partially consumed
+     * @throws IOException if the stream could not be read, the model is malformed or the store could not be written
+     */
+    public static boolean writeWordVectorStore(final InputStream in, final File file) throws IOException {
+        final BufferedInputStream buffered = new BufferedInputStream(in);
+        if (!isZipped(buffered)) {
+            return false;
+        }
+        final ZipInputStream zip = new ZipInputStream(buffered);
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            if (entry.getName().equals("syn0.txt")) {
+                final BufferedReader reader = newReader(zip);
+                final long[] header = parseHeader(reader.readLine());
+                if (header == null) {
+                    throw new IOException("Invalid header of word vectors!");
+                }
+                final int layerSize = (int)header[1];
+                final float[] vector = new float[layerSize];
+                int row = 0;
+                try (MappedWordVectorStore.Writer writer = MappedWordVectorStore.newWriter(file, layerSize)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.isEmpty()) {
+                            continue;
+                        }
+                        try {
+                            final int end = wordEnd(line, row);
+                            parseValues(line, end, layerSize, row, vector, 0);
+                            writer.add(decodeWord(line.substring(0, end)), vector);
+                        } catch (IllegalArgumentException e) {
+                            throw new IOException(e.getMessage(), e);
+                        }
+                        row++;
+                    }
+                }
+                if (row != header[0]) {
+                    throw new IOException("Expected " + header[0] + " word vectors but found " + row + "!");
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads a {@link Word2Vec} model in an external format from the specified stream. Supported are the zipped DL4J
+     * format as well as the Google text and binary formats, each optionally gzipped. The stream is not closed.
+     *
+     * @param in the stream to read from
+     * @param parallel whether to parse the vectors of text formats in parallel
+     * @return the read model, or null if the format of the model could not be detected, in this case the stream is
+     *         partially consumed
+     * @throws IOException if the stream could not be read or the model is malformed
+     */
+    public static Word2Vec readExternalModel(final InputStream in, final boolean parallel) throws IOException {
+        final BufferedInputStream buffered = new BufferedInputStream(in);
+        buffered.mark(2);
+        final int b1 = buffered.read();
+        final int b2 = buffered.read();
+        buffered.reset();
+        if (b1 == 0x1f && b2 == 0x8b) {
+            return readExternalModel(new GZIPInputStream(buffered), parallel);
+        }
+        if (isZipped(buffered)) {
+            return readWord2VecModel(buffered, parallel);
+        }
+
+        buffered.mark(DETECTION_LIMIT);
+        final String firstLine = readDetectionLine(buffered);
+        if (firstLine == null) {
+            return null;
+        }
+        final long[] header = parseHeader(firstLine);
+        if (header == null) {
+            //text format without header, the first line already contains a vector
+            final int layerSize = firstLine.trim().split(" ").length - 1;
+            if (!isVectorLine(firstLine, layerSize)) {
+                return null;
+            }
+            buffered.reset();
+            return readText(newReader(buffered), -1, layerSize, parallel);
+        }
+
+        final int numWords = (int)header[0];
+        final int layerSize = (int)header[1];
+        buffered.mark(DETECTION_LIMIT);
+        final String secondLine = readDetectionLine(buffered);
+        buffered.reset();
+        if (secondLine != null && isVectorLine(secondLine, layerSize)) {
+            return readText(newReader(buffered), numWords, layerSize, parallel);
+        }
+        return readBinary(buffered, numWords, layerSize);
+    }
+
+    private static Word2Vec readText(final BufferedReader reader, final int numWords, final int layerSize,
+        final boolean parallel) throws IOException {
+        final VectorParser parser = new VectorParser(layerSize, numWords, true, parallel);
+        parser.parseLines(reader);
+        final INDArray syn0 = parser.toMatrix();
+        if (syn0 == null) {
+            throw new IOException("The model does not contain any word vectors!");
+        }
+        return createWord2Vec(createVocabCache(parser.getWords(), 0), syn0, null, null, layerSize,
+            new VectorsConfiguration());
+    }
+
+    /**
+     * Reads the Google binary format, each word is followed by a space and the little endian float values of its
+     * vector. The header has already been read.
+     */
+    private static Word2Vec readBinary(final InputStream in, final int numWords, final int layerSize)
+        throws IOException {
+        final float[] data = new float[checkedSize(numWords, layerSize)];
+        final String[] words = new String[numWords];
+        final byte[] buffer = new byte[layerSize * Float.BYTES];
+        final ByteBuffer floats = ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN);
+        final ByteArrayOutputStream word = new ByteArrayOutputStream();
+
+        for (int i = 0; i < numWords; i++) {
+            word.reset();
+            int b;
+            while ((b = in.read()) != -1 && b != ' ') {
+                //vectors may be terminated by a line break
+                if (b != '\n') {
+                    word.write(b);
+                }
+            }
+            if (b == -1) {
+                throw new EOFException("Expected " + numWords + " word vectors but found only " + i + "!");
+            }
+            words[i] = new String(word.toByteArray(), StandardCharsets.UTF_8);
+            IOUtils.readFully(in, buffer);
+            floats.rewind();
+            floats.asFloatBuffer().get(data, i * layerSize, layerSize);
+        }
+        return createWord2Vec(createVocabCache(words, 0), Nd4j.create(data, new int[]{numWords, layerSize}), null,
+            null, layerSize, new VectorsConfiguration());
+    }
+
+    private static INDArray readWeights(final InputStream in, final AbstractCache<VocabWord> vocab,
+        final int layerSize, final boolean parallel) throws IOException {
+        checkVocab(vocab);
+        final VectorParser parser = new VectorParser(layerSize, -1, false, parallel);
+        parser.parseLines(newReader(in));
+        return parser.toMatrix();
+    }
+
+    private static void forEachWordLine(final InputStream in, final AbstractCache<VocabWord> vocab,
+        final BiConsumer<VocabWord, String[]> consumer) throws IOException {
+        checkVocab(vocab);
+        final BufferedReader reader = newReader(in);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final String[] split = line.trim().split(" ");
+            final VocabWord word = vocab.tokenFor(decodeWord(split[0]));
+            if (word != null) {
+                consumer.accept(word, split);
+            }
+        }
+    }
+
+    private static void checkVocab(final AbstractCache<VocabWord> vocab) throws IOException {
+        if (vocab == null) {
+            throw new IOException("Malformed model, the word vectors must be stored before the other tables!");
+        }
+    }
+
+    private static AbstractCache<VocabWord> createVocabCache(final String[] words, final long numDocs) {
+        final AbstractCache<VocabWord> vocab = new AbstractCache.Builder<VocabWord>().build();
+        for (int i = 0; i < words.length; i++) {
+            final VocabWord word = new VocabWord(1.0, words[i]);
+            word.setIndex(i);
+            vocab.addToken(word);
+            vocab.addWordToIndex(i, words[i]);
+            vocab.putVocabWord(words[i]);
+        }
+        vocab.incrementTotalDocCount(numDocs);
+        return vocab;
+    }
+
+    private static Word2Vec createWord2Vec(final AbstractCache<VocabWord> vocab, final INDArray syn0,
+        final INDArray syn1, final INDArray syn1Neg, final int layerSize, final VectorsConfiguration configuration) {
+        final InMemoryLookupTable<VocabWord> lookupTable = new InMemoryLookupTable.Builder<VocabWord>()
+            .vectorLength(layerSize).useAdaGrad(false).cache(vocab)
+            .useHierarchicSoftmax(configuration.isUseHierarchicSoftmax()).negative(configuration.getNegative())
+            .build();
+        lookupTable.setSyn0(syn0);
+        if (syn1 != null) {
+            lookupTable.setSyn1(syn1);
+        }
+        if (syn1Neg != null) {
+            lookupTable.setSyn1Neg(syn1Neg);
+        }
+        return new Word2Vec.Builder(configuration).layerSize(layerSize).vocabCache(vocab).lookupTable(lookupTable)
+            .resetModel(false).build();
+    }
+
+    /**
+     * Parses a header line consisting of the number of words, the layer size and optionally the number of documents.
+     *
+     * @return the values of the header, or null if the line is no header
+     */
+    private static long[] parseHeader(final String line) {
+        if (line == null) {
+            return null;
+        }
+        final String[] split = line.trim().split(" ");
+        if (split.length < 2 || split.length > 3) {
+            return null;
+        }
+        final long[] header = new long[split.length];
+        try {
+            for (int i = 0; i < split.length; i++) {
+                header[i] = Long.parseLong(split[i]);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (header[0] < 0 || header[1] <= 0 || header[0] > Integer.MAX_VALUE || header[1] > Integer.MAX_VALUE) {
+            return null;
+        }
+        return header;
+    }
+
+    private static boolean isVectorLine(final String line, final int layerSize) {
+        final String[] split = line.trim().split(" ");
+        if (layerSize <= 0 || split.length != layerSize + 1) {
+            return false;
+        }
+        try {
+            for (int i = 1; i < split.length; i++) {
+                Float.parseFloat(split[i]);
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Reads a line of at most {@link #DETECTION_LIMIT} bytes.
+     *
+     * @return the line, or null if the stream is at its end or the line is too long
+     */
+    private static String readDetectionLine(final InputStream in) throws IOException {
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            if (line.size() == DETECTION_LIMIT - 1) {
+                return null;
+            }
+            line.write(b);
+        }
+        if (b == -1 && line.size() == 0) {
+            return null;
+        }
+        return new String(line.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static BufferedReader newReader(final InputStream in) {
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    private static String decodeWord(final String word) {
+        if (word.startsWith(B64_PREFIX)) {
+            return new String(Base64.getDecoder().decode(word.substring(B64_PREFIX.length())),
+                StandardCharsets.UTF_8);
+        }
+        return word;
+    }
+
+    private static int checkedSize(final long rows, final int layerSize) throws IOException {
+        final long size = rows * layerSize;
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IOException("The model is too large to be loaded, it contains " + rows + " vectors of size "
+                + layerSize + "!");
+        }
+        return (int)size;
+    }
+
+    /**
+     * @return the index of the space terminating the word at the start of the specified line
+     * @throws IllegalArgumentException if the line does not start with a word
+     */
+    private static int wordEnd(final String line, final int row) {
+        final int end = line.indexOf(' ');
+        if (end < 0) {
+            throw new IllegalArgumentException("Malformed word vector in row " + row + "!");
+        }
+        return end;
+    }
+
+    /**
+     * Parses the space separated values of a row starting at the specified position of the line into the specified
+     * array.
+     *
+     * @throws IllegalArgumentException if the line contains less values than the layer size or invalid values
+     */
+    private static void parseValues(final String line, final int start, final int layerSize, final int row,
+        final float[] dest, final int offset) {
+        final int length = line.length();
+        int pos = start;
+        for (int i = 0; i < layerSize; i++) {
+            while (pos < length && line.charAt(pos) == ' ') {
+                pos++;
+            }
+            int end = line.indexOf(' ', pos);
+            if (end < 0) {
+                end = length;
+            }
+            if (pos == end) {
+                throw new IllegalArgumentException(
+                    "Expected " + layerSize + " values in row " + row + " but found only " + i + "!");
+            }
+            dest[offset + i] = Float.parseFloat(line.substring(pos, end));
+            pos = end;
+        }
+    }
+
+    /**
+     * Parses lines of the form "word v_1 ... v_n", or "v_1 ... v_n" if the rows have no words, to a row major array.
+     * The lines are collected in blocks which are parsed by a sub pool of {@link KNIMEConstants#GLOBAL_THREAD_POOL} if
+     * parsing is parallel, see {@link ParallelUtils}. The number of pending blocks is bounded, hence the lines read
+     * ahead do not exceed a few blocks per thread.
+     */
+    private static final class VectorParser {
+
+        private final int m_layerSize;
+
+        private final boolean m_hasWords;
+
+        private final ThreadPool m_pool;
+
+        private final int m_maxPending;
+
+        private final Deque<Future<?>> m_pending = new ArrayDeque<>();
+
+        private float[] m_data;
+
+        private String[] m_words;
+
+        private final int m_expectedRows;
+
+        private int m_rows;
+
+        private List<String> m_block = new ArrayList<>(BLOCK_SIZE);
+
+        /**
+         * @param layerSize the number of values of each row
+         * @param expectedRows the number of rows to expect, or a negative value if unknown
+         * @param hasWords whether each line starts with a word
+         * @param parallel whether to parse the blocks in parallel
+         */
+        VectorParser(final int layerSize, final int expectedRows, final boolean hasWords, final boolean parallel)
+            throws IOException {
+            m_layerSize = layerSize;
+            m_hasWords = hasWords;
+            m_pool = parallel ? KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool() : null;
+            m_maxPending = parallel ? 2 * Math.max(m_pool.getMaxThreads(), 1) : 0;
+            m_expectedRows = expectedRows;
+            final int capacity = expectedRows >= 0 ? expectedRows : BLOCK_SIZE;
+            m_data = new float[checkedSize(capacity, layerSize)];
+            m_words = hasWords ? new String[capacity] : null;
+        }
+
+        void parseLines(final BufferedReader reader) throws IOException {
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    m_block.add(line);
+                    if (m_block.size() == BLOCK_SIZE) {
+                        submitBlock();
+                    }
+                }
+                submitBlock();
+                awaitPending(0);
+            } finally {
+                //only left if parsing failed
+                for (final Future<?> future : m_pending) {
+                    future.cancel(true);
+                }
+                m_pending.clear();
+            }
+            if (m_expectedRows >= 0 && m_rows != m_expectedRows) {
+                throw new IOException("Expected " + m_expectedRows + " word vectors but found " + m_rows + "!");
+            }
+        }
+
+        String[] getWords() {
+            return m_words.length == m_rows ? m_words : Arrays.copyOf(m_words, m_rows);
+        }
+
+        /**
+         * @return the parsed rows, or null if there are no rows
+         */
+        INDArray toMatrix() {
+            if (m_rows == 0) {
+                return null;
+            }
+            final float[] data =
+                m_data.length == m_rows * m_layerSize ? m_data : Arrays.copyOf(m_data, m_rows * m_layerSize);
+            return Nd4j.create(data, new int[]{m_rows, m_layerSize});
+        }
+
+        private void submitBlock() throws IOException {
+            if (m_block.isEmpty()) {
+                return;
+            }
+            if (m_expectedRows >= 0 && m_rows + m_block.size() > m_expectedRows) {
+                throw new IOException("Expected " + m_expectedRows + " word vectors but found more!");
+            }
+            ensureCapacity(m_rows + m_block.size());
+
+            final List<String> lines = m_block;
+            final int firstRow = m_rows;
+            final float[] data = m_data;
+            final String[] words = m_words;
+            m_block = new ArrayList<>(BLOCK_SIZE);
+            m_rows += lines.size();
+
+            final Runnable task = () -> {
+                for (int i = 0; i < lines.size(); i++) {
+                    parseLine(lines.get(i), firstRow + i, data, words);
+                }
+            };
+            if (m_pool != null) {
+                m_pending.add(m_pool.enqueue(task));
+                awaitPending(m_maxPending);
+            } else {
+                try {
+                    task.run();
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
+        }
+
+        private void ensureCapacity(final int rows) throws IOException {
+            if (rows * (long)m_layerSize <= m_data.length) {
+                return;
+            }
+            //pending tasks write to the current arrays
+            awaitPending(0);
+            //don't grow beyond the maximum array size, only fail if the rows themselves don't fit
+            final int maxRows = (Integer.MAX_VALUE - 8) / m_layerSize;
+            final int capacity = Math.max(rows, (int)Math.min(2L * m_data.length / m_layerSize, maxRows));
+            m_data = Arrays.copyOf(m_data, checkedSize(capacity, m_layerSize));
+            if (m_hasWords) {
+                m_words = Arrays.copyOf(m_words, capacity);
+            }
+        }
+
+        private void awaitPending(final int maxPending) throws IOException {
+            while (m_pending.size() > maxPending) {
+                try {
+                    ParallelUtils.await(m_pool, m_pending.poll());
+                } catch (ExecutionException e) {
+                    throw new IOException(e.getCause().getMessage(), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while parsing word vectors.", e);
+                }
+            }
+        }
+
+        private void parseLine(final String line, final int row, final float[] data, final String[] words) {
+            int pos = 0;
+            if (words != null) {
+                pos = wordEnd(line, row);
+                words[row] = decodeWord(line.substring(0, pos));
+            }
+            parseValues(line, pos, m_layerSize, row, data, row * m_layerSize);
+        }
+    }
+}
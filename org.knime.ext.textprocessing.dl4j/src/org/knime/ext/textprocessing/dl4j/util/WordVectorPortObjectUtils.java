@@ -42,6 +42,7 @@
  *******************************************************************************/
 package org.knime.ext.textprocessing.dl4j.util;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -147,12 +148,16 @@ public static WordVectors loadWordVectors(final ZipInputStream in, final WordVec
                     case DOC2VEC:
                         return WordVectorSerializer.readParagraphVectors(in);
                     case WORD2VEC:
-                        /* Need to copy stream to temp file because API does not support Word2VecModel reading
-                         * with InputStreams. */
+                        final BufferedInputStream buffered = new BufferedInputStream(in);
+                        if (Word2VecStreamReader.isZipped(buffered)) {
+                            return Word2VecStreamReader.readWord2VecModel(buffered, true);
+                        }
+                        /* Models in other formats are read by the DL4J API, which does not support Word2VecModel
+                         * reading with InputStreams, hence the stream needs to be copied to a temp file. */
                         Word2Vec model = null;
                         File tmp = null;
                         try {
-                            tmp = copyInputStreamToTmpFile(in);
+                            tmp = copyInputStreamToTmpFile(buffered);
                             model = WordVectorSerializer.readWord2VecModel(tmp);
                         } finally {
                             if (tmp != null && tmp.exists()) {
@@ -212,6 +217,15 @@ public static WordVectors loadWordVectors(final URL url, final WordVectorTrainin
                 return WordVectorSerializer.readParagraphVectors(url.openStream());
             case WORD2VEC:
                 boolean isLocalFile = FileUtil.resolveToPath(url) != null;
+                if (!isLocalFile) {
+                    // parse remote files directly from the stream if the format is supported
+                    try (InputStream in = url.openStream()) {
+                        final Word2Vec model = Word2VecStreamReader.readExternalModel(in, true);
+                        if (model != null) {
+                            return model;
+                        }
+                    }
+                }
                 File wvFile = null;
                 try {
                     wvFile = isLocalFile ? FileUtil.getFileFromURL(url) : copyURLToTmpFile(url);
@@ -315,7 +329,8 @@ public static void writeWordVectorTrainingsMode(final WordVectorTrainingMode mod
     }
 
     /**
-     * Serializes the specified port object to the specified stream including port object spec.
+     * Serializes the specified port object to the specified stream including port object spec. The model is copied in
+     * its serialized form from the file store of the port object, hence it is not deserialized.
      *
      * @param port
      * @param out
@@ -325,7 +340,7 @@ public static void writeFileStorePortObject(final WordVectorFileStorePortObject
         throws IOException {
         WordVectorPortObjectSpec spec = port.getSpec();
         saveSpecOnly(spec, out);
-        writeWordVectors(port.getWordVectors(), out);
+        port.writeSerializedWordVectors(out);
     }
 
     /**